@@ -1,6 +1,7 @@
 package com.synergyhub.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -17,10 +18,24 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    public static final String RESOLVED_USERS_CACHE = "resolvedUsers";
+
+    @Value("${app.cache.resolved-users.max-size:10000}")
+    private long resolvedUsersMaxSize;
+
+    @Value("${app.cache.resolved-users.ttl-minutes:10}")
+    private long resolvedUsersTtlMinutes;
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager("sessionRevocation");
         cacheManager.setCaffeine(caffeineCacheBuilder());
+        // Invalidated explicitly by domain events; the TTL only bounds staleness for changes without one
+        cacheManager.registerCustomCache(RESOLVED_USERS_CACHE, Caffeine.newBuilder()
+                .maximumSize(resolvedUsersMaxSize)
+                .expireAfterWrite(resolvedUsersTtlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build());
         return cacheManager;
     }
 
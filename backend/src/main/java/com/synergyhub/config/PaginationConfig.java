@@ -39,4 +39,11 @@ public class PaginationConfig {
      */
     @Min(0)
     private int defaultPage = 0;
+
+    /**
+     * Rows fetched per query while list endpoints that predate cursor pagination read every page
+     */
+    @Min(1)
+    @Max(10000)
+    private int legacyListBatchSize = 500;
 }
@@ -81,10 +81,10 @@ public class ScheduledTasksConfig {
     @Scheduled(cron = "0 0 */6 * * *")
     @Transactional
     public void cleanupExpiredSessions() {
-        log.info("Running scheduled task: cleanup expired and revoked sessions");
+        log.info("Running scheduled task: cleanup expired sessions");
         LocalDateTime now = LocalDateTime.now();
         // Sessions might be global or tenant scoped, but usually session cleanup is user-centric. 
         // Leaving as is unless specifically asked, as SessionService snippet didn't suggest context.
-        userSessionRepository.cleanupExpiredAndRevokedSessions(now);
+        userSessionRepository.deleteExpiredSessions(now);
     }
 }
\ No newline at end of file
@@ -4,10 +4,14 @@ import com.synergyhub.security.CustomUserDetailsService;
 import com.synergyhub.security.JwtAuthenticationEntryPoint;
 import com.synergyhub.security.JwtAuthenticationFilter;
 import com.synergyhub.security.JwtTokenProvider;
-import com.synergyhub.service.auth.SessionService;
+import com.synergyhub.security.ResolvedUserCache;
+import com.synergyhub.security.BoundedPasswordEncoder;
+import com.synergyhub.security.SessionActivityTracker;
+import com.synergyhub.security.SessionRevocationIndex;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,7 +37,9 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final SessionService sessionService;
+    private final SessionRevocationIndex sessionRevocationIndex;
+    private final SessionActivityTracker sessionActivityTracker;
+    private final ResolvedUserCache resolvedUserCache;
     private final CorsConfigurationSource corsConfigurationSource;
     
     // OAuth2 dependencies - optional (may be null if OAuth2 is not configured)
@@ -46,7 +52,9 @@ public class SecurityConfig {
     public SecurityConfig(
             CustomUserDetailsService customUserDetailsService,
             JwtTokenProvider jwtTokenProvider,
-            SessionService sessionService,
+            SessionRevocationIndex sessionRevocationIndex,
+            SessionActivityTracker sessionActivityTracker,
+            ResolvedUserCache resolvedUserCache,
             CorsConfigurationSource corsConfigurationSource,
             @Autowired(required = false) com.synergyhub.security.oauth2.CustomOAuth2UserService customOAuth2UserService,
             @Autowired(required = false) com.synergyhub.security.oauth2.OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
@@ -54,7 +62,9 @@ public class SecurityConfig {
             @Autowired(required = false) ClientRegistrationRepository clientRegistrationRepository) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.sessionService = sessionService;
+        this.sessionRevocationIndex = sessionRevocationIndex;
+        this.sessionActivityTracker = sessionActivityTracker;
+        this.resolvedUserCache = resolvedUserCache;
         this.corsConfigurationSource = corsConfigurationSource;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
@@ -62,21 +72,29 @@ public class SecurityConfig {
         this.clientRegistrationRepository = clientRegistrationRepository;
     }
 
+    /**
+     * BCrypt(12) runs on its own bounded pool so hashing floods cannot exhaust request threads.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.security.password-hashing.max-wait-ms:2000}") long maxWaitMs) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), poolSize, queueCapacity, maxWaitMs);
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, sessionService, customUserDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, sessionRevocationIndex, sessionActivityTracker,
+                customUserDetailsService, resolvedUserCache);
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -86,7 +104,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider)
+            throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -138,7 +157,7 @@ public class SecurityConfig {
                 .maxAgeInSeconds(31536000))
         );
 
-        http.authenticationProvider(authenticationProvider());
+        http.authenticationProvider(authenticationProvider);
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
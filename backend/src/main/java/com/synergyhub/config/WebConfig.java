@@ -1,6 +1,7 @@
 package com.synergyhub.config;
 
 import com.synergyhub.security.OrganizationContextInterceptor;
+import com.synergyhub.security.RateLimitInterceptor;
 import com.synergyhub.security.UserContextArgumentResolver;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -13,12 +14,15 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
     private final UserContextArgumentResolver userContextArgumentResolver;
     private final OrganizationContextInterceptor organizationContextInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     public WebConfig(
             UserContextArgumentResolver userContextArgumentResolver,
-            OrganizationContextInterceptor organizationContextInterceptor) {
+            OrganizationContextInterceptor organizationContextInterceptor,
+            RateLimitInterceptor rateLimitInterceptor) {
         this.userContextArgumentResolver = userContextArgumentResolver;
         this.organizationContextInterceptor = organizationContextInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
     }
 
     @Override
@@ -28,6 +32,9 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // Only acts on handler methods annotated with @RateLimited
+        registry.addInterceptor(rateLimitInterceptor);
+
         // Add organization context interceptor for all authenticated requests
         // Exclude public endpoints that don't need organization context
         registry.addInterceptor(organizationContextInterceptor)
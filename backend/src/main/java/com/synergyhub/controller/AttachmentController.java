@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import com.synergyhub.security.RateLimited;
 import com.synergyhub.security.UserPrincipal;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -28,6 +29,7 @@ public class AttachmentController {
      */
     @PostMapping
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #principal.user)")
+    @RateLimited(key = "upload", permits = 30, window = "1m", scope = RateLimited.Scope.USER)
     public ResponseEntity<AttachmentResponse> uploadAttachment(
             @PathVariable Long taskId,
             @RequestParam("file") MultipartFile file,
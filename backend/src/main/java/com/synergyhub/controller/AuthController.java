@@ -3,6 +3,7 @@ package com.synergyhub.controller;
 import com.synergyhub.dto.request.*;
 import com.synergyhub.dto.response.*;
 import com.synergyhub.security.JwtTokenProvider;
+import com.synergyhub.security.RateLimited;
 import com.synergyhub.security.UserPrincipal;
 import com.synergyhub.service.auth.*;
 import com.synergyhub.util.ClientIpResolver;
@@ -39,6 +40,7 @@ public class AuthController {
     // ===================================================================================
 
     @PostMapping("/login")
+    @RateLimited(key = "login", permits = 20, window = "1m")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest) {
@@ -51,6 +53,7 @@ public class AuthController {
     }
 
     @PostMapping("/register")
+    @RateLimited(key = "register", permits = 5, window = "1h")
     public ResponseEntity<ApiResponse<UserResponse>> register(
             @Valid @RequestBody RegisterRequest request,
             HttpServletRequest httpRequest) {
@@ -105,6 +108,7 @@ public class AuthController {
     }
 
     @PostMapping("/forgot-password")
+    @RateLimited(key = "forgot-password", permits = 5, window = "15m")
     public ResponseEntity<ApiResponse<Void>> requestPasswordReset(
             @Valid @RequestBody PasswordResetRequest request,
             HttpServletRequest httpRequest) {
@@ -4,9 +4,10 @@ import com.synergyhub.domain.entity.User;
 import com.synergyhub.dto.request.CreateChatMessageRequest;
 import com.synergyhub.dto.response.ApiResponse;
 import com.synergyhub.dto.response.ChatMessageResponse;
+import com.synergyhub.security.ResolvedUserCache;
+import com.synergyhub.security.RateLimited;
 import com.synergyhub.security.UserPrincipal;
 import com.synergyhub.service.ChatService;
-import com.synergyhub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,16 +24,16 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
-    private final UserRepository userRepository;
+    private final ResolvedUserCache resolvedUserCache;
     private final SimpMessagingTemplate messagingTemplate;
 
     @PostMapping("/messages")
+    @RateLimited(key = "chat-send", permits = 60, window = "1m", scope = RateLimited.Scope.USER)
     public ResponseEntity<ApiResponse<ChatMessageResponse>> sendMessage(
             @RequestBody CreateChatMessageRequest request,
             @AuthenticationPrincipal UserPrincipal principal) {
         
-        User user = userRepository.findById(principal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = resolvedUserCache.getUser(principal);
         
         ChatMessageResponse message = chatService.sendMessage(request, user);
         
@@ -58,8 +59,7 @@ public class ChatController {
             @RequestBody com.synergyhub.dto.request.UpdateChatMessageRequest request,
             @AuthenticationPrincipal UserPrincipal principal) {
         
-        User user = userRepository.findById(principal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = resolvedUserCache.getUser(principal);
         
         ChatMessageResponse message = chatService.editMessage(messageId, request.getContent(), user);
         
@@ -75,8 +75,7 @@ public class ChatController {
             @PathVariable Long messageId,
             @AuthenticationPrincipal UserPrincipal principal) {
         
-        User user = userRepository.findById(principal.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = resolvedUserCache.getUser(principal);
         
         chatService.deleteMessage(messageId, user);
         
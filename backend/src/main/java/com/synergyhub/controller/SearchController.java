@@ -0,0 +1,56 @@
+package com.synergyhub.controller;
+
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.dto.response.ApiResponse;
+import com.synergyhub.dto.response.SearchResponse;
+import com.synergyhub.security.ResolvedUserCache;
+import com.synergyhub.security.UserPrincipal;
+import com.synergyhub.service.search.SearchService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class SearchController {
+
+    private final SearchService searchService;
+    private final ResolvedUserCache resolvedUserCache;
+
+    /**
+     * Search tasks, comments, chat messages and projects of the current organization
+     * GET /api/search?q=login bug&types=TASK,COMMENT&limit=20
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<SearchResponse>> search(
+            @RequestParam("q") @NotBlank @Size(max = 200) String query,
+            @RequestParam(required = false) List<SearchResponse.Type> types,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        User currentUser = resolvedUserCache.getUser(principal);
+
+        Set<SearchResponse.Type> selected = types == null || types.isEmpty()
+                ? EnumSet.noneOf(SearchResponse.Type.class)
+                : EnumSet.copyOf(types);
+        SearchResponse response = searchService.search(query, selected, limit, currentUser);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -1,18 +1,29 @@
 package com.synergyhub.controller;
 
+import com.synergyhub.config.PaginationConfig;
 import com.synergyhub.domain.entity.User;
 import com.synergyhub.dto.request.AssignTaskRequest;
+import com.synergyhub.dto.request.BulkTaskRequest;
 import com.synergyhub.dto.request.CreateTaskRequest;
+import com.synergyhub.dto.request.RankTaskRequest;
 import com.synergyhub.dto.request.UpdateTaskRequest;
 import com.synergyhub.dto.response.ApiResponse;
+import com.synergyhub.dto.response.BulkTaskResponse;
+import com.synergyhub.dto.response.CursorPage;
 import com.synergyhub.dto.response.TaskResponse;
-import com.synergyhub.repository.UserRepository;
+import com.synergyhub.dto.response.TaskRollupResponse;
+import com.synergyhub.repository.TaskListOrder;
+import com.synergyhub.security.ResolvedUserCache;
 import com.synergyhub.security.UserContext;
 import com.synergyhub.security.UserPrincipal;
+import com.synergyhub.service.task.TaskBulkService;
+import com.synergyhub.service.task.TaskRankService;
 import com.synergyhub.service.task.TaskService;
+import com.synergyhub.util.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,7 +33,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,7 +44,11 @@ import java.util.List;
 public class TaskController {
 
         private final TaskService taskService;
-        private final UserRepository userRepository;
+        private final TaskBulkService taskBulkService;
+        private final TaskRankService taskRankService;
+        private final ResolvedUserCache resolvedUserCache;
+        private final PaginationConfig paginationConfig;
+        private final ClientIpResolver ipResolver;
 
         /**
          * Create a new task
@@ -47,8 +64,7 @@ public class TaskController {
                 log.info("Creating task: {} in project: {} by user: {}",
                                 request.getTitle(), request.getProjectId(), currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.createTask(request, user);
 
@@ -57,6 +73,25 @@ public class TaskController {
                                 .body(ApiResponse.success("Task created successfully", task));
         }
 
+        /**
+         * Apply one operation to many tasks, selected by ids or by a filter
+         * POST /api/tasks/bulk
+         */
+        @PostMapping("/api/tasks/bulk")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<BulkTaskResponse>> bulkUpdateTasks(
+                        @Valid @RequestBody BulkTaskRequest request,
+                        @AuthenticationPrincipal UserPrincipal currentUser,
+                        HttpServletRequest httpRequest) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                BulkTaskResponse result = taskBulkService.apply(request, user, ipResolver.resolveClientIp(httpRequest));
+
+                return ResponseEntity.ok(
+                                ApiResponse.success("Bulk operation applied successfully", result));
+        }
+
         /**
          * Get task by ID
          * GET /api/tasks/{taskId}
@@ -69,8 +104,7 @@ public class TaskController {
 
                 log.info("Getting task: {} for user: {}", taskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.getTaskById(taskId, user);
 
@@ -79,7 +113,7 @@ public class TaskController {
         }
 
         /**
-         * Get all tasks for a project
+         * Get tasks for a project (every row; pass {@code size} to page)
          * GET /api/projects/{projectId}/tasks
          */
         @GetMapping("/api/projects/{projectId}/tasks") // ✅ Correct path
@@ -90,31 +124,71 @@ public class TaskController {
 
                 log.info("Getting tasks for project: {}", projectId);
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
+
+                List<TaskResponse> tasks = allPages(cursor -> taskService.getTasksByProject(
+                                projectId, cursor, paginationConfig.getLegacyListBatchSize(), user));
 
-                List<TaskResponse> tasks = taskService.getTasksByProject(projectId, user);
+                return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", tasks));
+        }
+
+        /**
+         * Get tasks for a project, one page at a time
+         * GET /api/projects/{projectId}/tasks?size=50[&cursor=...]
+         */
+        @GetMapping(value = "/api/projects/{projectId}/tasks", params = "size")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getTasksByProjectPage(
+                        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam int size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                CursorPage<TaskResponse> tasks = taskService.getTasksByProject(projectId, cursor, pageSize(size), user);
 
                 return ResponseEntity.ok(
                                 ApiResponse.success("Tasks retrieved successfully", tasks));
         }
 
         /**
-         * Get all tasks for a sprint
-         * GET /api/sprints/{sprintId}/tasks
+         * Get tasks for a sprint (every row; pass {@code size} to page)
+         * GET /api/sprints/{sprintId}/tasks[?order=RANK]
          */
         @GetMapping("/api/sprints/{sprintId}/tasks") // ✅ Correct path
         @PreAuthorize("isAuthenticated()")
         public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksBySprint(
                         @PathVariable @Positive(message = "Sprint ID must be positive") Long sprintId,
+                        @RequestParam(defaultValue = "PRIORITY") TaskListOrder order,
                         @AuthenticationPrincipal UserPrincipal currentUser) {
 
                 log.info("Getting tasks for sprint: {}", sprintId);
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
+
+                List<TaskResponse> tasks = allPages(cursor -> taskService.getTasksBySprint(
+                                sprintId, order, cursor, paginationConfig.getLegacyListBatchSize(), user));
 
-                List<TaskResponse> tasks = taskService.getTasksBySprint(sprintId, user);
+                return ResponseEntity.ok(ApiResponse.success("Sprint tasks retrieved successfully", tasks));
+        }
+
+        /**
+         * Get tasks for a sprint, one page at a time
+         * GET /api/sprints/{sprintId}/tasks?size=50[&cursor=...][&order=RANK]
+         */
+        @GetMapping(value = "/api/sprints/{sprintId}/tasks", params = "size")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getTasksBySprintPage(
+                        @PathVariable @Positive(message = "Sprint ID must be positive") Long sprintId,
+                        @RequestParam(defaultValue = "PRIORITY") TaskListOrder order,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam int size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                CursorPage<TaskResponse> tasks = taskService.getTasksBySprint(sprintId, order, cursor, pageSize(size), user);
 
                 return ResponseEntity.ok(
                                 ApiResponse.success("Sprint tasks retrieved successfully", tasks));
@@ -139,28 +213,49 @@ public class TaskController {
         }
 
         /**
-         * Get backlog tasks for a project
-         * GET /api/projects/{projectId}/backlog
+         * Get backlog tasks for a project (every row; pass {@code size} to page)
+         * GET /api/projects/{projectId}/backlog[?order=RANK]
          */
         @GetMapping("/api/projects/{projectId}/backlog") // ✅ Correct path
         @PreAuthorize("isAuthenticated()")
         public ResponseEntity<ApiResponse<List<TaskResponse>>> getBacklogTasks(
                         @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+                        @RequestParam(defaultValue = "PRIORITY") TaskListOrder order,
                         @AuthenticationPrincipal UserPrincipal currentUser) {
 
                 log.info("Getting backlog tasks for project: {}", projectId);
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
+
+                List<TaskResponse> tasks = allPages(cursor -> taskService.getTasksInBacklog(
+                                projectId, order, cursor, paginationConfig.getLegacyListBatchSize(), user));
+
+                return ResponseEntity.ok(ApiResponse.success("Backlog tasks retrieved successfully", tasks));
+        }
+
+        /**
+         * Get backlog tasks for a project, one page at a time
+         * GET /api/projects/{projectId}/backlog?size=50[&cursor=...][&order=RANK]
+         */
+        @GetMapping(value = "/api/projects/{projectId}/backlog", params = "size")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getBacklogTasksPage(
+                        @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
+                        @RequestParam(defaultValue = "PRIORITY") TaskListOrder order,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam int size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
 
-                List<TaskResponse> tasks = taskService.getTasksInBacklog(projectId, user);
+                CursorPage<TaskResponse> tasks = taskService.getTasksInBacklog(projectId, order, cursor, pageSize(size), user);
 
                 return ResponseEntity.ok(
                                 ApiResponse.success("Backlog tasks retrieved successfully", tasks));
         }
 
         /**
-         * Get tasks assigned to current user
+         * Get tasks assigned to current user (every row; pass {@code size} to page)
          * GET /api/tasks/my-tasks
          */
         @GetMapping("/api/tasks/my-tasks") // ✅ Full path
@@ -170,15 +265,74 @@ public class TaskController {
 
                 log.info("Getting tasks for user: {}", currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
+
+                List<TaskResponse> tasks = allPages(cursor -> taskService.getMyTasks(
+                                cursor, paginationConfig.getLegacyListBatchSize(), user));
+
+                return ResponseEntity.ok(ApiResponse.success("Your tasks retrieved successfully", tasks));
+        }
+
+        /**
+         * Get tasks assigned to current user, one page at a time
+         * GET /api/tasks/my-tasks?size=50[&cursor=...]
+         */
+        @GetMapping(value = "/api/tasks/my-tasks", params = "size")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getMyTasksPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam int size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
 
-                List<TaskResponse> tasks = taskService.getMyTasks(user);
+                CursorPage<TaskResponse> tasks = taskService.getMyTasks(cursor, pageSize(size), user);
 
                 return ResponseEntity.ok(
                                 ApiResponse.success("Your tasks retrieved successfully", tasks));
         }
 
+        /**
+         * Get tasks the current user watches, one page at a time
+         * GET /api/users/me/watching[?size=50&cursor=...]
+         */
+        @GetMapping("/api/users/me/watching")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getWatchedTasks(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                CursorPage<TaskResponse> tasks = taskService.getWatchedTasks(
+                                cursor, pageSize(size != null ? size : paginationConfig.getDefaultPageSize()), user);
+
+                return ResponseEntity.ok(
+                                ApiResponse.success("Watched tasks retrieved successfully", tasks));
+        }
+
+        /**
+         * Find tasks with a filter query, one page at a time (syntax: see TaskQuery)
+         * GET /api/tasks/query?q=assignee = me AND status IN (IN_PROGRESS, BLOCKED) AND due < +7d[&size=50&cursor=...]
+         */
+        @GetMapping("/api/tasks/query")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> queryTasks(
+                        @RequestParam("q") @Size(max = 2000, message = "Query must not exceed 2000 characters") String query,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                CursorPage<TaskResponse> tasks = taskService.queryTasks(
+                                query, cursor, pageSize(size != null ? size : paginationConfig.getDefaultPageSize()), user);
+
+                return ResponseEntity.ok(
+                                ApiResponse.success("Tasks retrieved successfully", tasks));
+        }
+
         /**
          * Update task
          * PUT /api/tasks/{taskId}
@@ -193,8 +347,7 @@ public class TaskController {
 
                 log.info("Updating task: {} by user: {}", taskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.updateTask(taskId, request, user);
 
@@ -214,8 +367,7 @@ public class TaskController {
                         @AuthenticationPrincipal UserPrincipal currentUser,
                         HttpServletRequest httpRequest) {
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task;
 
@@ -247,8 +399,7 @@ public class TaskController {
 
                 log.info("Moving task: {} to sprint: {}", taskId, sprintId);
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.moveTaskToSprint(taskId, sprintId, user);
 
@@ -269,8 +420,7 @@ public class TaskController {
 
                 log.info("Moving task: {} to backlog", taskId);
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.moveTaskToSprint(taskId, null, user);
 
@@ -278,6 +428,26 @@ public class TaskController {
                                 ApiResponse.success("Task moved to backlog successfully", task));
         }
 
+        /**
+         * Drop a task between two neighbours on the board or backlog (either may be omitted at the ends)
+         * PUT /api/tasks/{taskId}/rank
+         */
+        @PutMapping("/api/tasks/{taskId}/rank")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<Void>> rankTask(
+                        @PathVariable @Positive(message = "Task ID must be positive") Long taskId,
+                        @Valid @RequestBody RankTaskRequest request,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                log.info("Ranking task: {} between {} and {}", taskId, request.getPreviousTaskId(), request.getNextTaskId());
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                taskRankService.moveBetween(taskId, request.getPreviousTaskId(), request.getNextTaskId(), user);
+
+                return ResponseEntity.ok(ApiResponse.success("Task ranked successfully", null));
+        }
+
         /**
          * Delete task
          * DELETE /api/tasks/{taskId}
@@ -291,8 +461,7 @@ public class TaskController {
 
                 log.info("Permanently deleting task: {} by user: {}", taskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 taskService.deleteTask(taskId, user);
 
@@ -310,8 +479,7 @@ public class TaskController {
 
                 log.info("Archiving task: {} by user: {}", taskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 taskService.archiveTask(taskId, user);
 
@@ -328,8 +496,7 @@ public class TaskController {
 
                 log.info("Unarchiving task: {} by user: {}", taskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 taskService.unarchiveTask(taskId, user);
 
@@ -347,8 +514,7 @@ public class TaskController {
                         @PathVariable @Positive(message = "Project ID must be positive") Long projectId,
                         @AuthenticationPrincipal UserPrincipal currentUser) {
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 List<TaskResponse> epics = taskService.getProjectEpics(projectId, user);
 
@@ -365,14 +531,30 @@ public class TaskController {
                         @PathVariable @Positive(message = "Epic ID must be positive") Long epicId,
                         @AuthenticationPrincipal UserPrincipal currentUser) {
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 List<TaskResponse> children = taskService.getEpicChildren(epicId, user);
 
                 return ResponseEntity.ok(ApiResponse.success(children));
         }
 
+        /**
+         * Get points and completion over everything below a task, e.g. an epic
+         * GET /api/tasks/{taskId}/rollup
+         */
+        @GetMapping("/api/tasks/{taskId}/rollup")
+        @PreAuthorize("isAuthenticated()")
+        public ResponseEntity<ApiResponse<TaskRollupResponse>> getTaskRollup(
+                        @PathVariable @Positive(message = "Task ID must be positive") Long taskId,
+                        @AuthenticationPrincipal UserPrincipal currentUser) {
+
+                User user = resolvedUserCache.getUser(currentUser);
+
+                TaskRollupResponse rollup = taskService.getTaskRollup(taskId, user);
+
+                return ResponseEntity.ok(ApiResponse.success(rollup));
+        }
+
         /**
          * Link tasks
          * POST /api/tasks/{taskId}/links/{linkedTaskId}
@@ -386,11 +568,28 @@ public class TaskController {
 
                 log.info("Linking task: {} to task: {} by user: {}", taskId, linkedTaskId, currentUser.getId());
 
-                User user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                                .orElseThrow();
+                User user = resolvedUserCache.getUser(currentUser);
 
                 TaskResponse task = taskService.linkTasks(taskId, linkedTaskId, user);
 
                 return ResponseEntity.ok(ApiResponse.success("Tasks linked successfully", task));
         }
-}
\ No newline at end of file
+
+        private int pageSize(int requested) {
+                return Math.min(Math.max(requested, 1), paginationConfig.getMaxPageSize());
+        }
+
+        /**
+         * Unpaginated responses keep their full list shape; rows are read one keyset page at a time.
+         */
+        private List<TaskResponse> allPages(Function<String, CursorPage<TaskResponse>> pages) {
+                List<TaskResponse> tasks = new ArrayList<>();
+                String cursor = null;
+                do {
+                        CursorPage<TaskResponse> page = pages.apply(cursor);
+                        tasks.addAll(page.getContent());
+                        cursor = page.getNextCursor();
+                } while (cursor != null);
+                return tasks;
+        }
+}
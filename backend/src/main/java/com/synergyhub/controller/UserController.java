@@ -7,6 +7,9 @@ import com.synergyhub.dto.response.UserOrganizationResponse;
 import com.synergyhub.dto.response.UserResponse;
 import com.synergyhub.repository.UserRepository;
 import com.synergyhub.security.OrganizationContext;
+import com.synergyhub.security.ResolvedUser;
+import com.synergyhub.security.ResolvedUserCache;
+import com.synergyhub.security.RateLimited;
 import com.synergyhub.security.UserPrincipal;
 import com.synergyhub.service.security.SessionManagementService;
 import com.synergyhub.service.user.UserService; // ✅ Added
@@ -31,6 +34,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final ResolvedUserCache resolvedUserCache;
     private final UserMapper userMapper;
     private final SessionManagementService sessionManagementService;
     private final ClientIpResolver ipResolver;
@@ -42,23 +46,14 @@ public class UserController {
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
         Long orgId = OrganizationContext.getcurrentOrgIdOrNull();
-        User user;
-        
-        if (orgId != null) {
-            // Use organization-scoped query when organization context is set
-            user = userRepository.findByEmailWithRolesAndPermissionsInOrganization(currentUser.getEmail(), orgId)
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "User not found in current organization"
-                    ));
-        } else {
-            // Fall back to global query when no organization context (new user, login flow)
-            user = userRepository.findByEmailWithRolesAndPermissions(currentUser.getEmail())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "User not found"
-                    ));
-        }
+
+        // Served from the resolved-user cache; organization scope only narrows who is found
+        User user = resolvedUserCache.find(currentUser.getId(), orgId)
+                .map(ResolvedUser::toUser)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        orgId != null ? "User not found in current organization" : "User not found"
+                ));
 
         UserResponse response = userMapper.toUserResponse(user);
 
@@ -74,23 +69,12 @@ public class UserController {
             @AuthenticationPrincipal UserPrincipal principal) {
         
         Long orgId = OrganizationContext.getcurrentOrgIdOrNull();
-        User user;
-        
-        if (orgId != null) {
-            // Use organization-scoped query when organization context is set
-            user = userRepository.findByIdWithOrganizationInOrganization(principal.getId(), orgId)
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "User not found in current organization"
-                    ));
-        } else {
-            // Fall back to global query when no organization context (new user)
-            user = userRepository.findByIdWithOrganization(principal.getId())
-                    .orElseThrow(() -> new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "User not found"
-                    ));
-        }
+        User user = resolvedUserCache.find(principal.getId(), orgId)
+                .map(ResolvedUser::toUser)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        orgId != null ? "User not found in current organization" : "User not found"
+                ));
         
         log.info("Checking organization for user: {}", user.getId());
         
@@ -116,7 +100,8 @@ public class UserController {
     public ResponseEntity<ApiResponse<java.util.List<UserOrganizationResponse>>> getMyOrganizations(
             @AuthenticationPrincipal UserPrincipal principal) {
         
-        User user = userRepository.findById(principal.getId())
+        User user = resolvedUserCache.find(principal.getId())
+                .map(ResolvedUser::toUser)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         
         java.util.List<UserOrganizationResponse> orgs = user.getMemberships().stream()
@@ -147,6 +132,7 @@ public class UserController {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         
         UserResponse response = userService.updateProfile(user, request);
+        resolvedUserCache.invalidateUser(user.getId());
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", response));
     }
 
@@ -196,6 +182,7 @@ public class UserController {
     }
 
     @PostMapping("/me/avatar")
+    @RateLimited(key = "upload", permits = 30, window = "1m", scope = RateLimited.Scope.USER)
     public ResponseEntity<ApiResponse<UserResponse>> uploadAvatar(
             @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam("file") org.springframework.web.multipart.MultipartFile file) {
@@ -204,6 +191,7 @@ public class UserController {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         
         UserResponse response = userService.uploadAvatar(user, file);
+        resolvedUserCache.invalidateUser(user.getId());
         return ResponseEntity.ok(ApiResponse.success("Avatar uploaded successfully", response));
     }
 
@@ -23,7 +23,9 @@ import java.time.LocalDateTime;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "audit_log_id")
+    @TableGenerator(name = "audit_log_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "next_val", pkColumnValue = "audit_logs", allocationSize = 50)
     @Column(name = "audit_log_id")
     private Long id;
 
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "backup_codes", indexes = {
-    @Index(name = "idx_backup_user_used", columnList = "user_id, used")
+    @Index(name = "idx_backup_user_used", columnList = "user_id, used"),
+    @Index(name = "idx_backup_user_prefix", columnList = "user_id, lookup_prefix")
 })
 @Getter
 @Setter
@@ -20,7 +21,9 @@ import java.time.LocalDateTime;
 public class BackupCode {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "backup_code_id")
+    @TableGenerator(name = "backup_code_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "next_val", pkColumnValue = "backup_codes", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +38,12 @@ public class BackupCode {
     @JsonIgnore // Security: Never return even the hash in API responses
     private String code;
 
+    // Non-secret identifier printed in front of the code ("PREFIX-SECRET") so verification
+    // can select the one candidate row and hash once. Null for codes issued before the prefix format.
+    @Column(name = "lookup_prefix", length = 8)
+    @JsonIgnore
+    private String lookupPrefix;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
     @Builder.Default
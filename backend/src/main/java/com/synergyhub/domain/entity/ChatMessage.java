@@ -21,7 +21,9 @@ import java.util.Set;
 public class ChatMessage {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_message_id")
+    @TableGenerator(name = "chat_message_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "next_val", pkColumnValue = "chat_messages", allocationSize = 50)
     @Column(name = "message_id")
     private Long id;
     
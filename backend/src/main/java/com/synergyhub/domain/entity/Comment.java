@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 public class Comment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "next_val", pkColumnValue = "comments", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
     
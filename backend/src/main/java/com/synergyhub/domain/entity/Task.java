@@ -9,6 +9,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -25,7 +26,20 @@ import java.util.Set;
         @Index(name = "idx_task_project", columnList = "project_id"),
         @Index(name = "idx_task_status", columnList = "status"),
         @Index(name = "idx_task_parent", columnList = "parent_task_id"),
-        @Index(name = "idx_task_reporter", columnList = "reporter_id") // ✅ Add index for reporter queries
+        @Index(name = "idx_task_reporter", columnList = "reporter_id"), // ✅ Add index for reporter queries
+        // Keyset pagination: scope column(s) followed by the list order (priority DESC, created_at, task_id)
+        @Index(name = "idx_task_project_order", columnList = "project_id, priority DESC, created_at, task_id"),
+        @Index(name = "idx_task_backlog_order", columnList = "project_id, sprint_id, priority DESC, created_at, task_id"),
+        @Index(name = "idx_task_sprint_order", columnList = "sprint_id, priority DESC, created_at, task_id"),
+        @Index(name = "idx_task_assignee_order", columnList = "assignee_id, priority DESC, created_at, task_id"),
+        // Common task query predicates
+        @Index(name = "idx_task_project_status_order", columnList = "project_id, status, priority DESC, created_at, task_id"),
+        @Index(name = "idx_task_assignee_status", columnList = "assignee_id, status"),
+        @Index(name = "idx_task_project_due", columnList = "project_id, due_date"),
+        // Manual rank order of the backlog and sprint boards, and the project's last rank for appends
+        @Index(name = "idx_task_backlog_rank", columnList = "project_id, sprint_id, board_rank, task_id"),
+        @Index(name = "idx_task_sprint_rank", columnList = "sprint_id, board_rank, task_id"),
+        @Index(name = "idx_task_project_rank", columnList = "project_id, board_rank")
 })
 @Getter
 @Setter
@@ -37,7 +51,9 @@ import java.util.Set;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(name = "task_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "next_val", pkColumnValue = "tasks", allocationSize = 50)
     @Column(name = "task_id")
     @EqualsAndHashCode.Include
     private Long id;
@@ -122,7 +138,8 @@ public class Task {
     private String estimatedHours;
 
     @ElementCollection
-    @CollectionTable(name = "task_labels", joinColumns = @JoinColumn(name = "task_id"))
+    @CollectionTable(name = "task_labels", joinColumns = @JoinColumn(name = "task_id"),
+            indexes = @Index(name = "idx_task_labels_label_task", columnList = "label, task_id"))
     @Column(name = "label")
     @Builder.Default
     private List<String> labels = new ArrayList<>();
@@ -139,11 +156,30 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Denormalized size of watchers, maintained in SQL by TaskWatcherService; never written from the entity
+    @ColumnDefault("0")
+    @Column(name = "watchers_count", nullable = false, insertable = false, updatable = false)
+    private Integer watchersCount;
+
+    // Denormalized size of subtasks and of its DONE part, maintained in SQL by TaskCounterService
+    @ColumnDefault("0")
+    @Column(name = "subtask_count", nullable = false, insertable = false, updatable = false)
+    private Integer subtaskCount;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_subtask_count", nullable = false, insertable = false, updatable = false)
+    private Integer completedSubtaskCount;
+
+    // Manual position within the project (see TaskRank); set on insert, then only moved in SQL by TaskRankService
+    @Column(name = "board_rank", length = 64, updatable = false)
+    private String boardRank;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "task_watchers",
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        indexes = @Index(name = "idx_task_watchers_user_task", columnList = "user_id, task_id")
     )
     @BatchSize(size = 20)
     @Builder.Default
@@ -218,7 +254,7 @@ public class Task {
     // ✅ Check if task can be deleted (business rule)
     public boolean canBeDeleted() {
         // Tasks in progress or done with subtasks shouldn't be easily deleted
-        return !(isInProgress() && !subtasks.isEmpty());
+        return !(isInProgress() && getSubtaskCountOrZero() > 0);
     }
 
     // ✅ Helper to add subtask with automatic parent reference
@@ -236,20 +272,24 @@ public class Task {
 
     // ✅ Check if all subtasks are completed
     public boolean areAllSubtasksCompleted() {
-        return subtasks.isEmpty() || 
-               subtasks.stream().allMatch(t -> t.getStatus() == TaskStatus.DONE);
+        return getCompletedSubtaskCountOrZero() == getSubtaskCountOrZero();
     }
 
-    // ✅ Get completion percentage based on subtasks
+    // ✅ Get completion percentage based on subtasks (from the counters, without loading them)
     public double getCompletionPercentage() {
-        if (subtasks.isEmpty()) {
+        int total = getSubtaskCountOrZero();
+        if (total == 0) {
             return status == TaskStatus.DONE ? 100.0 : 0.0;
         }
-        
-        long completedSubtasks = subtasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count();
-        
-        return (completedSubtasks * 100.0) / subtasks.size();
+        return (getCompletedSubtaskCountOrZero() * 100.0) / total;
+    }
+
+    // Counters are null on a task built in memory and not yet re-read
+    public int getSubtaskCountOrZero() {
+        return subtaskCount != null ? subtaskCount : 0;
+    }
+
+    public int getCompletedSubtaskCountOrZero() {
+        return completedSubtaskCount != null ? completedSubtaskCount : 0;
     }
 }
\ No newline at end of file
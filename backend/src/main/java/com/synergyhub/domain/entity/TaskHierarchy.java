@@ -0,0 +1,42 @@
+package com.synergyhub.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+
+/**
+ * Closure table over the task hierarchy: one row per (ancestor, descendant) pair, including the task itself at
+ * depth 0. A task's hierarchy parent is its parent task, or else its epic. Rows are written in SQL by
+ * TaskHierarchyService and never through this entity, which only gives the table a mapping.
+ */
+@Entity
+@Table(name = "task_hierarchy", indexes = {
+        @Index(name = "idx_task_hierarchy_descendant", columnList = "descendant_id, depth")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskHierarchy {
+
+    @EmbeddedId
+    private TaskHierarchyId id;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TaskHierarchyId implements Serializable {
+        @Column(name = "ancestor_id")
+        private Long ancestorId;
+
+        @Column(name = "descendant_id")
+        private Long descendantId;
+    }
+}
@@ -97,6 +97,11 @@ public class User {
     @lombok.Builder.Default
     private Integer failedLoginAttempts = 0; // keep as Integer, not an ID
 
+    // Embedded in access tokens; bumping it invalidates every token issued before
+    @Column(name = "token_version", nullable = false)
+    @lombok.Builder.Default
+    private Integer tokenVersion = 0;
+
     // --- Methods for AccountLockService compatibility ---
     public Boolean getAccountLocked() {
         return accountLocked != null && accountLocked;
@@ -122,6 +127,12 @@ public class User {
     public void resetFailedAttempts() {
         this.failedLoginAttempts = 0;
     }
+    public int getTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+    public void incrementTokenVersion() {
+        this.tokenVersion = getTokenVersion() + 1;
+    }
     public void lock(int minutes) {
         this.accountLocked = true;
         this.lockUntil = java.time.LocalDateTime.now().plusMinutes(minutes);
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "user_sessions", indexes = {
         @Index(name = "idx_token", columnList = "token_id"),
-        @Index(name = "idx_user_active", columnList = "user_id, revoked, expires_at")
+        @Index(name = "idx_user_active", columnList = "user_id, revoked, expires_at"),
+        @Index(name = "idx_session_revoked_at", columnList = "revoked_at")
 })
 @Getter
 @Setter
@@ -52,6 +53,9 @@ public class UserSession {
     @Builder.Default
     private Boolean revoked = false;
 
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
     public boolean isValid() {
         return !revoked && LocalDateTime.now().isBefore(expiresAt);
     }
@@ -4,11 +4,15 @@ import com.synergyhub.domain.entity.Task;
 import com.synergyhub.domain.enums.TaskStatus;
 import com.synergyhub.dto.response.TaskResponse;
 import com.synergyhub.dto.response.TaskSummaryResponse;
+import com.synergyhub.repository.TaskListRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
 public interface TaskMapper {
@@ -38,10 +42,10 @@ public interface TaskMapper {
     // ✅ Computed fields
     @Mapping(target = "completionPercentage", expression = "java(task.getCompletionPercentage())")
     @Mapping(target = "isOverdue", expression = "java(task.isOverdue())")
-    @Mapping(target = "subtaskCount", expression = "java(task.getSubtasks().size())")
-    @Mapping(target = "completedSubtaskCount", source = "subtasks", qualifiedByName = "countCompletedSubtasks")
+    @Mapping(target = "subtaskCount", expression = "java(task.getSubtaskCountOrZero())")
+    @Mapping(target = "completedSubtaskCount", expression = "java(task.getCompletedSubtaskCountOrZero())")
     
-    @Mapping(target = "watchersCount", expression = "java(task.getWatchers().size())")
+    @Mapping(target = "watchersCount", expression = "java(task.getWatchersCount() != null ? task.getWatchersCount() : 0)")
     @Mapping(target = "linkedTasks", source = "linkedTasks")
     
     TaskResponse toTaskResponse(Task task);
@@ -57,7 +61,7 @@ public interface TaskMapper {
     @Mapping(target = "isOverdue", expression = "java(task.isOverdue())")
     @Mapping(target = "isSubtask", expression = "java(task.getParentTask() != null)")
     
-    @Mapping(target = "subtaskCount", expression = "java(task.getSubtasks().size())")
+    @Mapping(target = "subtaskCount", expression = "java(task.getSubtaskCountOrZero())")
     @Mapping(target = "completionPercentage", expression = "java(task.getCompletionPercentage())")
     
     TaskSummaryResponse toTaskSummaryResponse(Task task);
@@ -67,7 +71,87 @@ public interface TaskMapper {
     List<TaskResponse> toTaskResponseList(List<Task> tasks);
     List<TaskSummaryResponse> toTaskSummaryResponseList(List<Task> tasks);
 
+    // ========== LIST PROJECTIONS ==========
+
+    /**
+     * Map projection rows and their page's linked tasks to responses, without touching entities.
+     * Subtasks are left empty; list views only show the counts, the detail view loads them.
+     */
+    default List<TaskResponse> toTaskResponseList(List<TaskListRow> rows, List<TaskListRow.Link> links) {
+        Map<Long, List<TaskSummaryResponse>> linksByTask = links.stream()
+                .collect(Collectors.groupingBy(TaskListRow.Link::taskId,
+                        Collectors.mapping(this::linkToSummary, Collectors.toList())));
+        return rows.stream()
+                .map(row -> rowToResponse(row, linksByTask.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    default TaskResponse rowToResponse(TaskListRow row, List<TaskSummaryResponse> linkedTasks) {
+        int subtaskCount = row.subtaskCount();
+        int completedSubtaskCount = row.completedSubtaskCount();
+        // Same rules as Task.getCompletionPercentage() and Task.isOverdue()
+        double completionPercentage = subtaskCount == 0
+                ? (row.status() == TaskStatus.DONE ? 100.0 : 0.0)
+                : (completedSubtaskCount * 100.0) / subtaskCount;
+
+        return TaskResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .status(row.status())
+                .priority(row.priority())
+                .type(row.type())
+                .projectId(row.projectId())
+                .projectName(row.projectName())
+                .sprintId(row.sprintId())
+                .sprintName(row.sprintName())
+                .parentTaskId(row.parentTaskId())
+                .parentTaskTitle(row.parentTaskTitle())
+                .isSubtask(row.parentTaskId() != null)
+                .epicId(row.epicId())
+                .epicTitle(row.epicTitle())
+                .reporter(userSummary(row.reporterId(), row.reporterName(), row.reporterEmail()))
+                .assignee(userSummary(row.assigneeId(), row.assigneeName(), row.assigneeEmail()))
+                .storyPoints(row.storyPoints())
+                .dueDate(row.dueDate())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .archived(Boolean.TRUE.equals(row.archived()))
+                .boardRank(row.boardRank())
+                .subtasks(List.of())
+                .completionPercentage(completionPercentage)
+                .isOverdue(isOverdue(row.dueDate(), row.status()))
+                .subtaskCount(subtaskCount)
+                .completedSubtaskCount(completedSubtaskCount)
+                .watching(row.viewerWatching() > 0)
+                .watchersCount(row.watchersCount())
+                .linkedTasks(linkedTasks)
+                .build();
+    }
+
+    default TaskSummaryResponse linkToSummary(TaskListRow.Link link) {
+        return TaskSummaryResponse.builder()
+                .id(link.id())
+                .title(link.title())
+                .status(link.status())
+                .priority(link.priority())
+                .type(link.type())
+                .storyPoints(link.storyPoints())
+                .archived(Boolean.TRUE.equals(link.archived()))
+                .isOverdue(isOverdue(link.dueDate(), link.status()))
+                .dueDate(link.dueDate())
+                .build();
+    }
+
     // ========== HELPER METHODS ==========
+
+    private static TaskResponse.UserSummary userSummary(Long id, String name, String email) {
+        return id == null ? null : TaskResponse.UserSummary.builder().id(id).name(name).email(email).build();
+    }
+
+    private static boolean isOverdue(LocalDateTime dueDate, TaskStatus status) {
+        return dueDate != null && LocalDateTime.now().isAfter(dueDate) && status != TaskStatus.DONE;
+    }
     
     /**
      * Map User entity to lightweight UserSummary.
@@ -85,18 +169,4 @@ public interface TaskMapper {
                 .email(user.getEmail())
                 .build();
     }
-
-    /**
-     * Count completed subtasks for the completedSubtaskCount field.
-     */
-    @Named("countCompletedSubtasks")
-    default int countCompletedSubtasks(List<Task> subtasks) {
-        if (subtasks == null || subtasks.isEmpty()) {
-            return 0;
-        }
-        
-        return (int) subtasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE)
-                .count();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.synergyhub.dto.request;
+
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One operation applied to many tasks, selected either by id or by a filter within a project.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequest {
+
+    public enum Operation {
+        MOVE_TO_SPRINT, // sprintId, or null for the backlog
+        ASSIGN,         // assigneeId
+        UNASSIGN,
+        SET_PRIORITY,   // priority
+        SET_STATUS,     // status
+        ADD_LABELS,     // labels
+        REMOVE_LABELS   // labels
+    }
+
+    @NotNull(message = "Operation is required")
+    private Operation operation;
+
+    // Exactly one of taskIds and filter
+    private Set<@NotNull @Positive Long> taskIds;
+
+    @Valid
+    private Filter filter;
+
+    private Long sprintId;
+
+    private Long assigneeId;
+
+    private TaskPriority priority;
+
+    private TaskStatus status;
+
+    @Size(max = 20, message = "At most 20 labels per request")
+    private List<@NotBlank @Size(max = 50) String> labels;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+
+        @NotNull(message = "Filter project ID is required")
+        private Long projectId;
+
+        private Long sprintId;
+
+        private Boolean backlog;
+
+        private Long assigneeId;
+
+        private TaskStatus status;
+
+        private TaskPriority priority;
+    }
+}
@@ -0,0 +1,17 @@
+package com.synergyhub.dto.request;
+
+import lombok.*;
+
+/**
+ * Neighbours of the task at its new position, as the client sees them; null at either end of the list.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankTaskRequest {
+
+    private Long previousTaskId;
+
+    private Long nextTaskId;
+}
@@ -0,0 +1,16 @@
+package com.synergyhub.dto.response;
+
+import com.synergyhub.dto.request.BulkTaskRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private BulkTaskRequest.Operation operation;
+    private int matchedCount;   // Tasks selected by the ids or filter
+    private int updatedCount;   // Tasks actually changed
+    private int skippedCount;   // Already in the target state, or not eligible (e.g. DONE tasks cannot be moved)
+}
@@ -0,0 +1,38 @@
+package com.synergyhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class SearchResponse {
+    private String query;
+    private List<String> terms;   // Words actually searched for (short words are ignored)
+    private List<Hit> results;    // Best matches first
+
+    public enum Type {
+        TASK,
+        COMMENT,
+        CHAT_MESSAGE,
+        PROJECT
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class Hit {
+        private Type type;
+        private Long id;
+        private Long projectId;
+        private String projectName;
+        private Long taskId;          // Task itself, or the task a comment belongs to
+        private Long channelId;       // Chat messages only
+        private String title;
+        private String highlight;     // HTML-escaped excerpt with matches wrapped in <mark>
+        private double score;
+    }
+}
@@ -49,6 +49,7 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean archived;
+    private String boardRank; // manual board/backlog position; compare as a plain string
     
     // ✅ Subtasks (nested)
     private List<TaskSummaryResponse> subtasks; // Use summary to avoid deep nesting
@@ -0,0 +1,20 @@
+package com.synergyhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Progress over everything below a task (for an epic: its stories, tasks and their subtasks).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class TaskRollupResponse {
+    private Long taskId;
+    private int depth;              // Levels above the task; 0 for a root
+    private long descendantCount;
+    private long completedCount;
+    private long totalPoints;
+    private long completedPoints;
+}
@@ -0,0 +1,30 @@
+package com.synergyhub.events.task;
+
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.events.BaseEvent;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * One event for a whole bulk operation, which may span several projects.
+ */
+@Getter
+public class TaskBulkUpdatedEvent extends BaseEvent {
+    private final String operation;
+    private final Set<Long> projectIds;
+    private final int matchedCount;
+    private final int updatedCount;
+    private final String changes;
+
+    public TaskBulkUpdatedEvent(User actor, String ipAddress, String operation, Set<Long> projectIds,
+                                int matchedCount, int updatedCount, String changes) {
+        super(actor, ipAddress);
+        this.operation = operation;
+        this.projectIds = projectIds;
+        this.matchedCount = matchedCount;
+        this.updatedCount = updatedCount;
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,25 @@
+package com.synergyhub.events.task;
+
+import com.synergyhub.domain.entity.User;
+
+import lombok.Getter;
+
+/**
+ * One event for a sprint move, covering the epic children and subtasks carried along with the task.
+ */
+@Getter
+public class TaskSprintChangedEvent extends TaskEvent {
+    private final Long taskId;
+    private final String fromLocation;
+    private final String toLocation;
+    private final int descendantCount;
+
+    public TaskSprintChangedEvent(User actor, String ipAddress, Long projectId, String projectName, Long taskId,
+                                  String taskTitle, String fromLocation, String toLocation, int descendantCount) {
+        super(actor, ipAddress, projectId, projectName, taskTitle);
+        this.taskId = taskId;
+        this.fromLocation = fromLocation;
+        this.toLocation = toLocation;
+        this.descendantCount = descendantCount;
+    }
+}
@@ -61,4 +61,30 @@ public class TaskAuditListener {
             event.getProjectId()
         );
     }
-}
\ No newline at end of file
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskSprintChanged(TaskSprintChangedEvent event) {
+        auditLogService.createAuditLog(
+            event.getActor(),
+            "TASK_MOVED",
+            String.format("Task '%s' (ID: %d) moved: %s → %s, with %d child tasks", event.getTaskTitle(),
+                    event.getTaskId(), event.getFromLocation(), event.getToLocation(), event.getDescendantCount()),
+            event.getIpAddress(),
+            event.getProjectId()
+        );
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskBulkUpdated(TaskBulkUpdatedEvent event) {
+        auditLogService.createAuditLog(
+            event.getActor(),
+            "TASK_BULK_UPDATED",
+            String.format("Bulk %s on %d tasks (%d changed) in projects %s: %s", event.getOperation(),
+                    event.getMatchedCount(), event.getUpdatedCount(), event.getProjectIds(), event.getChanges()),
+            event.getIpAddress(),
+            event.getProjectIds().size() == 1 ? event.getProjectIds().iterator().next() : null
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.synergyhub.listeners.cache;
+
+import com.synergyhub.events.project.ProjectArchivedEvent;
+import com.synergyhub.events.project.ProjectMemberAddedEvent;
+import com.synergyhub.events.project.ProjectMemberRemovedEvent;
+import com.synergyhub.security.ProjectAclIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps project member sets in {@link ProjectAclIndex} consistent with {@code project_members}.
+ * Runs after commit for the same reason as {@link ResolvedUserCacheInvalidationListener}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectAclIndexInvalidationListener {
+
+    private final ProjectAclIndex projectAclIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectMemberAdded(ProjectMemberAddedEvent event) {
+        projectAclIndex.evictProject(event.getProject().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectMemberRemoved(ProjectMemberRemovedEvent event) {
+        projectAclIndex.evictProject(event.getProject().getId());
+    }
+
+    /**
+     * Also published just before a project is deleted permanently.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectArchived(ProjectArchivedEvent event) {
+        projectAclIndex.evictProject(event.getProject().getId());
+    }
+}
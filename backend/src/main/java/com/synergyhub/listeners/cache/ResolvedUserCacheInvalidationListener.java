@@ -0,0 +1,105 @@
+package com.synergyhub.listeners.cache;
+
+import com.synergyhub.events.auth.AccountForceLockedEvent;
+import com.synergyhub.events.auth.AccountLockedEvent;
+import com.synergyhub.events.auth.AccountUnlockedEvent;
+import com.synergyhub.events.auth.AllSessionsRevokedEvent;
+import com.synergyhub.events.auth.PasswordChangedEvent;
+import com.synergyhub.events.auth.PasswordResetCompletedEvent;
+import com.synergyhub.events.organization.OrganizationCreatedEvent;
+import com.synergyhub.events.organization.OrganizationUpdatedEvent;
+import com.synergyhub.events.organization.UserJoinedOrganizationEvent;
+import com.synergyhub.events.rbac.RoleDeletedEvent;
+import com.synergyhub.events.rbac.RolePermissionChangedEvent;
+import com.synergyhub.events.rbac.RoleUpdatedEvent;
+import com.synergyhub.domain.entity.Role;
+import com.synergyhub.security.ResolvedUserCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps {@link ResolvedUserCache} consistent with the database.
+ * Runs after commit so a concurrent request cannot reload and re-cache the pre-change state;
+ * events published outside a transaction are handled immediately.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResolvedUserCacheInvalidationListener {
+
+    private final ResolvedUserCache resolvedUserCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPasswordChanged(PasswordChangedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPasswordResetCompleted(PasswordResetCompletedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    // The token version was bumped; tokens issued before must stop matching the cached snapshot
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAllSessionsRevoked(AllSessionsRevokedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountLocked(AccountLockedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountForceLocked(AccountForceLockedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountUnlocked(AccountUnlockedEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserJoinedOrganization(UserJoinedOrganizationEvent event) {
+        resolvedUserCache.invalidateUser(event.getUser().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationCreated(OrganizationCreatedEvent event) {
+        // The creator becomes ORG_ADMIN of the new organization
+        resolvedUserCache.invalidateUser(event.getActor() != null ? event.getActor().getId() : null);
+    }
+
+    /**
+     * Also published when an organization is deleted, which removes every membership in it.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        resolvedUserCache.invalidateOrganization(event.getOrganization().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleUpdated(RoleUpdatedEvent event) {
+        invalidateRoleOrganization(event.getRole());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRolePermissionChanged(RolePermissionChangedEvent event) {
+        invalidateRoleOrganization(event.getRole());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleDeleted(RoleDeletedEvent event) {
+        invalidateRoleOrganization(event.getRole());
+    }
+
+    private void invalidateRoleOrganization(Role role) {
+        Long organizationId = role.getOrganization() != null ? role.getOrganization().getId() : null;
+        log.debug("Evicting cached users of organization {} after change to role {}", organizationId, role.getId());
+        resolvedUserCache.invalidateOrganization(organizationId);
+    }
+}
@@ -17,6 +17,12 @@ public interface BackupCodeRepository extends JpaRepository<BackupCode, Long> {
     // Find a specific code for a user (to verify)
     Optional<BackupCode> findByUserAndCodeAndUsedFalse(User user, String code);
 
+    // Single candidate for a prefixed code
+    Optional<BackupCode> findFirstByUserAndLookupPrefixAndUsedFalse(User user, String lookupPrefix);
+
+    // Codes issued before lookup prefixes existed
+    List<BackupCode> findByUserAndLookupPrefixIsNullAndUsedFalse(User user);
+
     // Optional: Delete all codes for a user (when regenerating)
     void deleteByUser(User user);
 }
\ No newline at end of file
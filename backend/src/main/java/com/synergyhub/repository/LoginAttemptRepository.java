@@ -29,6 +29,12 @@ public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, Long
     @Query("SELECT COUNT(la) FROM LoginAttempt la WHERE la.ipAddress = :ipAddress AND la.success = false AND la.attemptedAt > :since")
     long countFailedAttemptsByIpAddress(@Param("ipAddress") String ipAddress, @Param("since") LocalDateTime since);
 
+    @Query("SELECT la.attemptedAt FROM LoginAttempt la WHERE la.email = :email AND la.success = false AND la.attemptedAt > :since")
+    List<LocalDateTime> findFailedAttemptTimesByEmail(@Param("email") String email, @Param("since") LocalDateTime since);
+
+    @Query("SELECT la.attemptedAt FROM LoginAttempt la WHERE la.ipAddress = :ipAddress AND la.success = false AND la.attemptedAt > :since")
+    List<LocalDateTime> findFailedAttemptTimesByIpAddress(@Param("ipAddress") String ipAddress, @Param("since") LocalDateTime since);
+
     @Query("SELECT COUNT(la) FROM LoginAttempt la WHERE la.attemptedAt < :before")
     long countByAttemptedAtBefore(@Param("before") LocalDateTime before);
 
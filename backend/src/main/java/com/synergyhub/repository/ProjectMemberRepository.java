@@ -46,4 +46,7 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Pr
     boolean hasRoleInProject(@Param("projectId") Long projectId,
                              @Param("userId") Long userId,
                              @Param("allowedRoles") List<String> allowedRoles);
+
+    @Query("SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
 }
@@ -58,4 +58,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             @Param("search") String search,
             @Param("status") ProjectStatus status,
             org.springframework.data.domain.Pageable pageable);
+
+    @Query("SELECT p.organization.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findOrganizationIdById(@Param("projectId") Long projectId);
 }
@@ -49,4 +49,7 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findOverlappingSprints(@Param("projectId") Long projectId,
                                         @Param("startDate") LocalDate startDate,
                                         @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT s.project.id FROM Sprint s WHERE s.id = :sprintId")
+    Optional<Long> findProjectIdById(@Param("sprintId") Long sprintId);
 }
@@ -0,0 +1,68 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.TaskHierarchy;
+import com.synergyhub.domain.entity.TaskHierarchy.TaskHierarchyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskHierarchyRepository extends JpaRepository<TaskHierarchy, TaskHierarchyId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_hierarchy (ancestor_id, descendant_id, depth) VALUES (:taskId, :taskId, 0)", nativeQuery = true)
+    void insertSelf(@Param("taskId") Long taskId);
+
+    // Links the subtree rooted at taskId below parentId and every ancestor of parentId
+    @Modifying
+    @Query(value = "INSERT INTO task_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 FROM task_hierarchy a " +
+            "JOIN task_hierarchy d ON d.ancestor_id = :taskId WHERE a.descendant_id = :parentId", nativeQuery = true)
+    int attach(@Param("taskId") Long taskId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM TaskHierarchy h WHERE h.id.descendantId IN :subtreeIds AND h.id.ancestorId IN :ancestorIds")
+    int detach(@Param("subtreeIds") Collection<Long> subtreeIds, @Param("ancestorIds") Collection<Long> ancestorIds);
+
+    @Modifying
+    @Query("DELETE FROM TaskHierarchy h WHERE h.id.ancestorId IN :taskIds OR h.id.descendantId IN :taskIds")
+    int deleteAllFor(@Param("taskIds") Collection<Long> taskIds);
+
+    // Includes the task itself
+    @Query("SELECT h.id.descendantId FROM TaskHierarchy h WHERE h.id.ancestorId = :taskId")
+    List<Long> findSubtreeIds(@Param("taskId") Long taskId);
+
+    @Query("SELECT h.id.ancestorId FROM TaskHierarchy h WHERE h.id.descendantId = :taskId AND h.depth > 0")
+    List<Long> findAncestorIds(@Param("taskId") Long taskId);
+
+    @Query("SELECT DISTINCT h.id.descendantId FROM TaskHierarchy h WHERE h.id.ancestorId IN :rootIds AND h.depth > 0")
+    List<Long> findDescendantIds(@Param("rootIds") Collection<Long> rootIds);
+
+    // The subtasks of taskId and everything below them, deepest first so children are deleted before their parents.
+    // Walks parent_task_id only: the closure table also holds epic edges, and epic children are detached, not deleted.
+    // Native scalars come back as the column's JDBC type (INT or BIGINT depending on the schema), hence Number
+    @Query(value = "WITH RECURSIVE subtree (task_id, depth) AS (" +
+            "SELECT task_id, 1 FROM tasks WHERE parent_task_id = :taskId " +
+            "UNION ALL SELECT t.task_id, s.depth + 1 FROM tasks t JOIN subtree s ON t.parent_task_id = s.task_id) " +
+            "SELECT task_id FROM subtree ORDER BY depth DESC", nativeQuery = true)
+    List<Number> findSubtaskSubtreeIds(@Param("taskId") Long taskId);
+
+    @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM TaskHierarchy h " +
+            "WHERE h.id.ancestorId = :ancestorId AND h.id.descendantId = :descendantId")
+    boolean isAncestorOrSelf(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    @Query("SELECT COALESCE(MAX(h.depth), 0) FROM TaskHierarchy h WHERE h.id.descendantId = :taskId")
+    int findDepth(@Param("taskId") Long taskId);
+
+    @Query("SELECT COUNT(t) AS taskCount, " +
+            "COALESCE(SUM(CASE WHEN t.status = com.synergyhub.domain.enums.TaskStatus.DONE THEN 1 ELSE 0 END), 0) AS completedCount, " +
+            "COALESCE(SUM(t.storyPoints), 0) AS totalPoints, " +
+            "COALESCE(SUM(CASE WHEN t.status = com.synergyhub.domain.enums.TaskStatus.DONE THEN t.storyPoints ELSE 0 END), 0) AS completedPoints " +
+            "FROM TaskHierarchy h JOIN Task t ON t.id = h.id.descendantId WHERE h.id.ancestorId = :taskId AND h.depth > 0")
+    TaskRollup rollup(@Param("taskId") Long taskId);
+}
@@ -0,0 +1,11 @@
+package com.synergyhub.repository;
+
+/**
+ * Orders a task list can be read in; each ends with the id so that it is a total order for keyset paging.
+ */
+public enum TaskListOrder {
+    /** priority DESC, createdAt ASC, id ASC; the default for every list */
+    PRIORITY,
+    /** boardRank ASC, id ASC; the manual order set by dragging tasks on the board or backlog */
+    RANK
+}
@@ -0,0 +1,41 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Projection queries behind task list and board views; mixed into {@link TaskRepository}.
+ */
+public interface TaskListQueryRepository {
+
+    /**
+     * Rows matching the specification in (priority DESC, createdAt ASC, id ASC) order, in a single query.
+     *
+     * @param viewerId user for {@link TaskListRow#viewerWatching()}
+     * @param limit    maximum rows, or 0 for no limit
+     */
+    List<TaskListRow> findListRows(Specification<Task> spec, Long viewerId, int limit);
+
+    /**
+     * Rows matching the specification in the given order, in a single query.
+     *
+     * @param viewerId user for {@link TaskListRow#viewerWatching()}
+     * @param limit    maximum rows, or 0 for no limit
+     */
+    List<TaskListRow> findListRows(Specification<Task> spec, TaskListOrder order, Long viewerId, int limit);
+
+    /**
+     * Linked tasks of all the given tasks, in a single query.
+     */
+    List<TaskListRow.Link> findLinks(Collection<Long> taskIds);
+
+    /**
+     * Ids, projects and statuses of the tasks matching the specification, without loading them.
+     *
+     * @param limit maximum rows, or 0 for no limit
+     */
+    List<TaskListRow.Ref> findRefs(Specification<Task> spec, int limit);
+}
@@ -0,0 +1,119 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+class TaskListQueryRepositoryImpl implements TaskListQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskListRow> findListRows(Specification<Task> spec, Long viewerId, int limit) {
+        return findListRows(spec, TaskListOrder.PRIORITY, viewerId, limit);
+    }
+
+    @Override
+    public List<TaskListRow> findListRows(Specification<Task> spec, TaskListOrder order, Long viewerId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow> query = cb.createQuery(TaskListRow.class);
+        Root<Task> task = query.from(Task.class);
+
+        Join<Object, Object> project = task.join("project");
+        Join<Object, Object> reporter = task.join("reporter");
+        Join<Object, Object> sprint = task.join("sprint", JoinType.LEFT);
+        Join<Object, Object> parent = task.join("parentTask", JoinType.LEFT);
+        Join<Object, Object> epic = task.join("epic", JoinType.LEFT);
+        Join<Object, Object> assignee = task.join("assignee", JoinType.LEFT);
+
+        query.select(cb.construct(TaskListRow.class,
+                task.get("id"), task.get("title"), task.get("description"),
+                task.get("status"), task.get("priority"), task.get("type"),
+                project.get("id"), project.get("name"),
+                sprint.get("id"), sprint.get("name"),
+                parent.get("id"), parent.get("title"),
+                epic.get("id"), epic.get("title"),
+                reporter.get("id"), reporter.get("name"), reporter.get("email"),
+                assignee.get("id"), assignee.get("name"), assignee.get("email"),
+                task.get("storyPoints"), task.get("dueDate"), task.get("createdAt"), task.get("updatedAt"),
+                task.get("archived"),
+                task.get("boardRank"),
+                task.get("subtaskCount"),
+                task.get("completedSubtaskCount"),
+                task.get("watchersCount"),
+                countWatching(query, cb, task, viewerId)));
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (order == TaskListOrder.RANK) {
+            query.orderBy(cb.asc(task.get("boardRank")), cb.asc(task.get("id")));
+        } else {
+            query.orderBy(cb.desc(task.get("priority")), cb.asc(task.get("createdAt")), cb.asc(task.get("id")));
+        }
+
+        TypedQuery<TaskListRow> typed = entityManager.createQuery(query);
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+
+    @Override
+    public List<TaskListRow.Ref> findRefs(Specification<Task> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow.Ref> query = cb.createQuery(TaskListRow.Ref.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.construct(TaskListRow.Ref.class, task.get("id"), task.get("project").get("id"), task.get("status")));
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(task.get("id")));
+
+        TypedQuery<TaskListRow.Ref> typed = entityManager.createQuery(query);
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+
+    @Override
+    public List<TaskListRow.Link> findLinks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        "SELECT new com.synergyhub.repository.TaskListRow$Link(" +
+                                "t.id, l.id, l.title, l.status, l.priority, l.type, l.storyPoints, l.dueDate, l.archived) " +
+                                "FROM Task t JOIN t.linkedTasks l WHERE t.id IN :taskIds", TaskListRow.Link.class)
+                .setParameter("taskIds", taskIds)
+                .getResultList();
+    }
+
+    /**
+     * 1 if {@code userId} watches the task, else 0; one probe of the task_watchers(user_id, task_id) index.
+     */
+    private static Subquery<Long> countWatching(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Task> task, Long userId) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Task> correlated = subquery.correlate(task);
+        Join<Task, User> watcher = correlated.join("watchers");
+        return subquery.select(cb.count(watcher)).where(cb.equal(watcher.get("id"), userId));
+    }
+}
@@ -0,0 +1,57 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.domain.enums.TaskType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task for list and board views, with the per-task aggregates
+ * computed in SQL. Built by {@link TaskListQueryRepository}; never hydrates a {@code Task}.
+ */
+public record TaskListRow(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        TaskType type,
+        Long projectId,
+        String projectName,
+        Long sprintId,
+        String sprintName,
+        Long parentTaskId,
+        String parentTaskTitle,
+        Long epicId,
+        String epicTitle,
+        Long reporterId,
+        String reporterName,
+        String reporterEmail,
+        Long assigneeId,
+        String assigneeName,
+        String assigneeEmail,
+        Integer storyPoints,
+        LocalDateTime dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean archived,
+        String boardRank,
+        Integer subtaskCount,
+        Integer completedSubtaskCount,
+        Integer watchersCount,
+        Long viewerWatching) {
+
+    /**
+     * Linked task of a listed task, loaded for a whole page at once.
+     */
+    public record Link(Long taskId, Long id, String title, TaskStatus status, TaskPriority priority, TaskType type,
+                       Integer storyPoints, LocalDateTime dueDate, Boolean archived) {
+    }
+
+    /**
+     * Identity, project and status of a task selected for a bulk operation.
+     */
+    public record Ref(Long id, Long projectId, TaskStatus status) {
+    }
+}
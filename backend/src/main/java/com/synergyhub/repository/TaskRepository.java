@@ -1,17 +1,23 @@
 package com.synergyhub.repository;
 
+import com.synergyhub.domain.entity.Sprint;
 import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskPriority;
 import com.synergyhub.domain.enums.TaskStatus;
 import com.synergyhub.domain.enums.TaskType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskListQueryRepository {
 
     // CRITICAL: These methods leak data across organizations! They should only be used internally
     // with proper organization context checking
@@ -94,4 +100,148 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @org.springframework.data.jpa.repository.Modifying
     @Query(value = "DELETE FROM task_links WHERE linked_task_id = :taskId", nativeQuery = true)
     void deleteIncomingLinks(@Param("taskId") Long taskId);
+
+    // Set-based subtree delete; the rows are never loaded as entities
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM task_links WHERE task_id IN (:taskIds) OR linked_task_id IN (:taskIds)", nativeQuery = true)
+    int bulkDeleteLinks(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int bulkDeleteLabels(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM task_watchers WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int bulkDeleteWatchers(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Detaches the epic children of the given tasks and unlinks the tasks from their parents, so that
+     * {@link #bulkDelete} can remove them in any order.
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE tasks SET epic_id = CASE WHEN epic_id IN (:taskIds) THEN NULL ELSE epic_id END, " +
+            "parent_task_id = CASE WHEN task_id IN (:taskIds) THEN NULL ELSE parent_task_id END " +
+            "WHERE epic_id IN (:taskIds) OR task_id IN (:taskIds)", nativeQuery = true)
+    int bulkDetach(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM tasks WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int bulkDelete(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findProjectIdById(@Param("taskId") Long taskId);
+
+    // Watchers are read and written through the join table directly so the watcher set never has to be loaded
+
+    // Native scalars come back as the column's JDBC type (INT or BIGINT depending on the schema), hence Number
+    @Query(value = "SELECT task_id FROM task_watchers WHERE user_id = :userId AND task_id IN (:taskIds)", nativeQuery = true)
+    List<Number> findWatchedTaskIds(@Param("taskIds") Collection<Long> taskIds, @Param("userId") Long userId);
+
+    // INSERT IGNORE leaves a concurrent duplicate to the primary key: it reports 0 rows instead of failing
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "INSERT IGNORE INTO task_watchers (task_id, user_id) VALUES (:taskId, :userId)", nativeQuery = true)
+    int addWatcher(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM task_watchers WHERE task_id = :taskId AND user_id = :userId", nativeQuery = true)
+    int removeWatcher(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE tasks SET watchers_count = watchers_count + :delta WHERE task_id = :taskId", nativeQuery = true)
+    void adjustWatchersCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    // Subtask counters; children are never loaded to keep them up to date
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE tasks SET subtask_count = subtask_count + :totalDelta, " +
+            "completed_subtask_count = completed_subtask_count + :completedDelta WHERE task_id = :taskId", nativeQuery = true)
+    void adjustSubtaskCounts(@Param("taskId") Long taskId, @Param("totalDelta") int totalDelta,
+                             @Param("completedDelta") int completedDelta);
+
+    /**
+     * (parent id, status, count) of the subtasks among {@code taskIds}.
+     */
+    @Query("SELECT t.parentTask.id, t.status, COUNT(t) FROM Task t " +
+            "WHERE t.id IN :taskIds AND t.parentTask IS NOT NULL GROUP BY t.parentTask.id, t.status")
+    List<Object[]> countSubtasksByParentAndStatus(@Param("taskIds") Collection<Long> taskIds);
+
+    // Manual ranking; a move writes only the moved task's rank
+
+    @Query("SELECT MAX(t.boardRank) FROM Task t WHERE t.project.id = :projectId")
+    Optional<String> findLastRank(@Param("projectId") Long projectId);
+
+    /**
+     * (task id, project id, rank) of each of {@code taskIds}.
+     */
+    @Query("SELECT t.id, t.project.id, t.boardRank FROM Task t WHERE t.id IN :taskIds")
+    List<Object[]> findRanks(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE tasks SET board_rank = :rank WHERE task_id = :taskId", nativeQuery = true)
+    int updateRank(@Param("taskId") Long taskId, @Param("rank") String rank);
+
+    // Set-based writes for bulk operations; they bypass the persistence context, so callers must not hold loaded tasks
+
+    // Same eligibility and BACKLOG -> TO_DO transition as moving a single task
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.sprint = :sprint, t.updatedAt = CURRENT_TIMESTAMP, " +
+            "t.status = CASE WHEN t.status = com.synergyhub.domain.enums.TaskStatus.BACKLOG " +
+            "THEN com.synergyhub.domain.enums.TaskStatus.TO_DO ELSE t.status END " +
+            "WHERE t.id IN :taskIds AND t.status IN :movable AND (t.sprint IS NULL OR t.sprint <> :sprint)")
+    int bulkMoveToSprint(@Param("taskIds") Collection<Long> taskIds, @Param("sprint") Sprint sprint,
+                         @Param("movable") Collection<TaskStatus> movable);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.sprint = null, t.status = com.synergyhub.domain.enums.TaskStatus.BACKLOG, " +
+            "t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :taskIds " +
+            "AND (t.sprint IS NOT NULL OR t.status <> com.synergyhub.domain.enums.TaskStatus.BACKLOG)")
+    int bulkMoveToBacklog(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.sprint = :sprint, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :taskIds")
+    int bulkSetSprint(@Param("taskIds") Collection<Long> taskIds, @Param("sprint") Sprint sprint);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE t.id IN :taskIds AND t.status NOT IN (com.synergyhub.domain.enums.TaskStatus.DONE, " +
+            "com.synergyhub.domain.enums.TaskStatus.CANCELLED) AND (t.assignee IS NULL OR t.assignee <> :assignee)")
+    int bulkAssign(@Param("taskIds") Collection<Long> taskIds, @Param("assignee") User assignee);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = CURRENT_TIMESTAMP WHERE t.parentTask.id = :parentId " +
+            "AND t.type = com.synergyhub.domain.enums.TaskType.TASK AND (t.assignee IS NULL OR t.assignee <> :assignee)")
+    int assignChildTasks(@Param("parentId") Long parentId, @Param("assignee") User assignee);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.assignee = null, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :taskIds AND t.assignee IS NOT NULL")
+    int bulkUnassign(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :taskIds AND t.type = com.synergyhub.domain.enums.TaskType.STORY")
+    List<Long> findStoryIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = CURRENT_TIMESTAMP WHERE t.parentTask.id IN :parentIds " +
+            "AND t.type = com.synergyhub.domain.enums.TaskType.TASK AND (t.assignee IS NULL OR t.assignee <> :assignee)")
+    int bulkAssignChildTasks(@Param("parentIds") Collection<Long> parentIds, @Param("assignee") User assignee);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.assignee = null, t.updatedAt = CURRENT_TIMESTAMP WHERE t.parentTask.id IN :parentIds " +
+            "AND t.type = com.synergyhub.domain.enums.TaskType.TASK AND t.assignee IS NOT NULL")
+    int bulkUnassignChildTasks(@Param("parentIds") Collection<Long> parentIds);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :taskIds AND t.priority <> :priority")
+    int bulkSetPriority(@Param("taskIds") Collection<Long> taskIds, @Param("priority") TaskPriority priority);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :taskIds AND t.status <> :status")
+    int bulkSetStatus(@Param("taskIds") Collection<Long> taskIds, @Param("status") TaskStatus status);
+
+    @Query(value = "SELECT task_id, label FROM task_labels WHERE task_id IN (:taskIds) AND label IN (:labels)", nativeQuery = true)
+    List<Object[]> findLabelPairs(@Param("taskIds") Collection<Long> taskIds, @Param("labels") Collection<String> labels);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds) AND label IN (:labels)", nativeQuery = true)
+    int bulkRemoveLabels(@Param("taskIds") Collection<Long> taskIds, @Param("labels") Collection<String> labels);
 }
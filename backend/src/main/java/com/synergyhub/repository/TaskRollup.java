@@ -0,0 +1,15 @@
+package com.synergyhub.repository;
+
+/**
+ * Totals over all descendants of a task, read from the closure table in one query.
+ */
+public interface TaskRollup {
+
+    long getTaskCount();
+
+    long getCompletedCount();
+
+    long getTotalPoints();
+
+    long getCompletedPoints();
+}
@@ -0,0 +1,104 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.ProjectMember;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria building blocks for task list queries run through {@link TaskListQueryRepository#findListRows}.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inOrganization(Long organizationId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("organization").get("id"), organizationId);
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> inSprint(Long sprintId) {
+        return (root, query, cb) -> cb.equal(root.get("sprint").get("id"), sprintId);
+    }
+
+    public static Specification<Task> inBacklog() {
+        return (root, query, cb) -> cb.isNull(root.get("sprint"));
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), userId);
+    }
+
+    public static Specification<Task> idIn(Collection<Long> taskIds) {
+        return (root, query, cb) -> root.get("id").in(taskIds);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Tasks of projects the user is a member of.
+     */
+    public static Specification<Task> visibleTo(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> memberships = query.subquery(Long.class);
+            Root<ProjectMember> member = memberships.from(ProjectMember.class);
+            memberships.select(member.get("project").get("id"))
+                    .where(cb.equal(member.get("user").get("id"), userId));
+            return root.get("project").get("id").in(memberships);
+        };
+    }
+
+    public static Specification<Task> watchedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.join("watchers").get("id"), userId);
+    }
+
+    /**
+     * Rows strictly after the given row in (priority DESC, createdAt ASC, id ASC) order.
+     * <p>
+     * On MySQL, priority is an ENUM that sorts by declaration order but compares with a bound value as a
+     * string, so "lower priority" is expressed as an IN list of the lower constants rather than a {@code <}.
+     */
+    public static Specification<Task> after(TaskPriority priority, LocalDateTime createdAt, Long id) {
+        List<TaskPriority> lower = Arrays.stream(TaskPriority.values())
+                .filter(candidate -> candidate.compareTo(priority) < 0)
+                .toList();
+        return (root, query, cb) -> cb.or(
+                lower.isEmpty() ? cb.disjunction() : root.get("priority").in(lower),
+                cb.and(
+                        cb.equal(root.get("priority"), priority),
+                        cb.or(
+                                cb.greaterThan(root.<LocalDateTime>get("createdAt"), createdAt),
+                                cb.and(
+                                        cb.equal(root.get("createdAt"), createdAt),
+                                        cb.greaterThan(root.<Long>get("id"), id)))));
+    }
+
+    /**
+     * Rows strictly after the given row in (boardRank ASC, id ASC) order.
+     */
+    public static Specification<Task> afterRank(String rank, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.<String>get("boardRank"), rank),
+                cb.and(
+                        cb.equal(root.get("boardRank"), rank),
+                        cb.greaterThan(root.<Long>get("id"), id)));
+    }
+}
@@ -14,6 +14,14 @@ import java.util.Optional;
 
 @Repository
 public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+
+    /**
+     * Minimal view used to build the in-memory revocation index.
+     */
+    interface RevokedSessionView {
+        String getTokenId();
+        LocalDateTime getExpiresAt();
+    }
     
     Optional<UserSession> findByTokenId(String tokenId);
     
@@ -21,16 +29,35 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     
     @Query("SELECT s FROM UserSession s WHERE s.user = :user AND s.revoked = false AND s.expiresAt > :now")
     List<UserSession> findActiveSessionsByUser(@Param("user") User user, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.tokenId AS tokenId, s.expiresAt AS expiresAt FROM UserSession s " +
+           "WHERE s.revoked = true AND s.expiresAt > :now")
+    List<RevokedSessionView> findRevokedUnexpiredSessions(@Param("now") LocalDateTime now);
+
+    @Query("SELECT s.tokenId AS tokenId, s.expiresAt AS expiresAt FROM UserSession s " +
+           "WHERE s.revoked = true AND s.revokedAt >= :since AND s.expiresAt > :now")
+    List<RevokedSessionView> findSessionsRevokedSince(@Param("since") LocalDateTime since,
+                                                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.tokenId AS tokenId, s.expiresAt AS expiresAt FROM UserSession s " +
+           "WHERE s.user.id = :userId AND s.expiresAt > :now")
+    List<RevokedSessionView> findUnexpiredSessionsByUserId(@Param("userId") Long userId,
+                                                           @Param("now") LocalDateTime now);
     
     @Modifying
-    @Query("UPDATE UserSession s SET s.revoked = true WHERE s.user = :user AND s.revoked = false")
-    void revokeAllUserSessions(@Param("user") User user);
+    @Query("UPDATE UserSession s SET s.revoked = true, s.revokedAt = :revokedAt " +
+           "WHERE s.user = :user AND s.revoked = false")
+    void revokeAllUserSessions(@Param("user") User user, @Param("revokedAt") LocalDateTime revokedAt);
     
     @Modifying
-    @Query("UPDATE UserSession s SET s.revoked = true WHERE s.tokenId = :tokenId")
-    void revokeSessionByTokenId(@Param("tokenId") String tokenId);
-    
+    @Query("UPDATE UserSession s SET s.revoked = true, s.revokedAt = :revokedAt " +
+           "WHERE s.tokenId = :tokenId AND s.revoked = false")
+    void revokeSessionByTokenId(@Param("tokenId") String tokenId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Revoked sessions are kept until they expire so the revocation index can be rebuilt on startup.
+     */
     @Modifying
-    @Query("DELETE FROM UserSession s WHERE s.expiresAt < :now OR s.revoked = true")
-    int cleanupExpiredAndRevokedSessions(@Param("now") LocalDateTime now);
-}
\ No newline at end of file
+    @Query("DELETE FROM UserSession s WHERE s.expiresAt < :now")
+    int deleteExpiredSessions(@Param("now") LocalDateTime now);
+}
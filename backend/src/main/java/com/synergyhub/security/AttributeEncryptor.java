@@ -1,33 +1,94 @@
 package com.synergyhub.security;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Encrypts entity attributes at rest with AES-GCM.
+ *
+ * Stored format is {@code v<keyVersion>:<base64(iv || ciphertext || tag)>}, so keys can be rotated by adding
+ * a new version and switching {@code app.security.db-encryption-key-version}; old versions stay readable
+ * and {@link AttributeReencryptionJob} rewrites their rows in the background. Values without a version
+ * prefix are legacy AES/ECB ciphertext under {@code app.security.db-encryption-key}.
+ * Cipher instances are confined to the calling thread and reused.
+ */
 @Component
 @Converter
 public class AttributeEncryptor implements AttributeConverter<String, String> {
 
     private static final String ALGORITHM = "AES";
-    
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private static final ThreadLocal<Cipher> GCM_CIPHER = ThreadLocal.withInitial(() -> newCipher(TRANSFORMATION));
+    private static final ThreadLocal<Cipher> LEGACY_CIPHER = ThreadLocal.withInitial(() -> newCipher(LEGACY_TRANSFORMATION));
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
     // In production, fetch this from HashiCorp Vault, AWS Secrets Manager, or Env Vars
-    @Value("${app.security.db-encryption-key}") 
-    private String secretKey; 
+    @Value("${app.security.db-encryption-key}")
+    private String secretKey;
+
+    // Additional versions as "version:base64Key" pairs, e.g. "2:q83v...,3:Zm9v..."; version 1 is db-encryption-key
+    @Value("${app.security.db-encryption-keys:}")
+    private String versionedKeys;
+
+    @Value("${app.security.db-encryption-key-version:1}")
+    private int currentVersion;
+
+    private final Map<Integer, SecretKeySpec> keys = new HashMap<>();
+    private SecretKeySpec legacyKey;
+    private String currentPrefix;
+
+    @PostConstruct
+    void initKeys() {
+        legacyKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        keys.put(1, legacyKey);
+        if (StringUtils.hasText(versionedKeys)) {
+            for (String entry : versionedKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2) {
+                    throw new IllegalStateException("Invalid app.security.db-encryption-keys entry; expected version:base64Key");
+                }
+                keys.put(Integer.parseInt(parts[0].trim()),
+                        new SecretKeySpec(Base64.getDecoder().decode(parts[1].trim()), ALGORITHM));
+            }
+        }
+        if (!keys.containsKey(currentVersion)) {
+            throw new IllegalStateException("No database encryption key configured for version " + currentVersion);
+        }
+        currentPrefix = prefix(currentVersion);
+    }
 
     @Override
     public String convertToDatabaseColumn(String attribute) {
         if (attribute == null) return null;
         try {
-            // Initialize Cipher for ENCRYPT_MODE
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey.getBytes(), ALGORITHM));
-            return Base64.getEncoder().encodeToString(cipher.doFinal(attribute.getBytes()));
-        } catch (Exception e) {
+            byte[] iv = new byte[IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = GCM_CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(currentVersion), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] encrypted = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
+            byte[] payload = ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+            return currentPrefix + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
             throw new IllegalStateException("Error encrypting data", e);
         }
     }
@@ -36,12 +97,57 @@ public class AttributeEncryptor implements AttributeConverter<String, String> {
     public String convertToEntityAttribute(String dbData) {
         if (dbData == null) return null;
         try {
-            // Initialize Cipher for DECRYPT_MODE
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(secretKey.getBytes(), ALGORITHM));
-            return new String(cipher.doFinal(Base64.getDecoder().decode(dbData)));
-        } catch (Exception e) {
+            int version = versionOf(dbData);
+            if (version < 0) {
+                Cipher cipher = LEGACY_CIPHER.get();
+                cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+                return new String(cipher.doFinal(Base64.getDecoder().decode(dbData)), StandardCharsets.UTF_8);
+            }
+            SecretKeySpec key = keys.get(version);
+            if (key == null) {
+                throw new IllegalStateException("No database encryption key configured for version " + version);
+            }
+            byte[] payload = Base64.getDecoder().decode(dbData.substring(dbData.indexOf(':') + 1));
+            Cipher cipher = GCM_CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, payload, 0, IV_LENGTH));
+            return new String(cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
             throw new IllegalStateException("Error decrypting data", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Prefix of values written with the current key version, for finding stale rows.
+     */
+    public String getCurrentPrefix() {
+        return currentPrefix;
+    }
+
+    /**
+     * Version from the "v<n>:" prefix, or -1 for legacy (unprefixed) values.
+     * Legacy Base64 ciphertext cannot contain ':', so the prefix is unambiguous.
+     */
+    private static int versionOf(String dbData) {
+        int colon = dbData.indexOf(':');
+        if (colon < 2 || dbData.charAt(0) != 'v') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(dbData.substring(1, colon));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String prefix(int version) {
+        return "v" + version + ":";
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher " + transformation + " is not available", e);
+        }
+    }
+}
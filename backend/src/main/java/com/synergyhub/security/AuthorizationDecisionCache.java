@@ -0,0 +1,94 @@
+package com.synergyhub.security;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Request-scoped memo of authorization decisions keyed by (subject, permission, resource), shared by
+ * {@code @PreAuthorize} expressions and inline checks in services, so the same question is evaluated
+ * once per request. Also counts the database queries issued to answer them; see
+ * {@link AuthorizationStatsResponseAdvice}. Outside a request every check is evaluated directly.
+ */
+@Component
+public class AuthorizationDecisionCache {
+
+    private static final String REQUEST_ATTRIBUTE = AuthorizationDecisionCache.class.getName() + ".STATS";
+
+    private record DecisionKey(Long subjectId, String permission, Object resourceId) {
+    }
+
+    /**
+     * Per-request decisions and counters.
+     */
+    public static final class RequestStats {
+        private final Map<DecisionKey, Boolean> decisions = new HashMap<>();
+        private int evaluated;
+        private int cached;
+        private int queries;
+
+        public int getEvaluated() {
+            return evaluated;
+        }
+
+        public int getCached() {
+            return cached;
+        }
+
+        public int getQueries() {
+            return queries;
+        }
+    }
+
+    public boolean check(Long subjectId, String permission, Object resourceId, BooleanSupplier evaluator) {
+        RequestStats stats = currentStats(true);
+        if (stats == null) {
+            return evaluator.getAsBoolean();
+        }
+        DecisionKey key = new DecisionKey(subjectId, permission, resourceId);
+        Boolean decision = stats.decisions.get(key);
+        if (decision != null) {
+            stats.cached++;
+            return decision;
+        }
+        // Not computeIfAbsent: evaluators may themselves call check() for a coarser permission
+        boolean result = evaluator.getAsBoolean();
+        stats.decisions.put(key, result);
+        stats.evaluated++;
+        return result;
+    }
+
+    /**
+     * Called by loaders that hit the database to answer an authorization question.
+     */
+    public void recordQuery() {
+        RequestStats stats = currentStats(true);
+        if (stats != null) {
+            stats.queries++;
+        }
+    }
+
+    /**
+     * Stats of the current request, or null if nothing was checked or there is no request.
+     */
+    public static RequestStats currentStats() {
+        return currentStats(false);
+    }
+
+    private static RequestStats currentStats(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        RequestStats stats = (RequestStats) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stats == null && create) {
+            stats = new RequestStats();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, stats, RequestAttributes.SCOPE_REQUEST);
+        }
+        return stats;
+    }
+}
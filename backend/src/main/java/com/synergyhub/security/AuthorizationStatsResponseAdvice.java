@@ -0,0 +1,46 @@
+package com.synergyhub.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports how many authorization checks and queries a request needed, so regressions show up in
+ * the browser network tab or a load test. The header is added only when
+ * {@code app.security.authz-stats-header} is enabled; the debug log line is always available.
+ */
+@RestControllerAdvice
+@Slf4j
+public class AuthorizationStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Authz-Stats";
+
+    @Value("${app.security.authz-stats-header:false}")
+    private boolean headerEnabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return headerEnabled || log.isDebugEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        AuthorizationDecisionCache.RequestStats stats = AuthorizationDecisionCache.currentStats();
+        if (stats != null) {
+            String value = "evaluated=" + stats.getEvaluated() + ", cached=" + stats.getCached() + ", queries=" + stats.getQueries();
+            if (headerEnabled) {
+                response.getHeaders().set(HEADER, value);
+            }
+            log.debug("Authorization for {} {}: {}", request.getMethod(), request.getURI().getPath(), value);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,134 @@
+package com.synergyhub.security;
+
+import com.synergyhub.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the (deliberately slow) delegate encoder on a dedicated, size-limited pool with a bounded wait queue.
+ * A login or registration flood therefore occupies at most {@code threads} CPUs; callers that cannot get
+ * a slot within {@code maxWaitMs} fail fast with {@link TooManyRequestsException} instead of piling up
+ * on request threads and starving unrelated APIs.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMs) {
+        this.delegate = delegate;
+        this.maxWaitMs = maxWaitMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Scheduled(fixedRateString = "${app.security.password-hashing.stats-log-interval-ms:600000}")
+    public void logStats() {
+        long count = completed.sum();
+        long avgMs = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalHashNanos.sum() / count);
+        log.info("Password hashing: active={}, queued={}, completed={}, rejected={}, avgHashMs={}, maxHashMs={}",
+                getActiveCount(), getQueueDepth(), count, getRejectedCount(), avgMs,
+                TimeUnit.NANOSECONDS.toMillis(maxHashNanos.get()));
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(hash));
+        } catch (RejectedExecutionException e) {
+            throw overloaded("queue full");
+        }
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A task still waiting in the queue is skipped once cancelled
+            future.cancel(false);
+            throw overloaded("timed out waiting for a hashing slot");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw overloaded("interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> hash) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return hash.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            completed.increment();
+            totalHashNanos.add(elapsed);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private TooManyRequestsException overloaded(String reason) {
+        rejected.increment();
+        log.warn("Password hashing overloaded ({}): active={}, queued={}", reason, getActiveCount(), getQueueDepth());
+        return new TooManyRequestsException("Server is busy. Please try again in a moment.");
+    }
+}
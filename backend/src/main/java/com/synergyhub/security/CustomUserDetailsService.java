@@ -39,4 +39,16 @@ public class CustomUserDetailsService implements UserDetailsService {
             return UserPrincipal.create(user);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds a principal from verified access-token claims and the user's cached snapshot without a query.
+     * The user entity (memberships, roles, permissions) is only loaded if a caller
+     * actually asks for it via {@link UserPrincipal#getUser()}.
+     */
+    public UserPrincipal loadUserFromClaims(ResolvedUser snapshot, String email, String name, int tokenVersion) {
+        Long id = snapshot.getId();
+        return UserPrincipal.fromClaims(id, email, name, tokenVersion, snapshot,
+                () -> userRepository.findByIdWithRolesAndPermissions(id)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id)));
+    }
+}
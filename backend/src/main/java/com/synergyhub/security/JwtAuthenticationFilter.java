@@ -1,5 +1,6 @@
 package com.synergyhub.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -17,17 +18,18 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.synergyhub.service.auth.SessionService;
-
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final SessionService sessionService;
+    private final SessionRevocationIndex sessionRevocationIndex;
+    private final SessionActivityTracker sessionActivityTracker;
     private final CustomUserDetailsService customUserDetailsService;
+    private final ResolvedUserCache resolvedUserCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -35,11 +37,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String authHeader = request.getHeader("Authorization");
             final String jwt;
-            final String userEmail;
 
                 if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 jwt = authHeader.substring(7);
-                userEmail = tokenProvider.getEmailFromToken(jwt);
+                // Signature, expiry and algorithm are verified exactly once per request
+                Claims claims = tokenProvider.parseClaims(jwt);
                 
                 // Extract and set Organization Context
                 String orgIdStr = request.getHeader("X-Organization-ID");
@@ -52,17 +54,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
                 }
 
-                if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = this.customUserDetailsService.loadUserByUsername(userEmail);
-                    if (tokenProvider.validateToken(jwt)) {
-                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                    }
+                String userEmail = claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class);
+                if (isRevoked(claims) || isSuperseded(claims)) {
+                    log.debug("Revoked JWT token from IP: {}", request.getRemoteAddr());
+                    response.setHeader("X-Auth-Error", "TOKEN_REVOKED");
+                } else if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    UserDetails userDetails = resolvePrincipal(claims, userEmail);
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    sessionActivityTracker.recordAccess(claims.getId());
                 }
             }
         } catch (ExpiredJwtException ex) {
@@ -96,6 +101,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private boolean isRevoked(Claims claims) {
+        Long userId = null;
+        try {
+            userId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            // Subject is not a user id; only the jti check applies
+        }
+        return sessionRevocationIndex.isRevoked(claims.getId(), userId, claims.getIssuedAt());
+    }
+
+    /**
+     * A token carrying a token version is only valid while it matches the user's current version, which is
+     * bumped on password change/reset and on "log out everywhere". The version comes from the cached user
+     * snapshot, which is evicted after those changes commit, so this costs no query on a cache hit.
+     */
+    private boolean isSuperseded(Claims claims) {
+        if (!tokenProvider.hasTokenVersion(claims)) {
+            return false;
+        }
+        Long userId;
+        try {
+            userId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        int tokenVersion = tokenProvider.getTokenVersion(claims);
+        return resolvedUserCache.find(userId)
+                .map(user -> user.getTokenVersion() != tokenVersion)
+                .orElse(true);
+    }
+
+    /**
+     * Access tokens issued with principal claims are turned into a principal from the claims and the cached
+     * user snapshot (already loaded by the token version check); anything else (legacy access tokens,
+     * temporary 2FA tokens) falls back to the user lookup.
+     */
+    private UserDetails resolvePrincipal(Claims claims, String userEmail) {
+        if (tokenProvider.hasPrincipalClaims(claims)) {
+            Optional<ResolvedUser> snapshot = resolvedUserCache.find(Long.parseLong(claims.getSubject()));
+            if (snapshot.isPresent()) {
+                return customUserDetailsService.loadUserFromClaims(
+                        snapshot.get(),
+                        userEmail,
+                        claims.get(JwtTokenProvider.CLAIM_NAME, String.class),
+                        tokenProvider.getTokenVersion(claims));
+            }
+        }
+        return customUserDetailsService.loadUserByUsername(userEmail);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
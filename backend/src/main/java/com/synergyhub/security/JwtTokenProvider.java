@@ -28,6 +28,18 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long jwtRefreshExpirationMs;
 
+    // When enabled, access tokens carrying principal claims are authenticated without a user lookup
+    @Value("${jwt.claims-principal-enabled:true}")
+    private boolean claimsPrincipalEnabled;
+
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_NAME = "name";
+    static final String CLAIM_TOKEN_VERSION = "tv";
+
+    // Built once on startup - key derivation and parser construction are not free
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     // ✅ Validate key strength on startup
     @PostConstruct
     private void validateSecretKey() {
@@ -49,12 +61,16 @@ public class JwtTokenProvider {
         }
         log.info("JWT secret key validated successfully (length: {} bytes)", 
                   jwtSecret.getBytes(StandardCharsets.UTF_8).length);
+
+        // Use the JCA name for HS512 directly
+        this.signingKey = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA512");
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        // Use the JCA name for HS512 directly
-        return new SecretKeySpec(keyBytes, "HmacSHA512");
+        return signingKey;
     }
 
     public String generateToken(Authentication authentication) {
@@ -76,6 +92,27 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Generates an access token that carries everything the request filter needs
+     * to build a {@link UserPrincipal} without loading the user: display name and
+     * the user's token version, which the request filter checks against the user's current one.
+     */
+    public String generateAccessToken(Long userId, String email, String name, int tokenVersion) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim(CLAIM_EMAIL, email)
+                .claim(CLAIM_NAME, name)
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                .claim("jti", UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+
     public String generateTemporaryToken(Long userId, String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + 300000); // 5 minutes
@@ -107,45 +144,66 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
         return Long.parseLong(claims.getSubject());
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
         return claims.get("email", String.class);
     }
 
     public String getTokenIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
         return claims.get("jti", String.class);
     }
 
     public boolean isTemporaryToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
 
         return claims.get("temp", Boolean.class) != null && claims.get("temp", Boolean.class);
     }
 
+    /**
+     * Verifies the token exactly once and returns its claims.
+     * Parsing failures propagate as the usual JJWT exceptions so callers can
+     * distinguish expired, malformed and tampered tokens.
+     */
+    public Claims parseClaims(String token) {
+        Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+
+        // ✅ Only HS512 is ever issued - reject anything else before trusting the payload
+        String tokenAlgorithm = jws.getHeader().getAlgorithm();
+        if (!Jwts.SIG.HS512.getId().equals(tokenAlgorithm)) {
+            throw new UnsupportedJwtException("Invalid JWT algorithm: " + tokenAlgorithm);
+        }
+        return jws.getPayload();
+    }
+
+    /**
+     * True when the claims describe a regular access token that was issued with
+     * principal claims. Temporary (2FA) and refresh tokens, as well as access tokens
+     * issued before principal claims existed, must go through the user lookup.
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claimsPrincipalEnabled
+                && hasTokenVersion(claims)
+                && !Boolean.TRUE.equals(claims.get("temp", Boolean.class))
+                && !Boolean.TRUE.equals(claims.get("refresh", Boolean.class));
+    }
+
+    public boolean hasTokenVersion(Claims claims) {
+        return claims.get(CLAIM_TOKEN_VERSION) != null;
+    }
+
+    public int getTokenVersion(Claims claims) {
+        Number version = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return version != null ? version.intValue() : 0;
+    }
+
     /**
      * Extracts the JWT token from the Authorization header of the request.
      */
@@ -160,10 +218,7 @@ public class JwtTokenProvider {
     public boolean validateToken(String authToken) {
         try {
             // 1. Parse the token
-            Jws<Claims> jws = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
+            Jws<Claims> jws = jwtParser.parseSignedClaims(authToken);
 
             // 2. ✅ Explicitly validate the algorithm in the header
             // This ensures strictly HS512 is used, preventing any subtle confusion attacks
@@ -0,0 +1,67 @@
+package com.synergyhub.security;
+
+import com.synergyhub.domain.entity.UserOrganization.MembershipStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Immutable answer to "is user U in organization O, and with which role", built by
+ * {@link OrganizationMembershipResolver} from the cached {@link ResolvedUser} snapshot.
+ */
+@Getter
+@AllArgsConstructor
+public class OrganizationMembership {
+
+    public static final String GLOBAL_ADMIN_ROLE = "GLOBAL_ADMIN";
+    public static final String ORG_ADMIN_ROLE = "ORG_ADMIN";
+
+    private final Long userId;
+    private final Long organizationId;
+    private final boolean member;
+    private final boolean globalAdmin;
+    private final Long roleId;
+    private final String roleName;
+    private final Set<String> permissionNames;
+    private final MembershipStatus status;
+
+    static OrganizationMembership of(ResolvedUser user, Long organizationId) {
+        boolean globalAdmin = user.getRoleNames(null).contains(GLOBAL_ADMIN_ROLE);
+        if (organizationId != null) {
+            for (ResolvedUser.Membership m : user.getMemberships()) {
+                if (organizationId.equals(m.getOrganizationId())) {
+                    return new OrganizationMembership(user.getId(), organizationId, true, globalAdmin,
+                            m.getRoleId(), m.getRoleName(), m.getPermissionNames(), m.getStatus());
+                }
+            }
+        }
+        return new OrganizationMembership(user.getId(), organizationId, false, globalAdmin, null, null, Set.of(), null);
+    }
+
+    static OrganizationMembership none(Long userId, Long organizationId) {
+        return new OrganizationMembership(userId, organizationId, false, false, null, null, Set.of(), null);
+    }
+
+    /**
+     * Members and GLOBAL_ADMIN users may access the organization.
+     */
+    public boolean hasAccess() {
+        return member || globalAdmin;
+    }
+
+    public boolean isOrgAdmin() {
+        return member && ORG_ADMIN_ROLE.equals(roleName);
+    }
+
+    /**
+     * ORG_ADMIN of this organization, or GLOBAL_ADMIN.
+     */
+    public boolean canAdminister() {
+        return globalAdmin || isOrgAdmin();
+    }
+
+    public boolean hasPermission(String permissionName) {
+        return member && permissionNames.contains(permissionName);
+    }
+}
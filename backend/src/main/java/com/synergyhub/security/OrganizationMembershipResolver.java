@@ -0,0 +1,23 @@
+package com.synergyhub.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves {@link OrganizationMembership} from the per-user membership set in {@link ResolvedUserCache},
+ * so authorization checks never query {@code user_organizations} or walk lazy collections.
+ * Holds no state of its own: callers that ask the same question repeatedly within a request go through
+ * {@link AuthorizationDecisionCache}, the single request-scoped memo of authorization answers.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganizationMembershipResolver {
+
+    private final ResolvedUserCache resolvedUserCache;
+
+    public OrganizationMembership resolve(Long userId, Long organizationId) {
+        return resolvedUserCache.find(userId)
+                .map(user -> OrganizationMembership.of(user, organizationId))
+                .orElseGet(() -> OrganizationMembership.none(userId, organizationId));
+    }
+}
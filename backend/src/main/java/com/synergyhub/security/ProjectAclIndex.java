@@ -0,0 +1,159 @@
+package com.synergyhub.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.synergyhub.repository.ProjectMemberRepository;
+import com.synergyhub.repository.ProjectRepository;
+import com.synergyhub.repository.SprintRepository;
+import com.synergyhub.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * In-memory access-control index behind {@link ProjectSecurity}: task → project, sprint → project and
+ * project → (organization, sorted member ids). Entries are loaded on first use with id-only queries,
+ * so a check never materializes a {@code Task}, {@code Sprint} or {@code ProjectMember} entity.
+ * Task and sprint owners never change, so those entries are only dropped on delete; project entries are
+ * evicted on membership changes by {@code ProjectAclIndexInvalidationListener}. The TTL bounds staleness
+ * for changes made on other nodes.
+ */
+@Component
+@Slf4j
+public class ProjectAclIndex {
+
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final AuthorizationDecisionCache decisionCache;
+
+    private final Cache<Long, Long> taskProjects;
+    private final Cache<Long, Long> sprintProjects;
+    private final Cache<Long, ProjectAcl> projects;
+
+    /**
+     * Organization and member ids of one project; {@code memberIds} is sorted for binary search.
+     */
+    private record ProjectAcl(long organizationId, long[] memberIds) {
+
+        boolean hasMember(long userId) {
+            return Arrays.binarySearch(memberIds, userId) >= 0;
+        }
+    }
+
+    public ProjectAclIndex(
+            TaskRepository taskRepository,
+            SprintRepository sprintRepository,
+            ProjectRepository projectRepository,
+            ProjectMemberRepository projectMemberRepository,
+            AuthorizationDecisionCache decisionCache,
+            @Value("${app.cache.project-acl.max-tasks:500000}") long maxTasks,
+            @Value("${app.cache.project-acl.max-sprints:50000}") long maxSprints,
+            @Value("${app.cache.project-acl.max-projects:20000}") long maxProjects,
+            @Value("${app.cache.project-acl.ttl-minutes:10}") long ttlMinutes) {
+        this.taskRepository = taskRepository;
+        this.sprintRepository = sprintRepository;
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.decisionCache = decisionCache;
+        this.taskProjects = Caffeine.newBuilder().maximumSize(maxTasks).recordStats().build();
+        this.sprintProjects = Caffeine.newBuilder().maximumSize(maxSprints).recordStats().build();
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Project of the task, or null if the task does not exist.
+     */
+    public Long getTaskProjectId(Long taskId) {
+        return taskId == null ? null : taskProjects.get(taskId, id -> {
+            decisionCache.recordQuery();
+            return taskRepository.findProjectIdById(id).orElse(null);
+        });
+    }
+
+    /**
+     * Project of the sprint, or null if the sprint does not exist.
+     */
+    public Long getSprintProjectId(Long sprintId) {
+        return sprintId == null ? null : sprintProjects.get(sprintId, id -> {
+            decisionCache.recordQuery();
+            return sprintRepository.findProjectIdById(id).orElse(null);
+        });
+    }
+
+    public boolean isProjectMember(Long projectId, Long userId) {
+        ProjectAcl acl = getProject(projectId);
+        return acl != null && userId != null && acl.hasMember(userId);
+    }
+
+    /**
+     * Same as {@link #isProjectMember(Long, Long)}, additionally requiring the project to belong to the organization.
+     */
+    public boolean isProjectMember(Long projectId, Long userId, Long organizationId) {
+        ProjectAcl acl = getProject(projectId);
+        return acl != null && userId != null && organizationId != null
+                && acl.organizationId() == organizationId && acl.hasMember(userId);
+    }
+
+    public void registerTask(Long taskId, Long projectId) {
+        taskProjects.put(taskId, projectId);
+    }
+
+    public void evictTask(Long taskId) {
+        taskProjects.invalidate(taskId);
+    }
+
+    public void registerSprint(Long sprintId, Long projectId) {
+        sprintProjects.put(sprintId, projectId);
+    }
+
+    public void evictSprint(Long sprintId) {
+        sprintProjects.invalidate(sprintId);
+    }
+
+    public void evictProject(Long projectId) {
+        if (projectId != null) {
+            projects.invalidate(projectId);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.cache.project-acl.stats-log-interval-ms:600000}")
+    public void logStats() {
+        log.info("Project ACL index: tasks={} (hitRate={}), sprints={} (hitRate={}), projects={} (hitRate={})",
+                taskProjects.estimatedSize(), hitRate(taskProjects.stats()),
+                sprintProjects.estimatedSize(), hitRate(sprintProjects.stats()),
+                projects.estimatedSize(), hitRate(projects.stats()));
+    }
+
+    private ProjectAcl getProject(Long projectId) {
+        return projectId == null ? null : projects.get(projectId, this::loadProject);
+    }
+
+    private ProjectAcl loadProject(Long projectId) {
+        decisionCache.recordQuery();
+        Long organizationId = projectRepository.findOrganizationIdById(projectId).orElse(null);
+        if (organizationId == null) {
+            return null;
+        }
+        decisionCache.recordQuery();
+        List<Long> members = projectMemberRepository.findUserIdsByProjectId(projectId);
+        long[] memberIds = members.stream().mapToLong(Long::longValue).sorted().toArray();
+        log.debug("Loaded ACL for project {}: {} members", projectId, memberIds.length);
+        return new ProjectAcl(organizationId, memberIds);
+    }
+
+    private static String hitRate(CacheStats stats) {
+        return String.format("%.3f", stats.hitRate());
+    }
+}
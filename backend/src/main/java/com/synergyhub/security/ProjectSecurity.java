@@ -3,9 +3,6 @@ package com.synergyhub.security;
 import com.synergyhub.domain.entity.Project;
 import com.synergyhub.domain.entity.User;
 import com.synergyhub.exception.UnauthorizedProjectAccessException;
-import com.synergyhub.repository.ProjectMemberRepository;
-import com.synergyhub.repository.SprintRepository;
-import com.synergyhub.repository.TaskRepository; // Add TaskRepository
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,9 +12,8 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ProjectSecurity {
 
-    private final ProjectMemberRepository projectMemberRepository;
-    private final SprintRepository sprintRepository;
-    private final TaskRepository taskRepository; // ✅ Inject TaskRepository
+    private final ProjectAclIndex projectAclIndex;
+    private final AuthorizationDecisionCache decisionCache;
 
     public boolean hasProjectAccess(Long projectId, User user) {
         return user != null && hasProjectAccess(projectId, user.getId());
@@ -28,16 +24,31 @@ public class ProjectSecurity {
             log.warn("Project access check failed: projectId={}, userId={}", projectId, userId);
             return false;
         }
-        boolean hasAccess = projectMemberRepository.hasAccessToTaskProject(projectId, userId);
+        boolean hasAccess = decisionCache.check(userId, "project:member", projectId,
+                () -> projectAclIndex.isProjectMember(projectId, userId));
         log.debug("User {} access to project {}: {}", userId, projectId, hasAccess);
         return hasAccess;
     }
 
+    /**
+     * Project membership restricted to projects of the given organization; used for inline
+     * checks such as "is the assignee a member of this task's project".
+     */
+    public boolean hasProjectAccess(Long projectId, Long userId, Long organizationId) {
+        if (projectId == null || userId == null || organizationId == null) {
+            return false;
+        }
+        return decisionCache.check(userId, "project:member@" + organizationId, projectId,
+                () -> projectAclIndex.isProjectMember(projectId, userId, organizationId));
+    }
+
     public boolean hasSprintAccess(Long sprintId, User user) {
         if (sprintId == null || user == null) return false;
-        return sprintRepository.findById(sprintId)
-            .map(sprint -> hasProjectAccess(sprint.getProject().getId(), user.getId()))
-            .orElse(false);
+        Long userId = user.getId();
+        return decisionCache.check(userId, "sprint:access", sprintId, () -> {
+            Long projectId = projectAclIndex.getSprintProjectId(sprintId);
+            return projectId != null && hasProjectAccess(projectId, userId);
+        });
     }
 
     // ✅ NEW METHOD for TaskService
@@ -54,16 +65,12 @@ public class ProjectSecurity {
             log.warn("Task access check failed: taskId={}, userId={}", taskId, userId);
             return false;
         }
-        // Lookup task, get project ID, check access
-        boolean hasAccess = taskRepository.findById(taskId)
-                .map(task -> {
-                    Long projectId = task.getProject().getId();
-                    boolean access = hasProjectAccess(projectId, userId);
-                    log.debug("Task {} access check for user {}: project={}, hasAccess={}", 
-                              taskId, userId, projectId, access);
-                    return access;
-                })
-                .orElse(false);
+        boolean hasAccess = decisionCache.check(userId, "task:access", taskId, () -> {
+            Long projectId = projectAclIndex.getTaskProjectId(taskId);
+            boolean access = projectId != null && hasProjectAccess(projectId, userId);
+            log.debug("Task {} access check for user {}: project={}, hasAccess={}", taskId, userId, projectId, access);
+            return access;
+        });
         
         if (!hasAccess) {
             log.warn("User {} denied access to task {}", userId, taskId);
@@ -94,7 +101,7 @@ public class ProjectSecurity {
     public boolean hasAccess(Project project, User user) {
         return isAdmin(user) || 
                isProjectLead(project, user) || 
-               projectMemberRepository.existsByProjectIdAndUserId(project.getId(), user.getId());
+               hasProjectAccess(project.getId(), user.getId());
     }
 
     private boolean isProjectLead(Project project, User user) {
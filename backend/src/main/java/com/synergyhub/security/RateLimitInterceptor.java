@@ -0,0 +1,68 @@
+package com.synergyhub.security;
+
+import com.synergyhub.exception.TooManyRequestsException;
+import com.synergyhub.service.security.SlidingWindowRateLimiter;
+import com.synergyhub.util.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces {@link RateLimited} on controller methods.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final SlidingWindowRateLimiter rateLimiter;
+    private final ClientIpResolver ipResolver;
+
+    // Window strings are parsed once per handler method
+    private final Map<Method, Long> windowMsByMethod = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited limit = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (limit == null) {
+            return true;
+        }
+
+        long windowMs = windowMsByMethod.computeIfAbsent(handlerMethod.getMethod(),
+                m -> DurationStyle.detectAndParse(limit.window()).toMillis());
+        String key = limit.key() + ":" + subject(limit.scope(), request);
+
+        if (!rateLimiter.tryAcquire(key, limit.permits(), windowMs)) {
+            log.warn("Rate limit exceeded for {}", key);
+            // Whole seconds until a permit frees up, rounded up
+            long retryAfterMs = rateLimiter.retryAfterMs(key, limit.permits(), windowMs);
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+            throw new TooManyRequestsException("Too many requests. Please try again later.");
+        }
+        return true;
+    }
+
+    private String subject(RateLimited.Scope scope, HttpServletRequest request) {
+        if (scope == RateLimited.Scope.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return "u" + principal.getId();
+            }
+        }
+        return ipResolver.resolveClientIp(request);
+    }
+}
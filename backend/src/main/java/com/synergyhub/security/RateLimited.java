@@ -0,0 +1,39 @@
+package com.synergyhub.security;
+
+import java.lang.annotation.*;
+
+/**
+ * Declarative per-endpoint rate limit, enforced by {@link RateLimitInterceptor}.
+ * Requests over the limit are rejected with 429 before the controller runs.
+ *
+ * <pre>
+ * &#64;RateLimited(key = "login", permits = 10, window = "1m")
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * Bucket name; endpoints sharing a key share the limit.
+     */
+    String key();
+
+    int permits();
+
+    /**
+     * Window length, e.g. "30s", "15m", "1h" or an ISO-8601 duration.
+     */
+    String window();
+
+    /**
+     * Who the limit applies to. USER falls back to the client IP for anonymous requests.
+     */
+    Scope scope() default Scope.IP;
+
+    enum Scope {
+        IP,
+        USER
+    }
+}
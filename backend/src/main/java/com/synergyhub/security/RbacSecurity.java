@@ -16,28 +16,18 @@ import java.util.Set;
 public class RbacSecurity {
 
     private static final Set<String> SYSTEM_ROLES = Set.of("GLOBAL_ADMIN", "ORG_ADMIN", "GUEST");
-    private static final String ORG_ADMIN_ROLE = "ORG_ADMIN";
+
+    private final OrganizationMembershipResolver membershipResolver;
+    private final AuthorizationDecisionCache decisionCache;
 
     /**
      * Verify that user is an Admin (ORG_ADMIN or GLOBAL_ADMIN) of the organization.
      * Required to manage roles within that organization.
      */
     public void requireRoleManagementAccess(Long organizationId, User user) {
-        Set<String> roles = user.getRoles().stream()
-                .map(r -> r.getName())
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // GLOBAL_ADMIN has access to all role management
-        if (roles.contains("GLOBAL_ADMIN")) {
-            return;
-        }
-        
-        // ORG_ADMIN of this specific organization can manage roles
-        Long currentOrgId = OrganizationContext.getcurrentOrgId();
-        boolean isOrgAdminOfOrg = currentOrgId != null && currentOrgId.equals(organizationId) &&
-                roles.contains(ORG_ADMIN_ROLE);
-        
-        if (!isOrgAdminOfOrg) {
+        // GLOBAL_ADMIN, or ORG_ADMIN of this specific organization
+        if (!decisionCache.check(user.getId(), "organization:admin", organizationId,
+                () -> membershipResolver.resolve(user.getId(), organizationId).canAdminister())) {
             log.warn("User {} attempted to manage roles without admin access in org {}", 
                     user.getId(), organizationId);
             throw new UnauthorizedRoleManagementException(organizationId);
@@ -0,0 +1,159 @@
+package com.synergyhub.security;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Permission;
+import com.synergyhub.domain.entity.Role;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.entity.UserOrganization;
+import com.synergyhub.domain.entity.UserOrganization.MembershipStatus;
+import com.synergyhub.domain.entity.UserOrganizationId;
+import com.synergyhub.domain.enums.AuthProvider;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of a user with memberships, roles and permission names.
+ * Held by {@link ResolvedUserCache}; safe to share between request threads because
+ * callers that need an entity get a fresh detached copy from {@link #toUser()}.
+ */
+@Getter
+@AllArgsConstructor
+public class ResolvedUser {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String imageUrl;
+    private final AuthProvider provider;
+    private final boolean emailVerified;
+    private final boolean twoFactorEnabled;
+    private final boolean accountLocked;
+    private final int tokenVersion;
+    private final List<Membership> memberships;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Membership {
+        private final Long organizationId;
+        private final String organizationName;
+        private final Long roleId;
+        private final String roleName;
+        private final Set<String> permissionNames;
+        private final boolean primary;
+        private final MembershipStatus status;
+    }
+
+    /**
+     * Must be called while memberships, roles and permissions are initialized
+     * (e.g. on a user loaded with {@code findByIdWithRolesAndPermissions}).
+     */
+    public static ResolvedUser from(User user) {
+        List<Membership> memberships = new ArrayList<>();
+        if (user.getMemberships() != null) {
+            for (UserOrganization membership : user.getMemberships()) {
+                Role role = membership.getRole();
+                Set<String> permissionNames = role == null ? Set.of() : role.getPermissions().stream()
+                        .map(Permission::getName)
+                        .collect(Collectors.toUnmodifiableSet());
+                memberships.add(new Membership(
+                        membership.getOrganization() != null ? membership.getOrganization().getId() : membership.getId().getOrganizationId(),
+                        membership.getOrganization() != null ? membership.getOrganization().getName() : null,
+                        role != null ? role.getId() : null,
+                        role != null ? role.getName() : null,
+                        permissionNames,
+                        Boolean.TRUE.equals(membership.getIsPrimary()),
+                        membership.getStatus()
+                ));
+            }
+        }
+        return new ResolvedUser(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getImageUrl(),
+                user.getProvider(),
+                Boolean.TRUE.equals(user.getEmailVerified()),
+                Boolean.TRUE.equals(user.getTwoFactorEnabled()),
+                user.getAccountLocked(),
+                user.getTokenVersion(),
+                List.copyOf(memberships)
+        );
+    }
+
+    public boolean isMemberOf(Long organizationId) {
+        return organizationId != null && memberships.stream()
+                .anyMatch(m -> organizationId.equals(m.getOrganizationId()));
+    }
+
+    /**
+     * Role names in the given organization, or across all organizations when {@code organizationId} is null.
+     */
+    public Set<String> getRoleNames(Long organizationId) {
+        return memberships.stream()
+                .filter(m -> organizationId == null || organizationId.equals(m.getOrganizationId()))
+                .map(Membership::getRoleName)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Permission names in the given organization, or across all organizations when {@code organizationId} is null.
+     */
+    public Set<String> getPermissionNames(Long organizationId) {
+        return memberships.stream()
+                .filter(m -> organizationId == null || organizationId.equals(m.getOrganizationId()))
+                .flatMap(m -> m.getPermissionNames().stream())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Builds a new detached {@link User} with memberships, roles and permissions populated.
+     * Suitable as an actor/reference for services; never merge it back - it carries no password hash.
+     */
+    public User toUser() {
+        User user = User.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .imageUrl(imageUrl)
+                .provider(provider)
+                .emailVerified(emailVerified)
+                .twoFactorEnabled(twoFactorEnabled)
+                .accountLocked(accountLocked)
+                .tokenVersion(tokenVersion)
+                .build();
+
+        for (Membership m : memberships) {
+            Organization organization = Organization.builder()
+                    .id(m.getOrganizationId())
+                    .name(m.getOrganizationName())
+                    .build();
+            Role role = null;
+            if (m.getRoleId() != null) {
+                Set<Permission> permissions = new HashSet<>();
+                m.getPermissionNames().forEach(p -> permissions.add(Permission.builder().name(p).build()));
+                role = Role.builder()
+                        .id(m.getRoleId())
+                        .name(m.getRoleName())
+                        .organization(organization)
+                        .permissions(permissions)
+                        .build();
+            }
+            user.getMemberships().add(UserOrganization.builder()
+                    .id(new UserOrganizationId(id, m.getOrganizationId()))
+                    .user(user)
+                    .organization(organization)
+                    .role(role)
+                    .isPrimary(m.isPrimary())
+                    .status(m.getStatus())
+                    .build());
+        }
+        return user;
+    }
+}
@@ -0,0 +1,114 @@
+package com.synergyhub.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.synergyhub.config.CacheConfig;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.exception.ResourceNotFoundException;
+import com.synergyhub.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Caffeine-backed cache of {@link ResolvedUser} snapshots keyed by user id.
+ * Per-organization views (membership, roles, permission names) are derived from the
+ * snapshot, so one entry answers every (userId, orgId) question for that user.
+ * Entries are evicted by {@code ResolvedUserCacheInvalidationListener} on domain events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResolvedUserCache {
+
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+    private final AuthorizationDecisionCache decisionCache;
+
+    private Cache<Object, Object> cache;
+
+    @PostConstruct
+    private void init() {
+        CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(CacheConfig.RESOLVED_USERS_CACHE);
+        if (caffeineCache == null) {
+            throw new IllegalStateException("Cache '" + CacheConfig.RESOLVED_USERS_CACHE + "' is not configured");
+        }
+        this.cache = caffeineCache.getNativeCache();
+    }
+
+    /**
+     * Returns the snapshot for the user, loading it on a miss.
+     */
+    public Optional<ResolvedUser> find(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((ResolvedUser) cache.get(userId, key -> load(userId)));
+    }
+
+    /**
+     * Returns the snapshot only if the user is a member of the organization.
+     * A null organization id means "no organization scope".
+     */
+    public Optional<ResolvedUser> find(Long userId, Long organizationId) {
+        return find(userId).filter(u -> organizationId == null || u.isMemberOf(organizationId));
+    }
+
+    public ResolvedUser get(Long userId) {
+        return find(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    }
+
+    /**
+     * Detached user for the current principal, built from the cached snapshot.
+     */
+    public User getUser(UserPrincipal principal) {
+        return get(principal.getId()).toUser();
+    }
+
+    public void invalidateUser(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    /**
+     * Evicts every cached user holding a membership in the organization (role or permission changes).
+     */
+    public void invalidateOrganization(Long organizationId) {
+        if (organizationId == null) {
+            invalidateAll();
+            return;
+        }
+        cache.asMap().values().removeIf(value -> ((ResolvedUser) value).isMemberOf(organizationId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedRateString = "${app.cache.resolved-users.stats-log-interval-ms:600000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("Resolved user cache: size={}, hits={}, misses={}, hitRate={}, evictions={}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.3f", stats.hitRate()), stats.evictionCount());
+    }
+
+    private ResolvedUser load(Long userId) {
+        log.debug("Resolved user cache miss for user {}", userId);
+        decisionCache.recordQuery();
+        return userRepository.findByIdWithRolesAndPermissions(userId)
+                .map(ResolvedUser::from)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.synergyhub.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind tracker for {@code user_sessions.last_accessed_at}.
+ * Requests only record the access time in memory (coalesced per token id); pending
+ * timestamps are written in a single JDBC batch on a fixed delay and on shutdown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionActivityTracker {
+
+    private static final String UPDATE_LAST_ACCESSED =
+            "UPDATE user_sessions SET last_accessed_at = ? WHERE token_id = ? AND last_accessed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void recordAccess(String tokenId) {
+        if (tokenId != null) {
+            pending.put(tokenId, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.session-activity.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_ACCESSED, batch);
+            log.debug("Flushed last access time for {} sessions", batch.size());
+        } catch (Exception e) {
+            // Activity timestamps are best effort; never retry into an unbounded backlog
+            log.warn("Failed to flush last access time for {} sessions: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized List<Object[]> drain() {
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            // remove(key, value) keeps a newer access recorded while draining for the next flush
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                Timestamp accessedAt = Timestamp.valueOf(entry.getValue());
+                batch.add(new Object[]{accessedAt, entry.getKey(), accessedAt});
+            }
+        }
+        return batch;
+    }
+}
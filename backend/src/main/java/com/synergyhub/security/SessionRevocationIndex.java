@@ -0,0 +1,141 @@
+package com.synergyhub.security;
+
+import com.synergyhub.repository.UserSessionRepository;
+import com.synergyhub.repository.UserSessionRepository.RevokedSessionView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of revoked access tokens, consulted by {@link JwtAuthenticationFilter} on every request.
+ * Holds revoked jti values (until the token would have expired) and per-user "revoked-before"
+ * timestamps for logout-everywhere. Rebuilt from {@code user_sessions} on startup and kept in step
+ * with other nodes by a periodic delta sync on {@code revoked_at}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionRevocationIndex {
+
+    private final UserSessionRepository userSessionRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${app.security.session-revocation.sync-overlap-ms:60000}")
+    private long syncOverlapMs;
+
+    // jti -> epoch millis after which the entry is no longer needed
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // userId -> epoch seconds; tokens issued in an earlier second are revoked
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncAt;
+
+    @PostConstruct
+    void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedSessionView> revoked = userSessionRepository.findRevokedUnexpiredSessions(now);
+        revoked.forEach(this::put);
+        lastSyncAt = now;
+        log.info("Session revocation index loaded with {} revoked tokens", revoked.size());
+    }
+
+    /**
+     * O(1) check against the index; never touches the database.
+     */
+    public boolean isRevoked(String tokenId, Long userId, Date issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (userId != null && issuedAt != null) {
+            Long before = revokedBefore.get(userId);
+            return before != null && issuedAt.toInstant().getEpochSecond() < before;
+        }
+        return false;
+    }
+
+    /**
+     * Records a single revoked token once the surrounding transaction commits.
+     */
+    public void revokeToken(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        // The token cannot outlive its maximum lifetime from now
+        long retainUntil = System.currentTimeMillis() + jwtTokenProvider.getExpirationMs();
+        afterCommit(() -> revokedTokens.merge(tokenId, retainUntil, Math::max));
+    }
+
+    /**
+     * Records every live session of the user plus a revoked-before mark for tokens without a session row.
+     * Must be called in the transaction that revokes the sessions, before or after the bulk update.
+     */
+    public void revokeAllForUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        List<RevokedSessionView> sessions =
+                userSessionRepository.findUnexpiredSessionsByUserId(userId, LocalDateTime.now());
+        long revokedAtSecond = Instant.now().getEpochSecond();
+        afterCommit(() -> {
+            sessions.forEach(this::put);
+            revokedBefore.merge(userId, revokedAtSecond, Math::max);
+        });
+    }
+
+    /**
+     * Picks up revocations made on other nodes and drops entries for tokens that have expired anyway.
+     */
+    @Scheduled(fixedDelayString = "${app.security.session-revocation.sync-interval-ms:30000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncAt.minusNanos(syncOverlapMs * 1_000_000);
+        List<RevokedSessionView> revoked = userSessionRepository.findSessionsRevokedSince(since, now);
+        revoked.forEach(this::put);
+        lastSyncAt = now;
+
+        long nowMs = System.currentTimeMillis();
+        revokedTokens.values().removeIf(retainUntil -> retainUntil < nowMs);
+        long oldestLiveSecond = (nowMs - jwtTokenProvider.getExpirationMs()) / 1000;
+        revokedBefore.values().removeIf(second -> second < oldestLiveSecond);
+
+        if (!revoked.isEmpty()) {
+            log.debug("Session revocation sync picked up {} tokens; index holds {} tokens and {} users",
+                    revoked.size(), revokedTokens.size(), revokedBefore.size());
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    private void put(RevokedSessionView session) {
+        long retainUntil = session.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        revokedTokens.merge(session.getTokenId(), retainUntil, Math::max);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.synergyhub.security;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -12,7 +13,11 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Component
+@RequiredArgsConstructor
 public class UserContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ResolvedUserCache resolvedUserCache;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.getParameterType().equals(UserContext.class);
@@ -27,6 +32,9 @@ public class UserContextArgumentResolver implements HandlerMethodArgumentResolve
             if (userPrincipal.getAuthorities() != null) {
                 userPrincipal.getAuthorities().forEach(a -> roles.add(a.getAuthority()));
             }
+            // Role names for the current organization come from the cached snapshot - no query on a hit
+            resolvedUserCache.find(userPrincipal.getId())
+                    .ifPresent(user -> roles.addAll(user.getRoleNames(OrganizationContext.getcurrentOrgIdOrNull())));
             return new UserContext(userPrincipal.getId(), userPrincipal.getEmail(), roles);
         }
         return null;
@@ -4,19 +4,22 @@ import com.synergyhub.domain.entity.Permission;
 import com.synergyhub.domain.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor
 public class UserPrincipal implements UserDetails {
     
-    private final User user; // Store the full entity
+    private User user; // Store the full entity (loaded lazily for claims-based principals)
     
     private Long id;
     private String name;
@@ -26,6 +29,11 @@ public class UserPrincipal implements UserDetails {
     private boolean emailVerified;
     private boolean twoFactorEnabled;
     private Collection<? extends GrantedAuthority> authorities;
+    private Integer tokenVersion;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Supplier<User> userLoader;
     
     public static UserPrincipal create(User user) {
         // Remove orgId logic based on user.getOrganization()
@@ -38,7 +46,33 @@ public class UserPrincipal implements UserDetails {
             null, // orgId is now context-driven
             Boolean.TRUE.equals(user.getEmailVerified()), // null-safe
             Boolean.TRUE.equals(user.getTwoFactorEnabled()), // null-safe
-            List.of() // authorities will be context-driven
+            List.of(), // authorities will be context-driven
+            user.getTokenVersion(),
+            null
+        );
+    }
+
+    /**
+     * Principal built from verified access-token claims. No entity is attached;
+     * {@link #getUser()} resolves it through {@code userLoader} on first use, so
+     * requests that only need the id/email never touch the database. Organization membership and the
+     * account flags are deliberately not taken from the token: they can change while the token is live,
+     * so they come from the {@code ResolvedUserCache} snapshot.
+     */
+    public static UserPrincipal fromClaims(Long id, String email, String name, int tokenVersion,
+                                           ResolvedUser snapshot, Supplier<User> userLoader) {
+        return new UserPrincipal(
+            null,
+            id,
+            name,
+            email,
+            null, // credentials are never part of a token
+            null,
+            snapshot.isEmailVerified(),
+            snapshot.isTwoFactorEnabled(),
+            List.of(),
+            tokenVersion,
+            userLoader
         );
     }
 
@@ -100,6 +134,9 @@ public class UserPrincipal implements UserDetails {
     }
 
     public User getUser() {
+        if (user == null && userLoader != null) {
+            user = userLoader.get();
+        }
         return user;
     }
 }
\ No newline at end of file
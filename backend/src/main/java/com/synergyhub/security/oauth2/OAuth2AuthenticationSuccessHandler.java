@@ -47,12 +47,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found after OAuth2 login"));
 
-        // Generate tokens using existing methods
-        String accessToken = tokenProvider.generateTokenFromUserId(user.getId(), user.getEmail());
+        // The access token must be the one bound to the session row, otherwise it cannot be revoked
+        String accessToken = sessionService.createSession(user, request.getHeader("User-Agent"), request.getRemoteAddr());
         String refreshToken = tokenProvider.generateRefreshToken(user.getId(), user.getEmail());
-        
-        // Create session in DB using existing signature
-        sessionService.createSession(user, request.getHeader("User-Agent"), request.getRemoteAddr());
 
         return UriComponentsBuilder.fromUriString(redirectUri)
                 .queryParam("token", accessToken)
@@ -5,7 +5,11 @@ import java.util.List;
 public interface BackupCodeService {
     List<String> generateBackupCodes(int count, int length);
     boolean verifyBackupCode(String userId, String code);
-    void consumeBackupCode(String userId, String code);
+    /**
+     * Marks the code as used if it is valid and unused.
+     * @return true if a code was consumed
+     */
+    boolean consumeBackupCode(String userId, String code);
     List<String> getBackupCodes(String userId);
     void setBackupCodes(String userId, List<String> codes);
 }
@@ -7,6 +7,7 @@ import com.synergyhub.events.auth.PasswordChangedEvent;
 import com.synergyhub.exception.BadRequestException;
 import com.synergyhub.repository.UserRepository;
 import com.synergyhub.repository.UserSessionRepository;
+import com.synergyhub.security.SessionRevocationIndex;
 import com.synergyhub.util.PasswordValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +26,7 @@ public class ChangePasswordService {
 
     private final UserRepository userRepository;
     private final UserSessionRepository userSessionRepository;
+    private final SessionRevocationIndex sessionRevocationIndex;
     private final PasswordEncoder passwordEncoder;
     private final PasswordValidator passwordValidator;
     private final ApplicationEventPublisher eventPublisher;
@@ -53,10 +57,12 @@ public class ChangePasswordService {
 
         // Update password
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.incrementTokenVersion();
         userRepository.save(user);
 
         // Revoke all active sessions (user must log in again with new password)
-        userSessionRepository.revokeAllUserSessions(user);
+        sessionRevocationIndex.revokeAllForUser(user.getId());
+        userSessionRepository.revokeAllUserSessions(user, LocalDateTime.now());
 
         // ✅ FIXED: Pass User object instead of email String
         eventPublisher.publishEvent(new PasswordChangedEvent(user, ipAddress));
@@ -7,35 +7,57 @@ import com.synergyhub.repository.BackupCodeRepository;
 import com.synergyhub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder; // ✅ Import added
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Backup codes are issued as "PREFIX-SECRET". The prefix is a non-secret, indexed identifier that selects
+ * the single candidate row, so a guess costs exactly one hash comparison; only SECRET is hashed.
+ * Codes issued before the prefix format (lookup_prefix NULL) cost one hash per remaining legacy code, so
+ * they are rejected unless legacy verification is switched on for a migration period; users regenerate
+ * their codes to get the new format.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DefaultBackupCodeService implements BackupCodeService {
 
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int PREFIX_LENGTH = 4;
+    private static final char SEPARATOR = '-';
     private final SecureRandom random = new SecureRandom();
     
     private final BackupCodeRepository backupCodeRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // ✅ Inject BCrypt/Argon2 encoder
 
+    @Value("${app.security.backup-codes.legacy-verification-enabled:false}")
+    private boolean legacyVerificationEnabled;
+
     @Override
     @Transactional
     public List<String> generateBackupCodes(int count, int length) {
         // Generates random plaintext codes. 
         // These should be returned to the Controller to be shown to the user ONCE.
         List<String> codes = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            codes.add(generateRandomCode(length));
+        Set<String> prefixes = new HashSet<>();
+        while (codes.size() < count) {
+            String prefix = generateRandomCode(PREFIX_LENGTH);
+            // Prefixes must be unique within a user's set
+            if (prefixes.add(prefix)) {
+                codes.add(prefix + SEPARATOR + generateRandomCode(length));
+            }
         }
         return codes;
     }
@@ -50,9 +72,11 @@ public class DefaultBackupCodeService implements BackupCodeService {
 
         // 2. Save new codes (HASHED)
         List<BackupCode> entities = codes.stream()
-                .map(code -> BackupCode.builder()
+                .map(DefaultBackupCodeService::parse)
+                .map(parsed -> BackupCode.builder()
                         .user(user)
-                        .code(passwordEncoder.encode(code)) // ✅ HASH IT (Secure Storage)
+                        .lookupPrefix(parsed.prefix())
+                        .code(passwordEncoder.encode(parsed.secret())) // ✅ HASH IT (Secure Storage)
                         .used(false)
                         .build())
                 .collect(Collectors.toList());
@@ -64,33 +88,19 @@ public class DefaultBackupCodeService implements BackupCodeService {
     @Override
     @Transactional(readOnly = true)
     public boolean verifyBackupCode(String userId, String code) {
-        User user = getUser(userId);
-        
-        // We cannot query by specific code because we only have hashes.
-        // We must fetch all unused codes and match them in memory.
-        List<BackupCode> codes = backupCodeRepository.findByUserAndUsedFalse(user);
-        
-        return codes.stream()
-                .anyMatch(bc -> passwordEncoder.matches(code, bc.getCode())); // ✅ Verify Hash
+        return findMatchingCode(getUser(userId), code).isPresent();
     }
 
     @Override
     @Transactional
-    public void consumeBackupCode(String userId, String code) {
-        User user = getUser(userId);
-        
-        // Fetch all unused codes for the user
-        List<BackupCode> codes = backupCodeRepository.findByUserAndUsedFalse(user);
-
-        // Find the specific code that matches the input
-        codes.stream()
-                .filter(bc -> passwordEncoder.matches(code, bc.getCode()))
-                .findFirst()
-                .ifPresent(backupCode -> {
-                    backupCode.setUsed(true);
-                    backupCodeRepository.save(backupCode);
-                    log.info("Backup code consumed for user {}", userId);
-                });
+    public boolean consumeBackupCode(String userId, String code) {
+        Optional<BackupCode> match = findMatchingCode(getUser(userId), code);
+        match.ifPresent(backupCode -> {
+            backupCode.setUsed(true);
+            backupCodeRepository.save(backupCode);
+            log.info("Backup code consumed for user {}", userId);
+        });
+        return match.isPresent();
     }
 
     @Override
@@ -103,6 +113,39 @@ public class DefaultBackupCodeService implements BackupCodeService {
         throw new UnsupportedOperationException("Cannot retrieve plaintext backup codes after they have been hashed and saved.");
     }
 
+    private Optional<BackupCode> findMatchingCode(User user, String code) {
+        if (code == null || code.isBlank()) {
+            return Optional.empty();
+        }
+        ParsedCode parsed = parse(code);
+        if (parsed.prefix() != null) {
+            return backupCodeRepository.findFirstByUserAndLookupPrefixAndUsedFalse(user, parsed.prefix())
+                    .filter(bc -> passwordEncoder.matches(parsed.secret(), bc.getCode())); // ✅ Verify Hash
+        }
+        if (!legacyVerificationEnabled) {
+            return Optional.empty();
+        }
+        // Legacy codes have no identifier: fall back to matching the user's remaining legacy codes
+        return backupCodeRepository.findByUserAndLookupPrefixIsNullAndUsedFalse(user).stream()
+                .filter(bc -> passwordEncoder.matches(code.trim(), bc.getCode()))
+                .findFirst();
+    }
+
+    /**
+     * Splits "PREFIX-SECRET" (case and surrounding whitespace ignored); a code without separator is legacy.
+     */
+    private static ParsedCode parse(String code) {
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        int separator = normalized.indexOf(SEPARATOR);
+        if (separator != PREFIX_LENGTH) {
+            return new ParsedCode(null, normalized);
+        }
+        return new ParsedCode(normalized.substring(0, separator), normalized.substring(separator + 1));
+    }
+
+    private record ParsedCode(String prefix, String secret) {
+    }
+
     private User getUser(String userId) {
         return userRepository.findById(Long.parseLong(userId))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -10,6 +10,7 @@ import com.synergyhub.exception.InvalidTokenException;
 import com.synergyhub.repository.PasswordResetTokenRepository;
 import com.synergyhub.repository.UserRepository;
 import com.synergyhub.repository.UserSessionRepository;
+import com.synergyhub.security.SessionRevocationIndex;
 import com.synergyhub.util.PasswordValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,7 @@ public class PasswordResetService {
     private final PasswordValidator passwordValidator;
     private final PasswordEncoder passwordEncoder;
     private final UserSessionRepository userSessionRepository;
+    private final SessionRevocationIndex sessionRevocationIndex;
     private final ApplicationEventPublisher eventPublisher; // ✅ Only event publisher needed
 
     @Value("${security.password-reset-token-expiry-minutes}")
@@ -112,6 +114,7 @@ public class PasswordResetService {
         }
         
         user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.incrementTokenVersion();
         userRepository.save(user);
 
         // Mark token as used
@@ -119,7 +122,8 @@ public class PasswordResetService {
         passwordResetTokenRepository.save(resetToken);
 
         // Revoke all active sessions (security measure - user must log in again)
-        userSessionRepository.revokeAllUserSessions(user);
+        sessionRevocationIndex.revokeAllForUser(user.getId());
+        userSessionRepository.revokeAllUserSessions(user, LocalDateTime.now());
 
         // ✅ Publish event instead of calling auditLogService
         eventPublisher.publishEvent(new PasswordResetCompletedEvent(user, ipAddress));
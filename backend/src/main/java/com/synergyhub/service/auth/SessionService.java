@@ -4,15 +4,18 @@ import com.synergyhub.domain.entity.User;
 import com.synergyhub.domain.entity.UserSession;
 import com.synergyhub.dto.mapper.UserSessionMapper;
 import com.synergyhub.dto.response.UserSessionResponse;
+import com.synergyhub.events.auth.AllSessionsRevokedEvent;
 import com.synergyhub.exception.ResourceNotFoundException;
 import com.synergyhub.repository.UserRepository;
 import com.synergyhub.repository.UserSessionRepository;
 import com.synergyhub.security.JwtTokenProvider;
+import com.synergyhub.security.SessionRevocationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -31,6 +34,8 @@ public class SessionService {
     private final UserRepository userRepository; // ✅ Added dependency
     private final UserSessionMapper userSessionMapper;
     private final JwtTokenProvider jwtTokenProvider;
+    private final SessionRevocationIndex sessionRevocationIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public JwtTokenProvider getJwtTokenProvider() {
         return jwtTokenProvider;
@@ -38,7 +43,8 @@ public class SessionService {
 
     @Transactional
     public String createSession(User user, String userAgent, String ipAddress) {
-        String token = jwtTokenProvider.generateTokenFromUserId(user.getId(), user.getEmail());
+        String token = jwtTokenProvider.generateAccessToken(
+                user.getId(), user.getEmail(), user.getName(), user.getTokenVersion());
         String tokenId = jwtTokenProvider.getTokenIdFromToken(token);
 
         LocalDateTime now = LocalDateTime.now();
@@ -94,7 +100,9 @@ public class SessionService {
 
         // 3. Revoke
         session.setRevoked(true);
+        session.setRevokedAt(LocalDateTime.now());
         userSessionRepository.save(session);
+        sessionRevocationIndex.revokeToken(tokenId);
     }
 
     /**
@@ -104,19 +112,23 @@ public class SessionService {
     @CacheEvict(value = "sessionRevocation", allEntries = true)
     public void revokeAllSessions(Long userId) {
         User user = getUserById(userId);
-        userSessionRepository.revokeAllUserSessions(user);
+        user.incrementTokenVersion();
+        sessionRevocationIndex.revokeAllForUser(userId);
+        userSessionRepository.revokeAllUserSessions(user, LocalDateTime.now());
+        eventPublisher.publishEvent(new AllSessionsRevokedEvent(user, null));
     }
 
     /**
-     * Cleanup expired and revoked sessions
+     * Cleanup expired sessions. Revoked sessions stay until they expire so the
+     * revocation index can be rebuilt from them on startup.
      * Scheduled to run daily at 2 AM
      */
     @Transactional
     @Scheduled(cron = "0 0 2 * * *")
     @CacheEvict(value = "sessionRevocation", allEntries = true)
-    public void cleanupExpiredAndRevokedSessions() {
-        int deleted = userSessionRepository.cleanupExpiredAndRevokedSessions(LocalDateTime.now());
-        log.info("Cleaned up {} expired and revoked sessions", deleted);
+    public void cleanupExpiredSessions() {
+        int deleted = userSessionRepository.deleteExpiredSessions(LocalDateTime.now());
+        log.info("Cleaned up {} expired sessions", deleted);
     }
 
     // Helper to fetch user or throw exception
@@ -187,11 +187,10 @@ public class TwoFactorAuthService {
     }
 
     boolean verifyAndConsumeBackupCode(TwoFactorSecret secret, String code, String ipAddress) {
-        boolean isValid = backupCodeService.verifyBackupCode(secret.getUser().getId().toString(), code);
+        // Verifies and consumes in one step - one hash comparison for prefixed codes
+        boolean isValid = backupCodeService.consumeBackupCode(secret.getUser().getId().toString(), code);
         
         if (isValid) {
-            backupCodeService.consumeBackupCode(secret.getUser().getId().toString(), code);
-            
             // ✅ Publish backup code used event
             eventPublisher.publishEvent(
                 new TwoFactorBackupCodeUsedEvent(secret.getUser(), ipAddress)
@@ -1,7 +1,6 @@
 package com.synergyhub.service.board;
 
 import com.synergyhub.domain.entity.Sprint;
-import com.synergyhub.domain.entity.Task;
 import com.synergyhub.domain.entity.User;
 import com.synergyhub.domain.enums.SprintStatus;
 import com.synergyhub.dto.mapper.SprintMapper;
@@ -12,7 +11,10 @@ import com.synergyhub.dto.response.TaskResponse;
 import com.synergyhub.exception.ProjectNotFoundException;
 import com.synergyhub.repository.ProjectRepository;
 import com.synergyhub.repository.SprintRepository;
+import com.synergyhub.repository.TaskListOrder;
+import com.synergyhub.repository.TaskListRow;
 import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.repository.TaskSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -59,8 +61,13 @@ public class BoardService {
                 .collect(Collectors.toList());
 
         // 2. Fetch Backlog Tasks (Tasks with no sprint)
-        List<Task> backlogTasks = taskRepository.findByProjectIdAndSprintIsNullOrderByPriorityDescCreatedAtAsc(projectId);
-        List<TaskResponse> backlogResponses = taskMapper.toTaskResponseList(backlogTasks);
+        // Read as projections so the whole backlog costs two queries instead of lazy loads per task,
+        // in the manual order the board is dragged into
+        List<TaskListRow> backlogRows = taskRepository.findListRows(
+                TaskSpecifications.inProject(projectId).and(TaskSpecifications.inBacklog()),
+                TaskListOrder.RANK, currentUser.getId(), 0);
+        List<TaskResponse> backlogResponses = taskMapper.toTaskResponseList(
+                backlogRows, taskRepository.findLinks(backlogRows.stream().map(TaskListRow::id).toList()));
 
         return BoardViewResponse.builder()
                 .activeSprints(sprintResponses)
@@ -256,6 +256,10 @@ public class OrganizationService {
                 user.setOrganization(organization);
                 userRepository.save(user);
             }
+
+            eventPublisher.publishEvent(
+                    new UserJoinedOrganizationEvent(organization, user, null)
+            );
         }
     }
 
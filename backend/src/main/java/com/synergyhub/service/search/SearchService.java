@@ -0,0 +1,156 @@
+package com.synergyhub.service.search;
+
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.dto.response.SearchResponse;
+import com.synergyhub.security.OrganizationContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text search over tasks (title, description, labels), comments, chat messages and project names,
+ * answered from InnoDB FULLTEXT indexes. Every query is scoped to the current organization and to
+ * what the user can see: tasks and comments of their projects, and messages of channels they belong to
+ * or whose project they belong to. The indexes are maintained by InnoDB in the writing transaction,
+ * so results never lag behind the data.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    // Projects the user is a member of
+    private static final String MY_PROJECTS = "SELECT pm.project_id FROM project_members pm WHERE pm.user_id = :userId";
+
+    private static final String TASKS =
+            "SELECT t.task_id, t.project_id, p.name AS project_name, t.title, t.description, MAX(s.score) AS score " +
+            "FROM (" +
+            "  SELECT task_id, MATCH(title, description) AGAINST (:query IN BOOLEAN MODE) AS score FROM tasks " +
+            "  WHERE MATCH(title, description) AGAINST (:query IN BOOLEAN MODE)" +
+            "  UNION ALL " +
+            "  SELECT task_id, MATCH(label) AGAINST (:query IN BOOLEAN MODE) AS score FROM task_labels " +
+            "  WHERE MATCH(label) AGAINST (:query IN BOOLEAN MODE)" +
+            ") s " +
+            "JOIN tasks t ON t.task_id = s.task_id " +
+            "JOIN projects p ON p.project_id = t.project_id " +
+            "WHERE p.organization_id = :orgId AND t.project_id IN (" + MY_PROJECTS + ") " +
+            "GROUP BY t.task_id, t.project_id, p.name, t.title, t.description " +
+            "ORDER BY score DESC, t.task_id DESC LIMIT :limit";
+
+    private static final String COMMENTS =
+            "SELECT c.comment_id, t.task_id, t.title, t.project_id, p.name AS project_name, c.content, " +
+            "MATCH(c.content) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM comments c " +
+            "JOIN tasks t ON t.task_id = c.task_id " +
+            "JOIN projects p ON p.project_id = t.project_id " +
+            "WHERE MATCH(c.content) AGAINST (:query IN BOOLEAN MODE) " +
+            "AND p.organization_id = :orgId AND t.project_id IN (" + MY_PROJECTS + ") " +
+            "ORDER BY score DESC, c.comment_id DESC LIMIT :limit";
+
+    private static final String CHAT_MESSAGES =
+            "SELECT m.message_id, ch.channel_id, ch.name AS channel_name, COALESCE(ch.project_id, t.project_id) AS project_id, " +
+            "m.content, MATCH(m.content) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM chat_messages m " +
+            "JOIN chat_channels ch ON ch.channel_id = m.channel_id " +
+            "LEFT JOIN tasks t ON t.task_id = ch.task_id " +
+            "WHERE MATCH(m.content) AGAINST (:query IN BOOLEAN MODE) " +
+            "AND ch.organization_id = :orgId " +
+            "AND (ch.channel_id IN (SELECT cm.channel_id FROM channel_members cm WHERE cm.user_id = :userId) " +
+            "  OR ch.project_id IN (" + MY_PROJECTS + ") " +
+            "  OR t.project_id IN (" + MY_PROJECTS + ")) " +
+            "ORDER BY score DESC, m.message_id DESC LIMIT :limit";
+
+    private static final String PROJECTS =
+            "SELECT p.project_id, p.name, MATCH(p.name) AGAINST (:query IN BOOLEAN MODE) AS score " +
+            "FROM projects p " +
+            "WHERE MATCH(p.name) AGAINST (:query IN BOOLEAN MODE) " +
+            "AND p.organization_id = :orgId AND p.project_id IN (" + MY_PROJECTS + ") " +
+            "ORDER BY score DESC, p.project_id DESC LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param types result types to search; all when empty
+     * @param limit maximum number of results overall
+     */
+    @Transactional(readOnly = true)
+    public SearchResponse search(String input, Set<SearchResponse.Type> types, int limit, User currentUser) {
+        SearchTerms terms = SearchTerms.parse(input);
+        List<SearchResponse.Hit> hits = new ArrayList<>();
+
+        if (!terms.isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("query", terms.toBooleanQuery())
+                    .addValue("orgId", OrganizationContext.getcurrentOrgId())
+                    .addValue("userId", currentUser.getId())
+                    .addValue("limit", limit);
+
+            Map<SearchResponse.Type, String> queries = new EnumMap<>(SearchResponse.Type.class);
+            queries.put(SearchResponse.Type.TASK, TASKS);
+            queries.put(SearchResponse.Type.COMMENT, COMMENTS);
+            queries.put(SearchResponse.Type.CHAT_MESSAGE, CHAT_MESSAGES);
+            queries.put(SearchResponse.Type.PROJECT, PROJECTS);
+
+            queries.forEach((type, sql) -> {
+                if (types.isEmpty() || types.contains(type)) {
+                    hits.addAll(jdbcTemplate.query(sql, params, rowMapper(type, terms)));
+                }
+            });
+            hits.sort(Comparator.comparingDouble(SearchResponse.Hit::getScore).reversed());
+        }
+
+        log.debug("Search for {} by user {} returned {} hits", terms.getTerms(), currentUser.getId(), hits.size());
+        return SearchResponse.builder()
+                .query(input)
+                .terms(terms.getTerms())
+                .results(hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits)
+                .build();
+    }
+
+    private static RowMapper<SearchResponse.Hit> rowMapper(SearchResponse.Type type, SearchTerms terms) {
+        return (rs, rowNum) -> {
+            SearchResponse.Hit.HitBuilder hit = SearchResponse.Hit.builder()
+                    .type(type)
+                    .score(rs.getDouble("score"));
+            switch (type) {
+                case TASK -> {
+                    String description = rs.getString("description");
+                    hit.id(rs.getLong("task_id"))
+                            .taskId(rs.getLong("task_id"))
+                            .projectId(rs.getLong("project_id"))
+                            .projectName(rs.getString("project_name"))
+                            .title(rs.getString("title"))
+                            .highlight(terms.highlight(description != null ? description : rs.getString("title")));
+                }
+                case COMMENT -> hit.id(rs.getLong("comment_id"))
+                        .taskId(rs.getLong("task_id"))
+                        .projectId(rs.getLong("project_id"))
+                        .projectName(rs.getString("project_name"))
+                        .title(rs.getString("title"))
+                        .highlight(terms.highlight(rs.getString("content")));
+                case CHAT_MESSAGE -> hit.id(rs.getLong("message_id"))
+                        .channelId(rs.getLong("channel_id"))
+                        .projectId(rs.getObject("project_id") != null ? rs.getLong("project_id") : null)
+                        .title(rs.getString("channel_name"))
+                        .highlight(terms.highlight(rs.getString("content")));
+                case PROJECT -> hit.id(rs.getLong("project_id"))
+                        .projectId(rs.getLong("project_id"))
+                        .projectName(rs.getString("name"))
+                        .title(rs.getString("name"))
+                        .highlight(terms.highlight(rs.getString("name")));
+            }
+            return hit.build();
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.synergyhub.service.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search input reduced to plain word terms. Only letters and digits survive tokenization, so the
+ * MySQL boolean-mode query built from them cannot carry operators supplied by the user.
+ */
+public final class SearchTerms {
+
+    // InnoDB's default innodb_ft_min_token_size; shorter words are not in the index
+    static final int MIN_TERM_LENGTH = 3;
+    static final int MAX_TERMS = 8;
+
+    private static final int SNIPPET_LENGTH = 160;
+
+    private final List<String> terms;
+
+    private SearchTerms(List<String> terms) {
+        this.terms = terms;
+    }
+
+    public static SearchTerms parse(String input) {
+        List<String> terms = new ArrayList<>();
+        if (input != null) {
+            StringBuilder term = new StringBuilder();
+            for (int i = 0; i <= input.length() && terms.size() < MAX_TERMS; i++) {
+                char c = i < input.length() ? input.charAt(i) : ' ';
+                if (Character.isLetterOrDigit(c)) {
+                    term.append(Character.toLowerCase(c));
+                } else if (!term.isEmpty()) {
+                    if (term.length() >= MIN_TERM_LENGTH && !terms.contains(term.toString())) {
+                        terms.add(term.toString());
+                    }
+                    term.setLength(0);
+                }
+            }
+        }
+        return new SearchTerms(List.copyOf(terms));
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Boolean-mode query requiring every term, each as a prefix: "+deploy* +script*".
+     */
+    public String toBooleanQuery() {
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(term).append('*');
+        }
+        return query.toString();
+    }
+
+    /**
+     * HTML-escaped excerpt of {@code text} around the first matching term, with every word that starts
+     * with a term wrapped in {@code <mark>}. Falls back to the start of the text when nothing matches.
+     */
+    public String highlight(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() != text.length()) {
+            // Case mapping changed the length (rare scripts); offsets would not line up
+            return HtmlUtils.htmlEscape(text.substring(0, Math.min(text.length(), SNIPPET_LENGTH)));
+        }
+        int first = -1;
+        for (String term : terms) {
+            int at = indexOfWordPrefix(lower, term, 0);
+            if (at >= 0 && (first < 0 || at < first)) {
+                first = at;
+            }
+        }
+        int start = first < 0 ? 0 : Math.max(0, first - SNIPPET_LENGTH / 4);
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder out = new StringBuilder();
+        if (start > 0) {
+            out.append("…");
+        }
+        int i = start;
+        while (i < end) {
+            int matchEnd = matchAt(lower, i, end);
+            if (matchEnd > i) {
+                out.append("<mark>").append(HtmlUtils.htmlEscape(text.substring(i, matchEnd))).append("</mark>");
+                i = matchEnd;
+            } else {
+                int next = i + 1;
+                while (next < end && matchAt(lower, next, end) == next) {
+                    next++;
+                }
+                out.append(HtmlUtils.htmlEscape(text.substring(i, next)));
+                i = next;
+            }
+        }
+        if (end < text.length()) {
+            out.append("…");
+        }
+        return out.toString();
+    }
+
+    /**
+     * End of the word starting at {@code i} if it begins with a term, else {@code i}.
+     */
+    private int matchAt(String lower, int i, int end) {
+        if (i > 0 && Character.isLetterOrDigit(lower.charAt(i - 1))) {
+            return i;
+        }
+        for (String term : terms) {
+            if (lower.startsWith(term, i)) {
+                int wordEnd = i + term.length();
+                while (wordEnd < end && Character.isLetterOrDigit(lower.charAt(wordEnd))) {
+                    wordEnd++;
+                }
+                return Math.min(wordEnd, end);
+            }
+        }
+        return i;
+    }
+
+    private static int indexOfWordPrefix(String lower, String term, int from) {
+        int at = lower.indexOf(term, from);
+        while (at > 0 && Character.isLetterOrDigit(lower.charAt(at - 1))) {
+            at = lower.indexOf(term, at + 1);
+        }
+        return at;
+    }
+}
@@ -0,0 +1,88 @@
+package com.synergyhub.service.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists login attempt rows off the login path.
+ * Attempts go into a bounded queue that is drained into JDBC batch inserts; when the queue is full
+ * (e.g. during a credential-stuffing burst) new rows are dropped and counted instead of blocking logins.
+ * Rate-limit decisions never depend on these rows - see {@link LoginAttemptService}.
+ */
+@Component
+@Slf4j
+public class LoginAttemptBatchWriter {
+
+    private static final String INSERT_ATTEMPT =
+            "INSERT INTO login_attempts (email, ip_address, success, attempted_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Object[]> queue;
+    private final int batchSize;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LoginAttemptBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.security.login-attempts.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.security.login-attempts.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Never blocks; returns false if the attempt was shed because the queue is full.
+     */
+    public boolean enqueue(String email, String ipAddress, boolean success) {
+        Object[] row = {email, ipAddress, success, Timestamp.valueOf(LocalDateTime.now())};
+        if (queue.offer(row)) {
+            return true;
+        }
+        long total = dropped.incrementAndGet();
+        // Log the first drop and then every 1000th, not every row of a burst
+        if (total == 1 || total % 1000 == 0) {
+            log.warn("Login attempt queue full; {} attempts dropped so far", total);
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.login-attempts.flush-interval-ms:1000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_ATTEMPT, batch);
+                log.debug("Persisted {} login attempts", batch.size());
+            } catch (Exception e) {
+                log.error("Failed to persist {} login attempts: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -1,41 +1,77 @@
 package com.synergyhub.service.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.synergyhub.domain.entity.LoginAttempt;
 import com.synergyhub.events.system.LoginAttemptsCleanupEvent;
 import com.synergyhub.repository.LoginAttemptRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * Tracks login attempts for rate limiting and security analysis.
+ *
+ * Failure counts for recent windows are answered from per-email and per-IP minute buckets held
+ * in memory per node. A window is seeded from login_attempts the first time its email or IP is seen,
+ * so a restart or deploy does not hand out a fresh failure budget; only windows longer than the
+ * tracked horizon are counted in the database. Emails are compared lower-cased on both paths.
+ * Attempt rows are persisted asynchronously by {@link LoginAttemptBatchWriter}.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LoginAttemptService {
 
     private final LoginAttemptRepository loginAttemptRepository;
+    private final LoginAttemptBatchWriter loginAttemptBatchWriter;
     private final ApplicationEventPublisher eventPublisher;
+    private final int windowMinutes;
+
+    private final Cache<String, FailureWindow> failuresByEmail;
+    private final Cache<String, FailureWindow> failuresByIp;
+
+    public LoginAttemptService(
+            LoginAttemptRepository loginAttemptRepository,
+            LoginAttemptBatchWriter loginAttemptBatchWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.security.login-attempts.window-minutes:60}") int windowMinutes,
+            @Value("${app.security.login-attempts.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.loginAttemptBatchWriter = loginAttemptBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.windowMinutes = windowMinutes;
+        this.failuresByEmail = newFailureCache(windowMinutes, maxTrackedKeys);
+        this.failuresByIp = newFailureCache(windowMinutes, maxTrackedKeys);
+    }
 
     /**
-     * Records a login attempt in the login_attempts table.
+     * Records a login attempt: counted in memory immediately, persisted to login_attempts asynchronously.
      * 
      * NOTE: This does NOT create audit logs - audit logging is handled by
      * LoginSuccessEvent and LoginFailedEvent in the authentication flow.
      * This service only tracks attempts for rate limiting and security analysis.
      */
-    @Transactional
     public void recordLoginAttempt(String email, String ipAddress, boolean success) {
-        LoginAttempt attempt = LoginAttempt.builder()
-                .email(email)
-                .ipAddress(ipAddress)
-                .success(success)
-                .build();
-
-        loginAttemptRepository.save(attempt);
+        if (email == null) {
+            return;
+        }
+        String normalizedEmail = normalize(email);
+        if (!success) {
+            long minute = currentMinute();
+            emailWindow(normalizedEmail).record(minute);
+            if (ipAddress != null) {
+                ipWindow(ipAddress).record(minute);
+            }
+        }
+        loginAttemptBatchWriter.enqueue(normalizedEmail, ipAddress, success);
         
         log.debug("Recorded login attempt for email: {}, success: {}, IP: {}", 
                  email, success, ipAddress);
@@ -48,7 +84,7 @@ public class LoginAttemptService {
     @Transactional(readOnly = true)
     public List<LoginAttempt> getRecentFailedAttempts(String email, int minutes) {
         LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
-        List<LoginAttempt> attempts = loginAttemptRepository.findRecentAttemptsByEmail(email, since);
+        List<LoginAttempt> attempts = loginAttemptRepository.findRecentAttemptsByEmail(normalize(email), since);
 
         return attempts.stream()
                 .filter(attempt -> !attempt.getSuccess())
@@ -59,18 +95,23 @@ public class LoginAttemptService {
      * Count recent failed login attempts for an email.
      * Used for rate limiting decisions.
      */
-    @Transactional(readOnly = true)
     public long countRecentFailedAttempts(String email, int minutes) {
+        String normalizedEmail = normalize(email);
+        if (minutes <= windowMinutes) {
+            return emailWindow(normalizedEmail).count(currentMinute(), minutes);
+        }
         LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
-        return loginAttemptRepository.countFailedAttemptsByEmail(email, since);
+        return loginAttemptRepository.countFailedAttemptsByEmail(normalizedEmail, since);
     }
 
     /**
      * Get recent failed attempts from a specific IP address.
      * Used for IP-based rate limiting.
      */
-    @Transactional(readOnly = true)
     public long countRecentFailedAttemptsByIp(String ipAddress, int minutes) {
+        if (minutes <= windowMinutes) {
+            return ipWindow(ipAddress).count(currentMinute(), minutes);
+        }
         LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
         return loginAttemptRepository.countFailedAttemptsByIpAddress(ipAddress, since);
     }
@@ -102,7 +143,7 @@ public class LoginAttemptService {
      */
     @Transactional(readOnly = true)
     public List<LoginAttempt> getAllAttemptsByEmail(String email) {
-        return loginAttemptRepository.findByEmailOrderByAttemptedAtDesc(email);
+        return loginAttemptRepository.findByEmailOrderByAttemptedAtDesc(normalize(email));
     }
 
     /**
@@ -113,4 +154,82 @@ public class LoginAttemptService {
         LocalDateTime since = LocalDateTime.now().minusHours(hours);
         return loginAttemptRepository.findByIpAddressAndAttemptedAtAfter(ipAddress, since);
     }
-}
\ No newline at end of file
+
+    private FailureWindow emailWindow(String normalizedEmail) {
+        return failuresByEmail.get(normalizedEmail, email ->
+                seededWindow(loginAttemptRepository.findFailedAttemptTimesByEmail(email, windowStart())));
+    }
+
+    private FailureWindow ipWindow(String ipAddress) {
+        return failuresByIp.get(ipAddress, ip ->
+                seededWindow(loginAttemptRepository.findFailedAttemptTimesByIpAddress(ip, windowStart())));
+    }
+
+    /**
+     * A window holding the failures already persisted for the key, e.g. by this node before a restart or by another node.
+     */
+    private FailureWindow seededWindow(List<LocalDateTime> failedAt) {
+        FailureWindow window = new FailureWindow(windowMinutes);
+        long oldest = currentMinute() - windowMinutes + 1;
+        for (LocalDateTime attemptedAt : failedAt) {
+            long minute = attemptedAt.atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+            // The partial minute at the far edge would share a slot with the current one
+            if (minute >= oldest) {
+                window.record(minute);
+            }
+        }
+        return window;
+    }
+
+    private LocalDateTime windowStart() {
+        return LocalDateTime.now().minusMinutes(windowMinutes);
+    }
+
+    private static Cache<String, FailureWindow> newFailureCache(int windowMinutes, long maxTrackedKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofMinutes(windowMinutes))
+                .build();
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    /**
+     * Ring of per-minute failure counts covering the last {@code size} minutes.
+     */
+    private static final class FailureWindow {
+        private final long[] minutes;
+        private final int[] counts;
+
+        FailureWindow(int size) {
+            this.minutes = new long[size];
+            this.counts = new int[size];
+        }
+
+        synchronized void record(long minute) {
+            int slot = (int) (minute % minutes.length);
+            if (minutes[slot] != minute) {
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized long count(long nowMinute, int lastMinutes) {
+            long from = nowMinute - lastMinutes + 1;
+            long total = 0;
+            for (int i = 0; i < minutes.length; i++) {
+                if (minutes[i] >= from && minutes[i] <= nowMinute) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
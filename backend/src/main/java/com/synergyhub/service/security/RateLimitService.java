@@ -6,23 +6,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Rate limiting service to prevent brute force attacks.
- * Uses in-memory storage. For production with multiple instances, use Redis.
+ * Backed by the in-memory {@link SlidingWindowRateLimiter}. For production with multiple instances, use Redis.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RateLimitService {
 
-    // In-memory storage: key -> RateLimitEntry
-    // For production with multiple instances, replace with Redis
-    private final Map<String, RateLimitEntry> rateLimitStore = new ConcurrentHashMap<>();
+    private final SlidingWindowRateLimiter rateLimiter;
 
     @Value("${security.rate-limit.two-factor-attempts:5}")
     private int twoFactorMaxAttempts;
@@ -63,7 +58,7 @@ public class RateLimitService {
      */
     public void clear2FAAttempts(String identifier) {
         String key = "2fa:" + identifier;
-        rateLimitStore.remove(key);
+        rateLimiter.reset(key);
         log.debug("Cleared 2FA rate limit for: {}", identifier);
     }
 
@@ -93,74 +88,13 @@ public class RateLimitService {
      * Generic rate limit check
      */
     private boolean isLimited(String key, int maxAttempts, int windowMinutes) {
-        cleanupExpiredEntries();
-        
-        RateLimitEntry entry = rateLimitStore.get(key);
-        if (entry == null) {
-            return false;
-        }
-
-        if (entry.isExpired(windowMinutes)) {
-            rateLimitStore.remove(key);
-            return false;
-        }
-
-        return entry.getAttempts() >= maxAttempts;
+        return rateLimiter.isLimited(key, maxAttempts, TimeUnit.MINUTES.toMillis(windowMinutes));
     }
 
     /**
      * Record an attempt for rate limiting
      */
     private void recordAttempt(String key, int windowMinutes) {
-        cleanupExpiredEntries();
-        
-        rateLimitStore.compute(key, (k, entry) -> {
-            if (entry == null || entry.isExpired(windowMinutes)) {
-                return new RateLimitEntry(LocalDateTime.now(), 1);
-            } else {
-                entry.increment();
-                return entry;
-            }
-        });
-    }
-
-    /**
-     * Periodically cleanup expired entries to prevent memory leaks
-     */
-    private void cleanupExpiredEntries() {
-        // Simple cleanup - removes entries older than 2 hours
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(2);
-        rateLimitStore.entrySet().removeIf(entry -> 
-            entry.getValue().getFirstAttempt().isBefore(cutoff)
-        );
-    }
-
-    /**
-     * Internal class to track rate limit attempts
-     */
-    private static class RateLimitEntry {
-        private final LocalDateTime firstAttempt;
-        private final AtomicInteger attempts;
-
-        public RateLimitEntry(LocalDateTime firstAttempt, int initialCount) {
-            this.firstAttempt = firstAttempt;
-            this.attempts = new AtomicInteger(initialCount);
-        }
-
-        public LocalDateTime getFirstAttempt() {
-            return firstAttempt;
-        }
-
-        public int getAttempts() {
-            return attempts.get();
-        }
-
-        public void increment() {
-            attempts.incrementAndGet();
-        }
-
-        public boolean isExpired(int windowMinutes) {
-            return LocalDateTime.now().isAfter(firstAttempt.plusMinutes(windowMinutes));
-        }
+        rateLimiter.record(key, TimeUnit.MINUTES.toMillis(windowMinutes));
     }
 }
@@ -6,6 +6,7 @@ import com.synergyhub.events.auth.LogoutEvent;
 import com.synergyhub.repository.UserRepository;
 import com.synergyhub.repository.UserSessionRepository;
 import com.synergyhub.security.JwtTokenProvider;
+import com.synergyhub.security.SessionRevocationIndex;
 import com.synergyhub.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -21,6 +24,7 @@ public class SessionManagementService {
     private final UserSessionRepository userSessionRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final SessionRevocationIndex sessionRevocationIndex;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -29,7 +33,8 @@ public class SessionManagementService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         String tokenId = jwtTokenProvider.getTokenIdFromToken(token);
-        userSessionRepository.revokeSessionByTokenId(tokenId);
+        userSessionRepository.revokeSessionByTokenId(tokenId, LocalDateTime.now());
+        sessionRevocationIndex.revokeToken(tokenId);
 
         // ✅ Publish logout event
         eventPublisher.publishEvent(new LogoutEvent(user, ipAddress));
@@ -42,7 +47,9 @@ public class SessionManagementService {
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        userSessionRepository.revokeAllUserSessions(user);
+        user.incrementTokenVersion();
+        sessionRevocationIndex.revokeAllForUser(user.getId());
+        userSessionRepository.revokeAllUserSessions(user, LocalDateTime.now());
 
         // ✅ Publish all sessions revoked event
         eventPublisher.publishEvent(new AllSessionsRevokedEvent(user, ipAddress));
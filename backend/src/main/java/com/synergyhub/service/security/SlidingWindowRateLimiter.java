@@ -0,0 +1,307 @@
+package com.synergyhub.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Striped sliding-window counters used by {@link RateLimitService} and {@code @RateLimited} endpoints.
+ *
+ * Each key holds two fixed-window counts; the sliding estimate weights the previous window by
+ * how much of it still overlaps the current one. Keys are spread over independently locked shards
+ * and expire generationally, per window length: within a shard every window length keeps its own young
+ * and old map, rotated every two windows (at least {@value #MIN_GENERATION_MS}ms), and on rotation the old
+ * map is dropped as a whole, so idle keys disappear without ever scanning the store and a long window
+ * never keeps the keys of a short one alive. Clocks are plain epoch millis; the only allocation on the
+ * hot path is a counter for a previously unseen key.
+ * <p>
+ * The store holds at most {@code max-keys} keys, split evenly over the shards. A new key arriving at a
+ * full shard is handled by the {@link OverflowPolicy}; tracked keys are never evicted to make room,
+ * since that would let a client reset its own counter by spraying keys.
+ */
+@Component
+@Slf4j
+public class SlidingWindowRateLimiter {
+
+    /**
+     * What happens to a key that is not tracked yet when its shard is full.
+     */
+    public enum OverflowPolicy {
+        /** Treat the key as over its limit until idle keys expire (fail closed) */
+        REJECT,
+        /** Let the request through without tracking the key (fail open) */
+        ALLOW
+    }
+
+    private static final long MIN_GENERATION_MS = 60_000;
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final int maxKeysPerShard;
+    private final OverflowPolicy overflowPolicy;
+    private final LongSupplier clock;
+    private final AtomicLong overflows = new AtomicLong();
+
+    @Autowired
+    public SlidingWindowRateLimiter(@Value("${app.rate-limit.shards:64}") int shards,
+                                    @Value("${app.rate-limit.max-keys:1000000}") int maxKeys,
+                                    @Value("${app.rate-limit.overflow-policy:REJECT}") OverflowPolicy overflowPolicy) {
+        this(shards, maxKeys, overflowPolicy, System::currentTimeMillis);
+    }
+
+    SlidingWindowRateLimiter(int shards, int maxKeys, OverflowPolicy overflowPolicy, LongSupplier clock) {
+        int size = shards <= 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.shardMask = size - 1;
+        this.maxKeysPerShard = Math.max(1, maxKeys / size);
+        this.overflowPolicy = overflowPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * Consumes one permit if the sliding count is below {@code permits}.
+     *
+     * @return false if the key is over its limit (nothing is recorded in that case)
+     */
+    public boolean tryAcquire(String key, int permits, long windowMs) {
+        long now = clock.getAsLong();
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.window(key, now, windowMs, true);
+            if (window == null) {
+                return overflowed(key);
+            }
+            window.roll(now, windowMs);
+            if (window.estimate(now, windowMs) >= permits) {
+                return false;
+            }
+            window.current++;
+            return true;
+        }
+    }
+
+    /**
+     * Checks the limit without consuming a permit.
+     */
+    public boolean isLimited(String key, int permits, long windowMs) {
+        long now = clock.getAsLong();
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.window(key, now, windowMs, false);
+            if (window == null) {
+                // An unseen key that could not be recorded afterwards is limited under REJECT
+                return shard.size >= maxKeysPerShard && !overflowed(key);
+            }
+            window.roll(now, windowMs);
+            return window.estimate(now, windowMs) >= permits;
+        }
+    }
+
+    /**
+     * Milliseconds until {@link #tryAcquire} would next succeed for the key, assuming no other requests:
+     * the time for the weighted previous window (and, once the current count alone is over the limit, the
+     * next window start) to let a permit through. 0 if a permit is free now. An untracked key turned away
+     * because its shard is full gets a whole window.
+     */
+    public long retryAfterMs(String key, int permits, long windowMs) {
+        long now = clock.getAsLong();
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.window(key, now, windowMs, false);
+            if (window == null || permits <= 0) {
+                return window == null && overflowPolicy == OverflowPolicy.ALLOW ? 0 : windowMs;
+            }
+            window.roll(now, windowMs);
+            return window.msUntilBelow(now, windowMs, permits);
+        }
+    }
+
+    /**
+     * Records an event unconditionally (e.g. a failed attempt checked earlier with {@link #isLimited}).
+     */
+    public void record(String key, long windowMs) {
+        long now = clock.getAsLong();
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            Window window = shard.window(key, now, windowMs, true);
+            if (window == null) {
+                overflowed(key);
+                return;
+            }
+            window.roll(now, windowMs);
+            window.current++;
+        }
+    }
+
+    public void reset(String key) {
+        Shard shard = shardFor(key);
+        synchronized (shard) {
+            shard.remove(key);
+        }
+    }
+
+    /**
+     * Approximate number of tracked keys (all window lengths, both generations).
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of unseen keys turned away because their shard was full.
+     */
+    public long overflows() {
+        return overflows.get();
+    }
+
+    private boolean overflowed(String key) {
+        long count = overflows.incrementAndGet();
+        if (count == 1 || count % 10_000 == 0) {
+            log.warn("Rate limiter is full ({} keys per shard); {} unseen keys handled as {} so far, latest {}",
+                    maxKeysPerShard, count, overflowPolicy, key);
+        }
+        return overflowPolicy == OverflowPolicy.ALLOW;
+    }
+
+    private Shard shardFor(String key) {
+        int h = key.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+
+    private final class Shard {
+        // One pair of generations per window length; services use a handful of distinct lengths
+        private final Map<Long, Generations> byWindow = new HashMap<>(8);
+        private int size;
+
+        Window window(String key, long now, long windowMs, boolean create) {
+            Generations generations = byWindow.get(windowMs);
+            if (generations == null) {
+                if (!create) {
+                    return null;
+                }
+                generations = new Generations(Math.max(MIN_GENERATION_MS, windowMs * 2));
+                byWindow.put(windowMs, generations);
+            }
+            if (now >= generations.rotateAt) {
+                rotate(now);
+            }
+            Window window = generations.young.get(key);
+            if (window == null) {
+                window = generations.old.remove(key);
+                if (window == null && create && size < maxKeysPerShard) {
+                    window = new Window();
+                    size++;
+                }
+                if (window != null) {
+                    generations.young.put(key, window);
+                }
+            }
+            return window;
+        }
+
+        // Rotates every window length that is due, so lengths no longer in use still drain
+        private void rotate(long now) {
+            for (Generations generations : byWindow.values()) {
+                if (now >= generations.rotateAt) {
+                    size -= generations.rotate(now);
+                }
+            }
+        }
+
+        void remove(String key) {
+            for (Generations generations : byWindow.values()) {
+                if (generations.young.remove(key) != null) {
+                    size--;
+                }
+                if (generations.old.remove(key) != null) {
+                    size--;
+                }
+            }
+        }
+    }
+
+    private static final class Generations {
+        private final long generationMs;
+        private Map<String, Window> young = new HashMap<>();
+        private Map<String, Window> old = new HashMap<>();
+        private long rotateAt;
+
+        Generations(long generationMs) {
+            this.generationMs = generationMs;
+        }
+
+        /**
+         * @return number of keys dropped
+         */
+        int rotate(long now) {
+            int dropped;
+            // Keys idle for a whole generation are dropped wholesale
+            if (now >= rotateAt + generationMs) {
+                dropped = old.size() + young.size();
+                old = new HashMap<>();
+            } else {
+                dropped = old.size();
+                old = young;
+            }
+            young = new HashMap<>();
+            rotateAt = now + generationMs;
+            return dropped;
+        }
+    }
+    private static final class Window {
+        private long index = Long.MIN_VALUE;
+        private int previous;
+        private int current;
+
+        void roll(long now, long windowMs) {
+            long nowIndex = now / windowMs;
+            if (nowIndex == index) {
+                return;
+            }
+            previous = nowIndex == index + 1 ? current : 0;
+            current = 0;
+            index = nowIndex;
+        }
+
+        long estimate(long now, long windowMs) {
+            long remainingOfPrevious = windowMs - (now % windowMs);
+            return current + (previous * remainingOfPrevious) / windowMs;
+        }
+
+        long msUntilBelow(long now, long windowMs, int permits) {
+            long offset = now % windowMs;
+            if (current < permits) {
+                return untilDecayed(previous, permits - current, offset, windowMs);
+            }
+            // Nothing frees up before the current count becomes the previous one
+            return windowMs - offset + untilDecayed(current, permits, 0, windowMs);
+        }
+
+        /**
+         * Time from {@code offset} until {@code weight * (windowMs - t) / windowMs}, rounded down like
+         * {@link #estimate}, drops below {@code need}: the first t with weight * (windowMs - t) < need * windowMs.
+         */
+        private static long untilDecayed(long weight, long need, long offset, long windowMs) {
+            if (weight == 0) {
+                return 0;
+            }
+            long first = windowMs - (need * windowMs + weight - 1) / weight + 1;
+            return Math.max(0, first - offset);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.synergyhub.dto.response.SprintResponse;
 import com.synergyhub.exception.*;
 import com.synergyhub.repository.ProjectRepository;
 import com.synergyhub.repository.SprintRepository;
+import com.synergyhub.security.ProjectAclIndex;
 import com.synergyhub.service.security.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,7 @@ public class SprintService {
     private final ProjectRepository projectRepository;
     private final SprintMapper sprintMapper;
     private final AuditLogService auditLogService;
+    private final ProjectAclIndex projectAclIndex;
 
     @PreAuthorize("@projectSecurity.hasProjectAccess(#request.projectId, #currentUser)")
     @Transactional
@@ -91,6 +93,7 @@ public class SprintService {
 
         Sprint savedSprint = sprintRepository.save(sprint);
         log.info("Sprint created successfully: {}", savedSprint.getId());
+        projectAclIndex.registerSprint(savedSprint.getId(), project.getId());
 
         auditLogService.createAuditLog(
             currentUser,
@@ -426,6 +429,7 @@ public class SprintService {
         String projectName = sprint.getProject().getName();
 
         sprintRepository.delete(sprint);
+        projectAclIndex.evictSprint(sprintId);
         log.info("Sprint deleted successfully: {}", sprintId);
 
         auditLogService.createAuditLog(
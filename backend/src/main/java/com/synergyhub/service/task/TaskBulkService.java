@@ -0,0 +1,289 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Sprint;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.dto.request.BulkTaskRequest;
+import com.synergyhub.dto.response.BulkTaskResponse;
+import com.synergyhub.events.task.TaskBulkUpdatedEvent;
+import com.synergyhub.exception.*;
+import com.synergyhub.repository.SprintRepository;
+import com.synergyhub.repository.TaskListRow;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.repository.TaskSpecifications;
+import com.synergyhub.repository.UserRepository;
+import com.synergyhub.security.OrganizationContext;
+import com.synergyhub.security.ProjectSecurity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Applies one operation to many tasks with set-based UPDATEs (labels: a JDBC batch) in a single transaction.
+ * Access is checked once per project rather than once per task, and the batch produces a single
+ * {@link TaskBulkUpdatedEvent}, audited as one entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBulkService {
+
+    private static final String INSERT_LABEL = "INSERT INTO task_labels (task_id, label) VALUES (?, ?)";
+
+    // Statuses Task.canBeMovedToSprint() accepts
+    private static final Set<TaskStatus> MOVABLE = EnumSet.of(
+            TaskStatus.TO_DO, TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS, TaskStatus.IN_REVIEW, TaskStatus.BLOCKED);
+
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+    private final UserRepository userRepository;
+    private final ProjectSecurity projectSecurity;
+    private final TaskCounterService taskCounterService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.tasks.bulk.max-tasks:1000}")
+    private int maxTasks;
+
+    @Transactional
+    public BulkTaskResponse apply(BulkTaskRequest request, User currentUser, String ipAddress) {
+        Long orgId = OrganizationContext.getcurrentOrgId();
+        List<TaskListRow.Ref> targets = resolveTargets(request, orgId);
+        List<Long> taskIds = targets.stream().map(TaskListRow.Ref::id).toList();
+        Set<Long> projectIds = new TreeSet<>();
+        targets.forEach(ref -> projectIds.add(ref.projectId()));
+
+        log.info("Bulk {} on {} tasks in projects {} by user: {}",
+                request.getOperation(), taskIds.size(), projectIds, currentUser.getId());
+
+        for (Long projectId : projectIds) {
+            if (!projectSecurity.hasProjectAccess(projectId, currentUser.getId(), orgId)) {
+                throw new UnauthorizedException("User does not have access to project " + projectId);
+            }
+        }
+
+        String changes;
+        int updated;
+        if (taskIds.isEmpty()) {
+            changes = "no matching tasks";
+            updated = 0;
+        } else {
+            switch (request.getOperation()) {
+                case MOVE_TO_SPRINT -> {
+                    Sprint sprint = request.getSprintId() != null ? loadSprint(request.getSprintId(), projectIds) : null;
+                    updated = moveToSprint(targets, sprint);
+                    changes = "moved to " + (sprint != null ? "sprint '" + sprint.getName() + "'" : "Backlog");
+                }
+                case ASSIGN -> {
+                    User assignee = loadAssignee(required(request.getAssigneeId(), "assigneeId"), projectIds, orgId);
+                    updated = taskRepository.bulkAssign(taskIds, assignee);
+                    // Like a single update, a STORY hands its assignee down to its child TASKs
+                    List<Long> storyIds = taskRepository.findStoryIds(taskIds);
+                    if (!storyIds.isEmpty()) {
+                        taskRepository.bulkAssignChildTasks(storyIds, assignee);
+                    }
+                    changes = "assigned to " + assignee.getName();
+                }
+                case UNASSIGN -> {
+                    updated = taskRepository.bulkUnassign(taskIds);
+                    List<Long> storyIds = taskRepository.findStoryIds(taskIds);
+                    if (!storyIds.isEmpty()) {
+                        taskRepository.bulkUnassignChildTasks(storyIds);
+                    }
+                    changes = "unassigned";
+                }
+                case SET_PRIORITY -> {
+                    updated = taskRepository.bulkSetPriority(taskIds, required(request.getPriority(), "priority"));
+                    changes = "priority set to " + request.getPriority();
+                }
+                case SET_STATUS -> {
+                    taskCounterService.beforeBulkStatusChange(taskIds, required(request.getStatus(), "status"));
+                    updated = taskRepository.bulkSetStatus(taskIds, request.getStatus());
+                    changes = "status set to " + request.getStatus();
+                }
+                case ADD_LABELS -> {
+                    updated = addLabels(taskIds, requiredLabels(request));
+                    changes = "labels added: " + request.getLabels();
+                }
+                case REMOVE_LABELS -> {
+                    updated = removeLabels(taskIds, requiredLabels(request));
+                    changes = "labels removed: " + request.getLabels();
+                }
+                default -> throw new BadRequestException("Unsupported bulk operation: " + request.getOperation());
+            }
+        }
+
+        eventPublisher.publishEvent(new TaskBulkUpdatedEvent(currentUser, ipAddress, request.getOperation().name(),
+                Collections.unmodifiableSet(projectIds), taskIds.size(), updated, changes));
+
+        return BulkTaskResponse.builder()
+                .operation(request.getOperation())
+                .matchedCount(taskIds.size())
+                .updatedCount(updated)
+                .skippedCount(taskIds.size() - updated)
+                .build();
+    }
+
+    /**
+     * Ids and projects of the selected tasks in the current organization; ids outside it count as not found.
+     */
+    private List<TaskListRow.Ref> resolveTargets(BulkTaskRequest request, Long orgId) {
+        boolean byIds = request.getTaskIds() != null && !request.getTaskIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw new BadRequestException("Provide either taskIds or filter");
+        }
+        // The query returns each task once, so repeated ids must not count towards the cap or as missing
+        Set<Long> requestedIds = byIds ? new LinkedHashSet<>(request.getTaskIds()) : Set.of();
+        if (requestedIds.size() > maxTasks) {
+            throw new BadRequestException("At most " + maxTasks + " tasks per bulk operation");
+        }
+
+        Specification<Task> spec = (byIds ? TaskSpecifications.idIn(requestedIds) : filterSpec(request.getFilter()))
+                .and(TaskSpecifications.inOrganization(orgId));
+        List<TaskListRow.Ref> targets = taskRepository.findRefs(spec, maxTasks + 1);
+
+        if (targets.size() > maxTasks) {
+            throw new BadRequestException("Filter matches more than " + maxTasks + " tasks; narrow it down");
+        }
+        if (targets.size() < requestedIds.size()) {
+            Set<Long> found = new HashSet<>();
+            targets.forEach(ref -> found.add(ref.id()));
+            Long missing = requestedIds.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new TaskNotFoundException(missing);
+        }
+        return targets;
+    }
+
+    private static Specification<Task> filterSpec(BulkTaskRequest.Filter filter) {
+        Specification<Task> spec = TaskSpecifications.inProject(filter.getProjectId());
+        if (filter.getSprintId() != null) {
+            spec = spec.and(TaskSpecifications.inSprint(filter.getSprintId()));
+        }
+        if (Boolean.TRUE.equals(filter.getBacklog())) {
+            spec = spec.and(TaskSpecifications.inBacklog());
+        }
+        if (filter.getAssigneeId() != null) {
+            spec = spec.and(TaskSpecifications.assignedTo(filter.getAssigneeId()));
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and(TaskSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getPriority() != null) {
+            spec = spec.and(TaskSpecifications.hasPriority(filter.getPriority()));
+        }
+        return spec;
+    }
+
+    private Sprint loadSprint(Long sprintId, Set<Long> projectIds) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new SprintNotFoundException(sprintId));
+        if (projectIds.size() != 1 || !projectIds.contains(sprint.getProject().getId())) {
+            throw new BadRequestException("Sprint does not belong to the tasks' project");
+        }
+        return sprint;
+    }
+
+    private User loadAssignee(Long assigneeId, Set<Long> projectIds, Long orgId) {
+        User assignee = userRepository.findById(assigneeId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId));
+        for (Long projectId : projectIds) {
+            if (!projectSecurity.hasProjectAccess(projectId, assignee.getId(), orgId)) {
+                throw new TaskAssignmentException("User is not a member of project " + projectId);
+            }
+        }
+        return assignee;
+    }
+
+    /**
+     * Moves the eligible tasks, then carries their epic children and subtasks (at any depth) into the same sprint.
+     * Like a single move, a task that may not enter a sprint keeps its children where they are.
+     */
+    private int moveToSprint(List<TaskListRow.Ref> targets, Sprint sprint) {
+        List<Long> eligible = targets.stream()
+                .filter(ref -> sprint == null || MOVABLE.contains(ref.status()))
+                .map(TaskListRow.Ref::id)
+                .toList();
+        if (eligible.isEmpty()) {
+            return 0;
+        }
+        int moved;
+        if (sprint != null) {
+            // Only BACKLOG -> TO_DO, which leaves the completed-subtask counters unchanged
+            moved = taskRepository.bulkMoveToSprint(eligible, sprint, MOVABLE);
+        } else {
+            taskCounterService.beforeBulkStatusChange(eligible, TaskStatus.BACKLOG);
+            moved = taskRepository.bulkMoveToBacklog(eligible);
+        }
+
+        // Selected tasks that were not eligible keep their place even when they sit below an eligible one
+        Set<Long> descendants = taskHierarchyService.findDescendantIds(eligible);
+        targets.forEach(ref -> descendants.remove(ref.id()));
+        if (!descendants.isEmpty()) {
+            taskRepository.bulkSetSprint(descendants, sprint);
+        }
+        return moved;
+    }
+
+    /**
+     * Inserts the missing (task, label) pairs in one JDBC batch.
+     *
+     * @return number of tasks that gained at least one label
+     */
+    private int addLabels(List<Long> taskIds, List<String> labels) {
+        Set<String> existing = new HashSet<>();
+        for (Object[] pair : taskRepository.findLabelPairs(taskIds, labels)) {
+            existing.add(((Number) pair[0]).longValue() + "|" + pair[1]);
+        }
+        List<Object[]> rows = new ArrayList<>();
+        Set<Long> changed = new HashSet<>();
+        for (Long taskId : taskIds) {
+            for (String label : labels) {
+                if (!existing.contains(taskId + "|" + label)) {
+                    rows.add(new Object[]{taskId, label});
+                    changed.add(taskId);
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LABEL, rows);
+        }
+        return changed.size();
+    }
+
+    /**
+     * @return number of tasks that lost at least one label
+     */
+    private int removeLabels(List<Long> taskIds, List<String> labels) {
+        Set<Long> changed = new HashSet<>();
+        for (Object[] pair : taskRepository.findLabelPairs(taskIds, labels)) {
+            changed.add(((Number) pair[0]).longValue());
+        }
+        if (!changed.isEmpty()) {
+            taskRepository.bulkRemoveLabels(changed, labels);
+        }
+        return changed.size();
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new BadRequestException("Field '" + field + "' is required for this operation");
+        }
+        return value;
+    }
+
+    private static List<String> requiredLabels(BulkTaskRequest request) {
+        if (request.getLabels() == null || request.getLabels().isEmpty()) {
+            throw new BadRequestException("Field 'labels' is required for this operation");
+        }
+        return request.getLabels().stream().map(String::trim).distinct().toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.synergyhub.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repairs drift in the denormalized task counters (subtask_count, completed_subtask_count, watchers_count),
+ * e.g. after a manual SQL fix or a write path that bypassed {@link TaskCounterService}. Tasks are scanned in
+ * id ranges with index-only counts; drifted rows are locked before being recounted, so a concurrent
+ * counter update is either already committed and counted or waits and applies on top of the repaired value.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCounterReconciliationJob {
+
+    private static final String COUNTS = "SELECT t.task_id, t.subtask_count, t.completed_subtask_count, t.watchers_count, " +
+            "(SELECT COUNT(*) FROM tasks s WHERE s.parent_task_id = t.task_id) AS actual_subtasks, " +
+            "(SELECT COUNT(*) FROM tasks s WHERE s.parent_task_id = t.task_id AND s.status = 'DONE') AS actual_completed, " +
+            "(SELECT COUNT(*) FROM task_watchers w WHERE w.task_id = t.task_id) AS actual_watchers " +
+            "FROM tasks t ";
+
+    private static final String UPDATE = "UPDATE tasks SET subtask_count = :subtasks, completed_subtask_count = :completed, " +
+            "watchers_count = :watchers WHERE task_id = :taskId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.counters.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.tasks.counters.reconciliation.batch-size:1000}")
+    private int batchSize;
+
+    private record Counts(long taskId, int subtasks, int completed, int watchers,
+                          int actualSubtasks, int actualCompleted, int actualWatchers) {
+
+        boolean drifted() {
+            return subtasks != actualSubtasks || completed != actualCompleted || watchers != actualWatchers;
+        }
+    }
+
+    private static final RowMapper<Counts> COUNTS_MAPPER = (rs, rowNum) -> new Counts(
+            rs.getLong("task_id"), rs.getInt("subtask_count"), rs.getInt("completed_subtask_count"),
+            rs.getInt("watchers_count"), rs.getInt("actual_subtasks"), rs.getInt("actual_completed"),
+            rs.getInt("actual_watchers"));
+
+    @Scheduled(initialDelayString = "${app.tasks.counters.reconciliation.initial-delay-ms:300000}",
+               fixedDelayString = "${app.tasks.counters.reconciliation.interval-ms:21600000}")
+    public void reconcileScheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * @return number of tasks whose counters were repaired
+     */
+    public int reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(task_id), 0) FROM tasks", Map.of(), Long.class);
+        int repaired = 0;
+        for (long from = 0; maxId != null && from < maxId; from += batchSize) {
+            List<Long> drifted = findDrifted(from, from + batchSize);
+            if (!drifted.isEmpty()) {
+                Integer fixed = transactionTemplate.execute(status -> repair(drifted));
+                repaired += fixed != null ? fixed : 0;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Repaired drifted subtask/watcher counters on {} tasks", repaired);
+        }
+        return repaired;
+    }
+
+    private List<Long> findDrifted(long fromExclusive, long toInclusive) {
+        List<Long> drifted = new ArrayList<>();
+        jdbcTemplate.query(COUNTS + "WHERE t.task_id > :from AND t.task_id <= :to",
+                        new MapSqlParameterSource("from", fromExclusive).addValue("to", toInclusive), COUNTS_MAPPER)
+                .forEach(counts -> {
+                    if (counts.drifted()) {
+                        drifted.add(counts.taskId());
+                    }
+                });
+        return drifted;
+    }
+
+    /**
+     * Locks the rows first so the recount below sees every committed child and watcher change.
+     */
+    private int repair(List<Long> taskIds) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("taskIds", taskIds);
+        jdbcTemplate.queryForList("SELECT task_id FROM tasks WHERE task_id IN (:taskIds) FOR UPDATE", ids, Long.class);
+
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        for (Counts counts : jdbcTemplate.query(COUNTS + "WHERE t.task_id IN (:taskIds)", ids, COUNTS_MAPPER)) {
+            if (counts.drifted()) {
+                log.debug("Task {} counters drifted: subtasks {}/{}, completed {}/{}, watchers {}/{}", counts.taskId(),
+                        counts.subtasks(), counts.actualSubtasks(), counts.completed(), counts.actualCompleted(),
+                        counts.watchers(), counts.actualWatchers());
+                updates.add(new MapSqlParameterSource("taskId", counts.taskId())
+                        .addValue("subtasks", counts.actualSubtasks())
+                        .addValue("completed", counts.actualCompleted())
+                        .addValue("watchers", counts.actualWatchers()));
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE, updates.toArray(new MapSqlParameterSource[0]));
+        }
+        return updates.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps tasks.subtask_count and tasks.completed_subtask_count in step with the parent_task_id rows,
+ * with relative UPDATEs in the caller's transaction. The parent row lock taken by each UPDATE orders
+ * concurrent changes to the same parent; {@link TaskCounterReconciliationJob} repairs any drift left by
+ * writes that bypass this service.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskCounterService {
+
+    private final TaskRepository taskRepository;
+
+    @Transactional
+    public void subtaskAdded(Task subtask) {
+        if (subtask.getParentTask() != null) {
+            taskRepository.adjustSubtaskCounts(subtask.getParentTask().getId(), 1, isDone(subtask.getStatus()) ? 1 : 0);
+        }
+    }
+
+    @Transactional
+    public void subtaskRemoved(Task subtask) {
+        if (subtask.getParentTask() != null) {
+            taskRepository.adjustSubtaskCounts(subtask.getParentTask().getId(), -1, isDone(subtask.getStatus()) ? -1 : 0);
+        }
+    }
+
+    /**
+     * Call after changing the status of a single task.
+     */
+    @Transactional
+    public void statusChanged(Task task, TaskStatus previous) {
+        if (task.getParentTask() != null && isDone(previous) != isDone(task.getStatus())) {
+            taskRepository.adjustSubtaskCounts(task.getParentTask().getId(), 0, isDone(task.getStatus()) ? 1 : -1);
+        }
+    }
+
+    /**
+     * Call before a set-based UPDATE that moves {@code taskIds} to {@code status}; reads their current
+     * statuses in one grouped query and applies one counter update per affected parent.
+     */
+    @Transactional
+    public void beforeBulkStatusChange(Collection<Long> taskIds, TaskStatus status) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> completedDeltas = new HashMap<>();
+        for (Object[] row : taskRepository.countSubtasksByParentAndStatus(taskIds)) {
+            Long parentId = ((Number) row[0]).longValue();
+            TaskStatus previous = (TaskStatus) row[1];
+            int count = ((Number) row[2]).intValue();
+            if (isDone(previous) != isDone(status)) {
+                completedDeltas.merge(parentId, isDone(status) ? count : -count, Integer::sum);
+            }
+        }
+        completedDeltas.forEach((parentId, delta) -> taskRepository.adjustSubtaskCounts(parentId, 0, delta));
+    }
+
+    private static boolean isDone(TaskStatus status) {
+        return status == TaskStatus.DONE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.repository.TaskListRow;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a task list ordered by (priority DESC, createdAt ASC, id ASC), the order every task
+ * list has always used, with the id as a unique tie-breaker. Clients only see the opaque
+ * Base64URL form, so the encoding can change without breaking them.
+ */
+public record TaskCursor(TaskPriority priority, LocalDateTime createdAt, Long id) {
+
+    public static final Sort SORT = Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskCursor of(TaskListRow row) {
+        return new TaskCursor(row.priority(), row.createdAt(), row.id());
+    }
+
+    public String encode() {
+        String raw = priority.name() + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a null/blank value (first page)
+     * @throws BadRequestException if the cursor was not produced by {@link #encode()}
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TaskCursor(
+                    TaskPriority.valueOf(raw.substring(0, first)),
+                    LocalDateTime.parse(raw.substring(first + 1, last)),
+                    Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
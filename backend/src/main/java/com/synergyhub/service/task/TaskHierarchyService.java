@@ -0,0 +1,131 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Sprint;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.repository.TaskHierarchyRepository;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.repository.TaskRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains the task_hierarchy closure table and answers hierarchy questions from it: descendants, ancestry
+ * (for cycle checks), depth and subtree rollups each take one indexed query instead of walking
+ * getSubtasks() / getEpicChildren(). A task's hierarchy parent is its parent task, or else its epic.
+ * <p>
+ * Set-based changes to descendants bypass the persistence context, so callers must not rely on descendants
+ * already loaded in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskHierarchyService {
+
+    private final TaskHierarchyRepository hierarchyRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Call once a new task has its id.
+     */
+    @Transactional
+    public void taskCreated(Task task) {
+        hierarchyRepository.insertSelf(task.getId());
+        Task parent = hierarchyParent(task);
+        if (parent != null) {
+            hierarchyRepository.attach(task.getId(), parent.getId());
+        }
+    }
+
+    /**
+     * Call after changing the parent task or epic of an existing task; moves its whole subtree along.
+     */
+    @Transactional
+    public void parentChanged(Task task) {
+        List<Long> ancestors = hierarchyRepository.findAncestorIds(task.getId());
+        if (!ancestors.isEmpty()) {
+            hierarchyRepository.detach(hierarchyRepository.findSubtreeIds(task.getId()), ancestors);
+        }
+        Task parent = hierarchyParent(task);
+        if (parent != null) {
+            hierarchyRepository.attach(task.getId(), parent.getId());
+        }
+    }
+
+    /**
+     * Whether making {@code newParentId} the hierarchy parent of {@code taskId} would close a cycle.
+     */
+    @Transactional(readOnly = true)
+    public boolean wouldCreateCycle(Long taskId, Long newParentId) {
+        return hierarchyRepository.isAncestorOrSelf(taskId, newParentId);
+    }
+
+    /**
+     * Call before deleting a task. Its subtasks (at any depth) are deleted with it, as the parent_task_id
+     * foreign key cascades; its epic children are only detached and become roots of their own subtrees.
+     *
+     * @return ids of the subtasks to delete along with the task, deepest first
+     */
+    @Transactional
+    public List<Long> taskDeleting(Long taskId) {
+        List<Long> subtaskSubtree = new ArrayList<>();
+        hierarchyRepository.findSubtaskSubtreeIds(taskId).forEach(id -> subtaskSubtree.add(id.longValue()));
+
+        List<Long> ancestorsAndSelf = new ArrayList<>(hierarchyRepository.findAncestorIds(taskId));
+        ancestorsAndSelf.add(taskId);
+        hierarchyRepository.detach(hierarchyRepository.findSubtreeIds(taskId), ancestorsAndSelf);
+
+        List<Long> deleted = new ArrayList<>(subtaskSubtree);
+        deleted.add(taskId);
+        hierarchyRepository.deleteAllFor(deleted);
+        return subtaskSubtree;
+    }
+
+    /**
+     * All descendants of {@code rootIds}, excluding the roots themselves.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findDescendantIds(Collection<Long> rootIds) {
+        Set<Long> descendants = new LinkedHashSet<>();
+        if (rootIds.isEmpty()) {
+            return descendants;
+        }
+        descendants.addAll(hierarchyRepository.findDescendantIds(rootIds));
+        descendants.removeAll(rootIds);
+        return descendants;
+    }
+
+    /**
+     * Levels above the task: 0 for a root, 1 for an epic child or subtask of a root, and so on.
+     */
+    @Transactional(readOnly = true)
+    public int getDepth(Long taskId) {
+        return hierarchyRepository.findDepth(taskId);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskRollup rollup(Long taskId) {
+        return hierarchyRepository.rollup(taskId);
+    }
+
+    /**
+     * Puts every descendant of {@code rootIds} into {@code sprint} ({@code null}: the backlog). Statuses are
+     * left alone, matching a single move where only the moved task itself changes status.
+     *
+     * @return number of descendants moved
+     */
+    @Transactional
+    public int moveDescendantsToSprint(Collection<Long> rootIds, Sprint sprint) {
+        Set<Long> descendants = findDescendantIds(rootIds);
+        return descendants.isEmpty() ? 0 : taskRepository.bulkSetSprint(descendants, sprint);
+    }
+
+    private static Task hierarchyParent(Task task) {
+        return task.getParentTask() != null ? task.getParentTask() : task.getEpic();
+    }
+}
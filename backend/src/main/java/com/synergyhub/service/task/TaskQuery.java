@@ -0,0 +1,66 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * A parsed task filter, e.g.
+ * {@code assignee = me AND status IN (IN_PROGRESS, BLOCKED) AND label = backend AND due < +7d ORDER BY priority}.
+ * Field names, operators and literals are resolved once by {@link #parse}; {@link #toSpecification} only binds
+ * the viewer ({@code me}) and the clock ({@code now}, {@code today}, {@code +7d}), so a plan can be cached and
+ * shared between users.
+ *
+ * <pre>
+ * query     := [or] [ORDER BY priority [DESC] [, created [ASC]]]
+ * or        := and {OR and}
+ * and       := unary {AND unary}
+ * unary     := NOT unary | ( or ) | condition
+ * condition := field (= | != | &lt; | &lt;= | &gt; | &gt;=) value
+ *            | field [NOT] IN ( value {, value} )
+ *            | field IS [NOT] EMPTY
+ * value     := word | number | "quoted text" | me | now | today | 2025-01-31 | 2025-01-31T09:30 | +7d | -12h | -2w
+ * </pre>
+ *
+ * Fields: status, priority, type, assignee, reporter, project, sprint, epic, parent, label, points,
+ * due, start, created, updated, archived. {@code !=} and {@code NOT IN} also match tasks where the field is empty.
+ * Results always come back in the keyset order of task lists, so ORDER BY may only spell out that order.
+ */
+public final class TaskQuery {
+
+    /**
+     * Compiled condition; binding produces the Criteria predicate for one execution.
+     */
+    @FunctionalInterface
+    interface Clause {
+        Specification<Task> bind(Long userId, LocalDateTime now);
+    }
+
+    private final String text;
+    private final Clause where;
+
+    TaskQuery(String text, Clause where) {
+        this.text = text;
+        this.where = where;
+    }
+
+    /**
+     * @throws com.synergyhub.exception.BadRequestException with the position of the error if the query is invalid
+     */
+    public static TaskQuery parse(String text) {
+        return new TaskQueryParser(text).parse();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @param userId viewer the query runs for, substituted for {@code me}
+     * @param now    reference time for relative dates
+     */
+    public Specification<Task> toSpecification(Long userId, LocalDateTime now) {
+        return where != null ? where.bind(userId, now) : (root, query, cb) -> cb.conjunction();
+    }
+}
@@ -0,0 +1,25 @@
+package com.synergyhub.service.task;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Parsed {@link TaskQuery} plans keyed by query text. Saved filters are re-run with the same text,
+ * so they are parsed once per instance; plans carry no user or time, so one entry serves every viewer.
+ * Invalid queries throw from {@link #get} and are not cached.
+ */
+@Component
+public class TaskQueryCache {
+
+    private final Cache<String, TaskQuery> plans;
+
+    public TaskQueryCache(@Value("${app.tasks.query.plan-cache-size:1000}") long maxPlans) {
+        this.plans = Caffeine.newBuilder().maximumSize(maxPlans).build();
+    }
+
+    public TaskQuery get(String query) {
+        return plans.get(query == null ? "" : query.trim(), TaskQuery::parse);
+    }
+}
@@ -0,0 +1,591 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.domain.enums.TaskType;
+import com.synergyhub.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tokenizer and recursive-descent parser for {@link TaskQuery}. Each condition compiles straight to a
+ * {@link TaskQuery.Clause} over the mapped {@link Task} attributes, so execution goes through the same
+ * Criteria path (and indexes) as every other task list.
+ */
+final class TaskQueryParser {
+
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_VALUES = 100;
+    private static final int MAX_RELATIVE_DAYS = 36_500;
+
+    private enum Kind { WORD, NUMBER, STRING, DATE, RELATIVE, OPERATOR, LPAREN, RPAREN, COMMA, END }
+
+    private record Token(Kind kind, String text, int position) {
+        boolean is(String keyword) {
+            return kind == Kind.WORD && text.equalsIgnoreCase(keyword);
+        }
+    }
+
+    private enum Type { ENUM, USER, REFERENCE, LABEL, NUMBER, DATE, BOOLEAN }
+
+    /**
+     * @param attribute mapped attribute of {@link Task}; associations are compared by id
+     */
+    private record Field(String name, String attribute, Type type, boolean nullable, Class<? extends Enum<?>> enumType) {
+
+        Path<Object> path(Root<Task> root) {
+            Path<Object> path = root.get(attribute);
+            return type == Type.USER || type == Type.REFERENCE ? path.get("id") : path;
+        }
+    }
+
+    private static final Map<String, Field> FIELDS = Map.ofEntries(
+            field("status", "status", Type.ENUM, false, TaskStatus.class),
+            field("priority", "priority", Type.ENUM, false, TaskPriority.class),
+            field("type", "type", Type.ENUM, false, TaskType.class),
+            field("assignee", "assignee", Type.USER, true, null),
+            field("reporter", "reporter", Type.USER, false, null),
+            field("project", "project", Type.REFERENCE, false, null),
+            field("sprint", "sprint", Type.REFERENCE, true, null),
+            field("epic", "epic", Type.REFERENCE, true, null),
+            field("parent", "parentTask", Type.REFERENCE, true, null),
+            field("label", "labels", Type.LABEL, true, null),
+            field("labels", "labels", Type.LABEL, true, null),
+            field("points", "storyPoints", Type.NUMBER, true, null),
+            field("due", "dueDate", Type.DATE, true, null),
+            field("start", "startDate", Type.DATE, true, null),
+            field("created", "createdAt", Type.DATE, false, null),
+            field("updated", "updatedAt", Type.DATE, true, null),
+            field("archived", "archived", Type.BOOLEAN, false, null)
+    );
+
+    private final String text;
+    private final List<Token> tokens;
+    private int next;
+    private int depth;
+
+    TaskQueryParser(String text) {
+        if (text == null) {
+            throw new BadRequestException("Task query is required");
+        }
+        this.text = text.trim();
+        this.tokens = tokenize(this.text);
+    }
+
+    TaskQuery parse() {
+        TaskQuery.Clause where = null;
+        if (peek().kind() != Kind.END && !peek().is("ORDER")) {
+            where = or();
+        }
+        if (peek().is("ORDER")) {
+            orderBy();
+        }
+        expect(Kind.END, "AND, OR or the end of the query");
+        return new TaskQuery(text, where);
+    }
+
+    // ---- Grammar ----
+
+    private TaskQuery.Clause or() {
+        List<TaskQuery.Clause> parts = new ArrayList<>();
+        parts.add(and());
+        while (accept("OR")) {
+            parts.add(and());
+        }
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        return (userId, now) -> {
+            Specification<Task> spec = parts.get(0).bind(userId, now);
+            for (int i = 1; i < parts.size(); i++) {
+                spec = spec.or(parts.get(i).bind(userId, now));
+            }
+            return spec;
+        };
+    }
+
+    private TaskQuery.Clause and() {
+        List<TaskQuery.Clause> parts = new ArrayList<>();
+        parts.add(unary());
+        while (accept("AND")) {
+            parts.add(unary());
+        }
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        return (userId, now) -> {
+            Specification<Task> spec = parts.get(0).bind(userId, now);
+            for (int i = 1; i < parts.size(); i++) {
+                spec = spec.and(parts.get(i).bind(userId, now));
+            }
+            return spec;
+        };
+    }
+
+    private TaskQuery.Clause unary() {
+        if (++depth > MAX_DEPTH) {
+            throw error(peek(), "query is nested too deeply");
+        }
+        try {
+            if (accept("NOT")) {
+                TaskQuery.Clause inner = unary();
+                return (userId, now) -> Specification.not(inner.bind(userId, now));
+            }
+            if (peek().kind() == Kind.LPAREN) {
+                next++;
+                TaskQuery.Clause inner = or();
+                expect(Kind.RPAREN, "')'");
+                return inner;
+            }
+            return condition();
+        } finally {
+            depth--;
+        }
+    }
+
+    private TaskQuery.Clause condition() {
+        Token name = expect(Kind.WORD, "a field name");
+        Field field = FIELDS.get(name.text().toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw error(name, "unknown field '" + name.text() + "'");
+        }
+
+        if (accept("IS")) {
+            boolean negated = accept("NOT");
+            if (!accept("EMPTY") && !accept("NULL")) {
+                throw error(peek(), "expected EMPTY");
+            }
+            return empty(field, name, negated);
+        }
+
+        boolean negated = accept("NOT");
+        if (accept("IN")) {
+            expect(Kind.LPAREN, "'('");
+            List<Token> values = new ArrayList<>();
+            do {
+                values.add(value());
+                if (values.size() > MAX_VALUES) {
+                    throw error(peek(), "at most " + MAX_VALUES + " values in IN (...)");
+                }
+            } while (accept(Kind.COMMA));
+            expect(Kind.RPAREN, "')'");
+            return in(field, values, negated);
+        }
+        if (negated) {
+            throw error(peek(), "expected IN after NOT");
+        }
+
+        Token operator = expect(Kind.OPERATOR, "an operator (=, !=, <, <=, >, >=, IN, IS)");
+        Token value = value();
+        return switch (operator.text()) {
+            case "=" -> in(field, List.of(value), false);
+            case "!=" -> in(field, List.of(value), true);
+            default -> ordered(field, operator, value);
+        };
+    }
+
+    private Token value() {
+        Token token = peek();
+        return switch (token.kind()) {
+            case WORD, NUMBER, STRING, DATE, RELATIVE -> tokens.get(next++);
+            default -> throw error(token, "expected a value");
+        };
+    }
+
+    private void orderBy() {
+        Token order = tokens.get(next++);
+        if (!accept("BY")) {
+            throw error(peek(), "expected BY");
+        }
+        List<String> keys = new ArrayList<>();
+        do {
+            String key = expect(Kind.WORD, "a field name").text().toLowerCase(Locale.ROOT);
+            if (accept("ASC")) {
+                key += " asc";
+            } else if (accept("DESC")) {
+                key += " desc";
+            }
+            keys.add(key);
+        } while (accept(Kind.COMMA));
+
+        boolean keysetOrder = keys.size() <= 2
+                && (keys.get(0).equals("priority") || keys.get(0).equals("priority desc"))
+                && (keys.size() == 1 || keys.get(1).equals("created") || keys.get(1).equals("created asc"));
+        if (!keysetOrder) {
+            throw error(order, "tasks are listed by priority, then creation time; only ORDER BY priority [DESC], created [ASC] is supported");
+        }
+    }
+
+    // ---- Compilation ----
+
+    private TaskQuery.Clause empty(Field field, Token name, boolean negated) {
+        if (!field.nullable()) {
+            throw error(name, "field '" + field.name() + "' is never empty");
+        }
+        if (field.type() == Type.LABEL) {
+            return (userId, now) -> (root, query, cb) -> {
+                Expression<List<String>> labels = root.get(field.attribute());
+                return negated ? cb.isNotEmpty(labels) : cb.isEmpty(labels);
+            };
+        }
+        return (userId, now) -> (root, query, cb) -> {
+            Path<Object> path = field.path(root);
+            return negated ? cb.isNotNull(path) : cb.isNull(path);
+        };
+    }
+
+    /**
+     * Equality and IN; negated forms also match an empty field.
+     */
+    private TaskQuery.Clause in(Field field, List<Token> tokens, boolean negated) {
+        if (field.type() == Type.NUMBER || field.type() == Type.DATE) {
+            if (tokens.size() == 1) {
+                return ordered(field, new Token(Kind.OPERATOR, negated ? "!=" : "=", tokens.get(0).position()), tokens.get(0));
+            }
+            throw error(tokens.get(0), "IN is not supported for field '" + field.name() + "'");
+        }
+
+        List<Object> constants = new ArrayList<>();
+        boolean me = false;
+        for (Token token : tokens) {
+            if (field.type() == Type.USER && token.is("me")) {
+                me = true;
+            } else {
+                constants.add(constant(field, token));
+            }
+        }
+        boolean includesMe = me;
+
+        if (field.type() == Type.LABEL) {
+            return (userId, now) -> (root, query, cb) -> {
+                Subquery<Long> labelled = query.subquery(Long.class);
+                Root<Task> task = labelled.from(Task.class);
+                labelled.select(task.get("id")).where(
+                        cb.equal(task.get("id"), root.get("id")),
+                        task.join(field.attribute()).in(constants));
+                return negated ? cb.not(cb.exists(labelled)) : cb.exists(labelled);
+            };
+        }
+
+        return (userId, now) -> {
+            List<Object> values = constants;
+            if (includesMe) {
+                values = new ArrayList<>(constants);
+                values.add(userId);
+            }
+            List<Object> bound = values;
+            return (root, query, cb) -> {
+                Path<Object> path = field.path(root);
+                Predicate match = bound.size() == 1 ? cb.equal(path, bound.get(0)) : path.in(bound);
+                if (!negated) {
+                    return match;
+                }
+                return field.nullable() ? cb.or(cb.isNull(path), cb.not(match)) : cb.not(match);
+            };
+        };
+    }
+
+    private TaskQuery.Clause ordered(Field field, Token operator, Token token) {
+        String op = operator.text();
+        switch (field.type()) {
+            case NUMBER -> {
+                Integer value = parseInt(token);
+                return (userId, now) -> (root, query, cb) -> compare(cb, root.<Integer>get(field.attribute()), op, value, field.nullable());
+            }
+            case DATE -> {
+                DateValue value = date(token);
+                return (userId, now) -> (root, query, cb) -> {
+                    Path<LocalDateTime> path = root.get(field.attribute());
+                    LocalDateTime at = value.resolve(now);
+                    if (!value.wholeDay()) {
+                        return compare(cb, path, op, at, field.nullable());
+                    }
+                    // A calendar date covers the whole day: [at, at + 1 day)
+                    LocalDateTime end = at.plusDays(1);
+                    return switch (op) {
+                        case "=" -> cb.and(cb.greaterThanOrEqualTo(path, at), cb.lessThan(path, end));
+                        case "!=" -> compare(cb, path, "!=", null, field.nullable(),
+                                cb.or(cb.lessThan(path, at), cb.greaterThanOrEqualTo(path, end)));
+                        case "<" -> cb.lessThan(path, at);
+                        case "<=" -> cb.lessThan(path, end);
+                        case ">" -> cb.greaterThanOrEqualTo(path, end);
+                        default -> cb.greaterThanOrEqualTo(path, at);
+                    };
+                };
+            }
+            case ENUM -> {
+                if (field.enumType() == TaskPriority.class) {
+                    // Priorities are ordered; compile to the matching set so it stays an IN on the indexed column
+                    TaskPriority pivot = (TaskPriority) constant(field, token);
+                    List<Token> matching = new ArrayList<>();
+                    for (TaskPriority priority : TaskPriority.values()) {
+                        int cmp = priority.compareTo(pivot);
+                        boolean keep = switch (op) {
+                            case "<" -> cmp < 0;
+                            case "<=" -> cmp <= 0;
+                            case ">" -> cmp > 0;
+                            default -> cmp >= 0;
+                        };
+                        if (keep) {
+                            matching.add(new Token(Kind.WORD, priority.name(), token.position()));
+                        }
+                    }
+                    if (matching.isEmpty()) {
+                        return (userId, now) -> (root, query, cb) -> cb.disjunction();
+                    }
+                    return in(field, matching, false);
+                }
+                throw error(operator, "operator " + op + " is not supported for field '" + field.name() + "'");
+            }
+            default -> throw error(operator, "operator " + op + " is not supported for field '" + field.name() + "'");
+        }
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate compare(
+            CriteriaBuilder cb, Expression<Y> path, String op, Y value, boolean nullable) {
+        return compare(cb, path, op, value, nullable, null);
+    }
+
+    /**
+     * @param notEqual predicate used for {@code !=} instead of plain inequality (may be null)
+     */
+    private static <Y extends Comparable<? super Y>> Predicate compare(
+            CriteriaBuilder cb, Expression<Y> path, String op, Y value, boolean nullable,
+            Predicate notEqual) {
+        return switch (op) {
+            case "=" -> cb.equal(path, value);
+            case "!=" -> {
+                Predicate differs = notEqual != null ? notEqual : cb.notEqual(path, value);
+                yield nullable ? cb.or(cb.isNull(path), differs) : differs;
+            }
+            case "<" -> cb.lessThan(path, value);
+            case "<=" -> cb.lessThanOrEqualTo(path, value);
+            case ">" -> cb.greaterThan(path, value);
+            default -> cb.greaterThanOrEqualTo(path, value);
+        };
+    }
+
+    private Object constant(Field field, Token token) {
+        return switch (field.type()) {
+            case ENUM -> {
+                for (Enum<?> constant : field.enumType().getEnumConstants()) {
+                    if (constant.name().equalsIgnoreCase(token.text())) {
+                        yield constant;
+                    }
+                }
+                throw error(token, "'" + token.text() + "' is not a valid " + field.name());
+            }
+            case USER, REFERENCE -> parseLong(token);
+            case BOOLEAN -> {
+                if (token.is("true") || token.is("false")) {
+                    yield Boolean.parseBoolean(token.text().toLowerCase(Locale.ROOT));
+                }
+                throw error(token, "expected true or false");
+            }
+            case LABEL -> {
+                if (token.kind() != Kind.WORD && token.kind() != Kind.STRING && token.kind() != Kind.NUMBER) {
+                    throw error(token, "expected a label");
+                }
+                yield token.text();
+            }
+            default -> throw error(token, "unexpected value for field '" + field.name() + "'");
+        };
+    }
+
+    /**
+     * A date literal; relative values are resolved against the bind time.
+     */
+    private record DateValue(Function<LocalDateTime, LocalDateTime> resolver, boolean wholeDay) {
+        LocalDateTime resolve(LocalDateTime now) {
+            return resolver.apply(now);
+        }
+    }
+
+    private DateValue date(Token token) {
+        if (token.is("now")) {
+            return new DateValue(now -> now, false);
+        }
+        if (token.is("today")) {
+            return new DateValue(now -> now.toLocalDate().atStartOfDay(), true);
+        }
+        if (token.kind() == Kind.RELATIVE) {
+            char unit = Character.toLowerCase(token.text().charAt(token.text().length() - 1));
+            long amount = relativeAmount(token, unit);
+            return switch (unit) {
+                case 'h' -> new DateValue(now -> now.plusHours(amount), false);
+                case 'd' -> new DateValue(now -> now.plusDays(amount), false);
+                default -> new DateValue(now -> now.plusWeeks(amount), false);
+            };
+        }
+        if (token.kind() == Kind.DATE || token.kind() == Kind.STRING) {
+            try {
+                if (token.text().length() == 10) {
+                    LocalDateTime day = LocalDate.parse(token.text()).atStartOfDay();
+                    return new DateValue(now -> day, true);
+                }
+                LocalDateTime at = LocalDateTime.parse(token.text());
+                return new DateValue(now -> at, false);
+            } catch (DateTimeParseException e) {
+                throw error(token, "'" + token.text() + "' is not a date (use 2025-01-31 or 2025-01-31T09:30)");
+            }
+        }
+        throw error(token, "expected a date, now, today or a relative date such as +7d");
+    }
+
+    /**
+     * Signed amount of a relative date such as -3w, at most {@link #MAX_RELATIVE_DAYS} days either way.
+     */
+    private long relativeAmount(Token token, char unit) {
+        String text = token.text();
+        // Sign and unit aside, ten digits are past the bound in every unit, so the parse cannot overflow
+        if (text.length() - 2 < 10) {
+            long amount = Long.parseLong(text.substring(0, text.length() - 1));
+            long hours = Math.abs(amount) * (unit == 'h' ? 1 : unit == 'd' ? 24 : 24 * 7);
+            if (hours <= MAX_RELATIVE_DAYS * 24L) {
+                return amount;
+            }
+        }
+        throw error(token, "relative dates reach at most " + MAX_RELATIVE_DAYS + " days either way");
+    }
+
+    private Long parseLong(Token token) {
+        if (token.kind() == Kind.NUMBER) {
+            try {
+                return Long.parseLong(token.text());
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw error(token, "expected an id");
+    }
+
+    private Integer parseInt(Token token) {
+        if (token.kind() == Kind.NUMBER) {
+            try {
+                return Integer.parseInt(token.text());
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw error(token, "expected a number");
+    }
+
+    // ---- Tokens ----
+
+    private Token peek() {
+        return tokens.get(next);
+    }
+
+    private boolean accept(String keyword) {
+        if (peek().is(keyword)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean accept(Kind kind) {
+        if (peek().kind() == kind) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private Token expect(Kind kind, String expected) {
+        Token token = peek();
+        if (token.kind() != kind) {
+            throw error(token, "expected " + expected);
+        }
+        next++;
+        return token;
+    }
+
+    private BadRequestException error(Token token, String message) {
+        return error(token.position(), message);
+    }
+
+    private static BadRequestException error(int position, String message) {
+        return new BadRequestException("Invalid task query at position " + (position + 1) + ": " + message);
+    }
+
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == ',') {
+                tokens.add(new Token(c == '(' ? Kind.LPAREN : c == ')' ? Kind.RPAREN : Kind.COMMA, String.valueOf(c), start));
+                i++;
+            } else if (c == '"' || c == '\'') {
+                int end = text.indexOf(c, i + 1);
+                if (end < 0) {
+                    throw error(start, "unterminated string");
+                }
+                tokens.add(new Token(Kind.STRING, text.substring(i + 1, end), start));
+                i = end + 1;
+            } else if (c == '=' || c == '!' || c == '<' || c == '>') {
+                boolean withEquals = i + 1 < length && text.charAt(i + 1) == '=';
+                if (c == '!' && !withEquals) {
+                    throw error(start, "expected !=");
+                }
+                i += withEquals ? 2 : 1;
+                tokens.add(new Token(Kind.OPERATOR, text.substring(start, i), start));
+            } else if ((c == '+' || c == '-') && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                i++;
+                while (i < length && isDigit(text.charAt(i))) {
+                    i++;
+                }
+                if (i == length || "hdwHDW".indexOf(text.charAt(i)) < 0) {
+                    throw error(start, "relative dates need a unit: h, d or w (e.g. +7d)");
+                }
+                i++;
+                tokens.add(new Token(Kind.RELATIVE, text.substring(start, i), start));
+            } else if (isDigit(c)) {
+                boolean digitsOnly = true;
+                while (i < length && (Character.isLetterOrDigit(text.charAt(i)) || "-:.".indexOf(text.charAt(i)) >= 0)) {
+                    digitsOnly &= isDigit(text.charAt(i));
+                    i++;
+                }
+                tokens.add(new Token(digitsOnly ? Kind.NUMBER : Kind.DATE, text.substring(start, i), start));
+            } else if (Character.isLetter(c) || c == '_') {
+                while (i < length && (Character.isLetterOrDigit(text.charAt(i)) || "_-.".indexOf(text.charAt(i)) >= 0)) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.WORD, text.substring(start, i), start));
+            } else {
+                throw error(start, "unexpected character '" + c + "'");
+            }
+        }
+        tokens.add(new Token(Kind.END, "", length));
+        return tokens;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static Map.Entry<String, Field> field(String name, String attribute, Type type, boolean nullable,
+                                                  Class<? extends Enum<?>> enumType) {
+        return Map.entry(name, new Field(name, attribute, type, nullable, enumType));
+    }
+}
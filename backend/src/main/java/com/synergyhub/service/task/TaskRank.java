@@ -0,0 +1,134 @@
+package com.synergyhub.service.task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys for manual board and backlog ordering: strings over {@code [0-9a-z]}, compared
+ * byte-wise, so a task can be placed between two others by writing only its own key. Keys never end with
+ * '0', which guarantees there is always another key between any two distinct ones.
+ * <p>
+ * Appending to (or prepending before) a list steps a fixed-width prefix by {@link #STEP} and keeps keys
+ * short; inserting between two neighbours takes the midpoint and grows the key by about one character per
+ * five inserts into the same gap, until {@link TaskRankRebalanceJob} spreads the keys out again.
+ */
+public final class TaskRank {
+
+    public static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int WIDTH = 6;
+    private static final long STEP = (long) BASE * BASE * BASE;
+
+    private TaskRank() {
+    }
+
+    /**
+     * A key strictly between {@code lower} and {@code upper}; {@code null} stands for the start or end of the list.
+     *
+     * @throws IllegalArgumentException if {@code lower} is not below {@code upper}
+     */
+    public static String between(String lower, String upper) {
+        if (lower == null && upper == null) {
+            return encode(pow(WIDTH) / 2, WIDTH);
+        }
+        if (upper == null) {
+            return after(lower);
+        }
+        if (lower == null) {
+            return before(upper);
+        }
+        if (lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank '" + lower + "' is not below '" + upper + "'");
+        }
+        return midpoint(lower, upper);
+    }
+
+    /**
+     * {@code count} keys in ascending order, spread evenly over the key space so that there is room to
+     * append, prepend and insert anywhere; gaps are at least {@link #STEP} wide.
+     */
+    public static List<String> spread(int count) {
+        int width = WIDTH;
+        while (pow(width) / (count + 1) < STEP) {
+            width++;
+        }
+        long gap = pow(width) / (count + 1);
+        List<String> keys = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            keys.add(encode(i * gap, width));
+        }
+        return keys;
+    }
+
+    private static String after(String lower) {
+        long next = prefixValue(lower) + STEP;
+        return next < pow(WIDTH) ? encode(next, WIDTH) : midpoint(lower, null);
+    }
+
+    private static String before(String upper) {
+        long previous = prefixValue(upper) - STEP;
+        return previous > 0 ? encode(previous, WIDTH) : midpoint("", upper);
+    }
+
+    /**
+     * Digit-wise midpoint: copies the common prefix, then takes the middle digit of the first gap wider
+     * than one; once the keys' digits are adjacent, only the lower bound constrains the remaining digits.
+     */
+    private static String midpoint(String lower, String upper) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            if (upper != null && i >= upper.length()) {
+                throw new IllegalArgumentException("No rank between '" + lower + "' and '" + upper + "'");
+            }
+            int low = i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = upper != null ? digit(upper.charAt(i)) : BASE;
+            int middle = (low + high) / 2;
+            if (middle > low) {
+                return key.append(DIGITS.charAt(middle)).toString();
+            }
+            key.append(DIGITS.charAt(low));
+            if (high > low) {
+                upper = null;
+            }
+        }
+    }
+
+    private static long prefixValue(String key) {
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            value = value * BASE + (i < key.length() ? digit(key.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = width;
+        while (end > 1 && chars[end - 1] == '0') {
+            end--;
+        }
+        return new String(chars, 0, end);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character '" + c + "'");
+        }
+        return digit;
+    }
+
+    private static long pow(int width) {
+        long value = 1;
+        for (int i = 0; i < width; i++) {
+            value *= BASE;
+        }
+        return value;
+    }
+}
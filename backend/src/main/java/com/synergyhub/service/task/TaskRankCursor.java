@@ -0,0 +1,45 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.repository.TaskListRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a task list ordered by (boardRank ASC, id ASC), the manual board order; the
+ * counterpart of {@link TaskCursor} for {@link com.synergyhub.repository.TaskListOrder#RANK}.
+ */
+public record TaskRankCursor(String rank, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskRankCursor of(TaskListRow row) {
+        return new TaskRankCursor(row.boardRank(), row.id());
+    }
+
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a null/blank value (first page)
+     * @throws BadRequestException if the cursor was not produced by {@link #encode()}
+     */
+    public static TaskRankCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 1) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TaskRankCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
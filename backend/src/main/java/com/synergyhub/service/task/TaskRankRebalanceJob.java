@@ -0,0 +1,85 @@
+package com.synergyhub.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spreads a project's rank keys evenly over the key space again once repeated inserts into the same gap
+ * have made some key longer than {@code max-length}, keeping the current order. Rebalancing rewrites every
+ * task of the project in one transaction, with the rows locked so that a concurrent rank move either
+ * commits first and is kept, or waits and is computed from the new keys.
+ * <p>
+ * {@link TaskRankService} also rebalances a project inline when a move or an append has no room left.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRankRebalanceJob {
+
+    private static final String UPDATE = "UPDATE tasks SET board_rank = :rank WHERE task_id = :taskId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.rank.rebalance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.tasks.rank.rebalance.max-length:16}")
+    private int maxLength;
+
+    @Scheduled(initialDelayString = "${app.tasks.rank.rebalance.initial-delay-ms:600000}",
+               fixedDelayString = "${app.tasks.rank.rebalance.interval-ms:3600000}")
+    public void rebalanceScheduled() {
+        if (enabled) {
+            rebalanceLongKeys();
+        }
+    }
+
+    /**
+     * @return number of projects rebalanced
+     */
+    public int rebalanceLongKeys() {
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT project_id FROM tasks WHERE board_rank IS NULL OR LENGTH(board_rank) > :maxLength",
+                new MapSqlParameterSource("maxLength", maxLength), Long.class);
+        projectIds.forEach(this::rebalance);
+        if (!projectIds.isEmpty()) {
+            log.info("Rebalanced task ranks of {} projects", projectIds.size());
+        }
+        return projectIds.size();
+    }
+
+    /**
+     * Rewrites the ranks of every task in the project, in their current order; tasks without a rank go first.
+     * Joins the caller's transaction if there is one.
+     *
+     * @return number of tasks re-ranked
+     */
+    public int rebalance(Long projectId) {
+        Integer ranked = transactionTemplate.execute(status -> {
+            List<Long> taskIds = jdbcTemplate.queryForList(
+                    "SELECT task_id FROM tasks WHERE project_id = :projectId ORDER BY board_rank, task_id FOR UPDATE",
+                    new MapSqlParameterSource("projectId", projectId), Long.class);
+            List<String> ranks = TaskRank.spread(taskIds.size());
+            List<MapSqlParameterSource> updates = new ArrayList<>(taskIds.size());
+            for (int i = 0; i < taskIds.size(); i++) {
+                updates.add(new MapSqlParameterSource("taskId", taskIds.get(i)).addValue("rank", ranks.get(i)));
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE, updates.toArray(new MapSqlParameterSource[0]));
+            }
+            return taskIds.size();
+        });
+        log.debug("Rebalanced {} task ranks in project {}", ranked, projectId);
+        return ranked != null ? ranked : 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.exception.TaskNotFoundException;
+import com.synergyhub.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Manual board and backlog order. Tasks share one rank space per project, so a task keeps its place
+ * relative to the others when it moves between sprints and the backlog. Moving a task writes only that
+ * task's rank; the project is rebalanced first only when its neighbours leave no room.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRankService {
+
+    private final TaskRepository taskRepository;
+    private final TaskRankRebalanceJob rebalanceJob;
+
+    /**
+     * Rank for a new task at the end of the project. Concurrent creations may get the same rank; ties are
+     * ordered by id, and the next move between them rebalances.
+     */
+    @Transactional
+    public String nextRank(Long projectId) {
+        String rank = TaskRank.between(taskRepository.findLastRank(projectId).orElse(null), null);
+        if (rank.length() > TaskRank.MAX_LENGTH) {
+            rebalanceJob.rebalance(projectId);
+            rank = TaskRank.between(taskRepository.findLastRank(projectId).orElse(null), null);
+        }
+        return rank;
+    }
+
+    /**
+     * Places the task between {@code previousTaskId} and {@code nextTaskId}, its neighbours as the client
+     * sees them; either may be null at the ends of the list, but not both.
+     *
+     * @throws BadRequestException if the neighbours are in another project, or their order has changed
+     *                             since the client read it
+     */
+    @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
+    @Transactional
+    public void moveBetween(Long taskId, Long previousTaskId, Long nextTaskId, User currentUser) {
+        if (previousTaskId == null && nextTaskId == null) {
+            throw new BadRequestException("A previous or next task is required");
+        }
+        if (taskId.equals(previousTaskId) || taskId.equals(nextTaskId)) {
+            throw new BadRequestException("A task cannot be ranked next to itself");
+        }
+
+        Ranks ranks = loadRanks(taskId, previousTaskId, nextTaskId);
+        String rank = rankBetween(ranks, previousTaskId, nextTaskId);
+        if (rank == null) {
+            rebalanceJob.rebalance(ranks.projectId());
+            rank = rankBetween(loadRanks(taskId, previousTaskId, nextTaskId), previousTaskId, nextTaskId);
+        }
+
+        taskRepository.updateRank(taskId, rank);
+        log.debug("Task {} ranked {} by user {}", taskId, rank, currentUser.getId());
+    }
+
+    private record Ranks(Long projectId, Map<Long, String> byTask) {
+    }
+
+    private Ranks loadRanks(Long taskId, Long previousTaskId, Long nextTaskId) {
+        List<Long> ids = new ArrayList<>(3);
+        ids.add(taskId);
+        if (previousTaskId != null) {
+            ids.add(previousTaskId);
+        }
+        if (nextTaskId != null) {
+            ids.add(nextTaskId);
+        }
+
+        Map<Long, Long> projects = new HashMap<>();
+        Map<Long, String> ranks = new HashMap<>();
+        for (Object[] row : taskRepository.findRanks(ids)) {
+            Long id = ((Number) row[0]).longValue();
+            projects.put(id, ((Number) row[1]).longValue());
+            ranks.put(id, (String) row[2]);
+        }
+        for (Long id : ids) {
+            if (!projects.containsKey(id)) {
+                throw new TaskNotFoundException(id);
+            }
+        }
+        Long projectId = projects.get(taskId);
+        if (projects.values().stream().anyMatch(other -> !Objects.equals(other, projectId))) {
+            throw new BadRequestException("Tasks can only be ranked within their project");
+        }
+        return new Ranks(projectId, ranks);
+    }
+
+    /**
+     * @return the new rank, or null if the project has to be rebalanced first: a neighbour has no rank yet,
+     * the neighbours share a rank, or the key would be too long
+     */
+    private static String rankBetween(Ranks ranks, Long previousTaskId, Long nextTaskId) {
+        String lower = previousTaskId != null ? ranks.byTask().get(previousTaskId) : null;
+        String upper = nextTaskId != null ? ranks.byTask().get(nextTaskId) : null;
+        if ((previousTaskId != null && lower == null) || (nextTaskId != null && upper == null)) {
+            return null;
+        }
+        if (lower != null && upper != null) {
+            int order = lower.compareTo(upper);
+            if (order > 0) {
+                throw new BadRequestException("The task list has changed; reload it and try again");
+            }
+            if (order == 0) {
+                return null;
+            }
+        }
+        String rank = TaskRank.between(lower, upper);
+        return rank.length() > TaskRank.MAX_LENGTH ? null : rank;
+    }
+}
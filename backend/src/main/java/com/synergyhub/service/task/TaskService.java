@@ -6,18 +6,27 @@ import com.synergyhub.domain.enums.TaskType;
 import com.synergyhub.dto.mapper.TaskMapper;
 import com.synergyhub.dto.request.CreateTaskRequest;
 import com.synergyhub.dto.request.UpdateTaskRequest;
+import com.synergyhub.dto.response.CursorPage;
 import com.synergyhub.dto.response.TaskResponse;
+import com.synergyhub.dto.response.TaskRollupResponse;
+import com.synergyhub.events.task.TaskSprintChangedEvent;
 import com.synergyhub.exception.*;
 import com.synergyhub.repository.*;
 import com.synergyhub.security.OrganizationContext;
+import com.synergyhub.security.ProjectAclIndex;
+import com.synergyhub.security.ProjectSecurity;
 import com.synergyhub.service.security.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +40,17 @@ public class TaskService {
     private final ProjectMemberRepository projectMemberRepository;
     private final TaskMapper taskMapper;
     private final AuditLogService auditLogService;
+    private final ProjectAclIndex projectAclIndex;
+    private final ProjectSecurity projectSecurity;
+    private final TaskWatcherService taskWatcherService;
+    private final TaskQueryCache taskQueryCache;
+    private final TaskCounterService taskCounterService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Ids per statement when deleting a subtask subtree
+    private static final int SUBTREE_DELETE_CHUNK = 1000;
 
     @PreAuthorize("@projectSecurity.hasProjectAccess(#request.projectId, #currentUser)")
     @Transactional
@@ -52,6 +72,7 @@ public class TaskService {
                 .type(request.getType() != null ? request.getType() : TaskType.TASK)
                 .storyPoints(request.getStoryPoints())
                 .dueDate(request.getDueDate() != null ? request.getDueDate().atTime(23, 59, 59) : null)
+                .boardRank(taskRankService.nextRank(project.getId()))
                 .build();
 
         // Assign to sprint if provided
@@ -72,7 +93,7 @@ public class TaskService {
 
             // Business Logic: Assignee must be in project
             Long orgId = OrganizationContext.getcurrentOrgId();
-            if (!taskRepository.hasAccessToTaskProjectInOrganization(project.getId(), assignee.getId(), orgId)) {
+            if (!projectSecurity.hasProjectAccess(project.getId(), assignee.getId(), orgId)) {
                 throw new TaskAssignmentException("User is not a member of this project");
             }
             task.setAssignee(assignee);
@@ -109,6 +130,9 @@ public class TaskService {
 
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully: {}", savedTask.getId());
+        projectAclIndex.registerTask(savedTask.getId(), project.getId());
+        taskCounterService.subtaskAdded(savedTask);
+        taskHierarchyService.taskCreated(savedTask);
 
         auditLogService.createAuditLog(
                 currentUser,
@@ -134,7 +158,7 @@ public class TaskService {
 
     @PreAuthorize("@projectSecurity.hasProjectAccess(#projectId, #currentUser)")
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProject(Long projectId, User currentUser) {
+    public CursorPage<TaskResponse> getTasksByProject(Long projectId, String cursor, int size, User currentUser) {
         log.info("Getting tasks for project: {} by user: {}", projectId, currentUser.getId());
 
         if (!projectRepository.existsById(projectId)) {
@@ -142,13 +166,14 @@ public class TaskService {
         }
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        List<Task> tasks = taskRepository.findByProjectIdWithDetailsInOrganization(projectId, orgId);
-        return tasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return findPage(TaskSpecifications.inProject(projectId)
+                .and(TaskSpecifications.inOrganization(orgId)), cursor, size, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasSprintAccess(#sprintId, #currentUser)")
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksBySprint(Long sprintId, User currentUser) {
+    public CursorPage<TaskResponse> getTasksBySprint(Long sprintId, TaskListOrder order, String cursor, int size,
+                                                     User currentUser) {
         log.info("Getting tasks for sprint: {}", sprintId);
 
         if (!sprintRepository.existsById(sprintId)) {
@@ -156,13 +181,14 @@ public class TaskService {
         }
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        List<Task> tasks = taskRepository.findBySprintIdOrderByPriorityDescCreatedAtAscInOrganization(sprintId, orgId);
-        return tasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return findPage(TaskSpecifications.inSprint(sprintId)
+                .and(TaskSpecifications.inOrganization(orgId)), order, cursor, size, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasProjectAccess(#projectId, #currentUser)")
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksInBacklog(Long projectId, User currentUser) {
+    public CursorPage<TaskResponse> getTasksInBacklog(Long projectId, TaskListOrder order, String cursor, int size,
+                                                      User currentUser) {
         log.info("Getting backlog tasks for project: {}", projectId);
 
         if (!projectRepository.existsById(projectId)) {
@@ -170,19 +196,27 @@ public class TaskService {
         }
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        List<Task> tasks = taskRepository
-                .findByProjectIdAndSprintIsNullOrderByPriorityDescCreatedAtAscInOrganization(projectId, orgId);
-        return tasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return findPage(TaskSpecifications.inProject(projectId)
+                .and(TaskSpecifications.inBacklog())
+                .and(TaskSpecifications.inOrganization(orgId)), order, cursor, size, currentUser);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getMyTasks(User currentUser) {
+    public CursorPage<TaskResponse> getMyTasks(String cursor, int size, User currentUser) {
         log.info("Getting tasks assigned to user: {}", currentUser.getId());
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        List<Task> tasks = taskRepository
-                .findByAssigneeIdOrderByPriorityDescCreatedAtAscInOrganization(currentUser.getId(), orgId);
-        return tasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return findPage(TaskSpecifications.assignedTo(currentUser.getId())
+                .and(TaskSpecifications.inOrganization(orgId)), cursor, size, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getWatchedTasks(String cursor, int size, User currentUser) {
+        log.info("Getting tasks watched by user: {}", currentUser.getId());
+
+        Long orgId = OrganizationContext.getcurrentOrgId();
+        return findPage(TaskSpecifications.watchedBy(currentUser.getId())
+                .and(TaskSpecifications.inOrganization(orgId)), cursor, size, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
@@ -194,6 +228,7 @@ public class TaskService {
             .orElseThrow(() -> new TaskNotFoundException(taskId));
 
         StringBuilder changes = new StringBuilder();
+        boolean epicChanged = false;
 
         if (request.getTitle() != null && !request.getTitle().equals(task.getTitle())) {
             changes.append(String.format("Title: '%s' → '%s'; ", task.getTitle(), request.getTitle()));
@@ -204,7 +239,9 @@ public class TaskService {
         }
         if (request.getStatus() != null && !request.getStatus().equals(task.getStatus())) {
             changes.append(String.format("Status: %s → %s; ", task.getStatus(), request.getStatus()));
+            TaskStatus previousStatus = task.getStatus();
             task.setStatus(request.getStatus());
+            taskCounterService.statusChanged(task, previousStatus);
         }
         if (request.getPriority() != null && !request.getPriority().equals(task.getPriority())) {
             changes.append(String.format("Priority: %s → %s; ", task.getPriority(), request.getPriority()));
@@ -235,7 +272,7 @@ public class TaskService {
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssigneeId()));
 
             Long orgId = OrganizationContext.getcurrentOrgId();
-            if (!taskRepository.hasAccessToTaskProjectInOrganization(task.getProject().getId(), assignee.getId(), orgId)) {
+            if (!projectSecurity.hasProjectAccess(task.getProject().getId(), assignee.getId(), orgId)) {
                 throw new TaskAssignmentException("User is not a member of this project");
             }
 
@@ -247,14 +284,7 @@ public class TaskService {
 
             // If this is a STORY, assign all its child TASKs to the same assignee
             if (task.getType() == TaskType.STORY) {
-                // Find all child tasks of this story
-                java.util.List<Task> childTasks = taskRepository.findByParentTaskIdInOrganization(task.getId(), orgId);
-                for (Task child : childTasks) {
-                    if (child.getType() == TaskType.TASK && (child.getAssignee() == null || !child.getAssignee().getId().equals(assignee.getId()))) {
-                        child.setAssignee(assignee);
-                        taskRepository.save(child);
-                    }
-                }
+                taskRepository.assignChildTasks(task.getId(), assignee);
             }
         }
 
@@ -280,13 +310,20 @@ public class TaskService {
             }
             
             if (task.getEpic() == null || !task.getEpic().getId().equals(epic.getId())) {
+                if (taskHierarchyService.wouldCreateCycle(task.getId(), epic.getId())) {
+                    throw new BadRequestException("Epic cannot be the task itself or one of its descendants");
+                }
                 String oldEpic = task.getEpic() != null ? task.getEpic().getTitle() : "None";
                 changes.append(String.format("Epic: %s → %s; ", oldEpic, epic.getTitle()));
                 task.setEpic(epic);
+                epicChanged = true;
             }
         }
 
         Task savedTask = taskRepository.save(task);
+        if (epicChanged) {
+            taskHierarchyService.parentChanged(savedTask);
+        }
         log.info("Task updated successfully: {}", taskId);
 
         if (!changes.isEmpty()) {
@@ -318,7 +355,7 @@ public class TaskService {
             .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId));
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        if (!taskRepository.hasAccessToTaskProjectInOrganization(task.getProject().getId(), assignee.getId(), orgId)) {
+        if (!projectSecurity.hasProjectAccess(task.getProject().getId(), assignee.getId(), orgId)) {
             throw new TaskAssignmentException("User is not a member of this project");
         }
 
@@ -368,6 +405,7 @@ public class TaskService {
 
         String oldLocation;
         String newLocation;
+        TaskStatus previousStatus = task.getStatus();
 
         if (sprintId == null) {
             oldLocation = task.getSprint() != null ? task.getSprint().getName() : "Backlog";
@@ -394,39 +432,17 @@ public class TaskService {
             newLocation = sprint.getName();
         }
 
-        // Recursively move all children to the same sprint
-        moveChildrenToSprint(task, task.getSprint());
+        taskCounterService.statusChanged(task, previousStatus);
 
         Task savedTask = taskRepository.save(task);
 
-        auditLogService.createAuditLog(
-                currentUser,
-                "TASK_MOVED",
-                String.format("Task '%s' (ID: %d) moved: %s → %s",
-                        task.getTitle(), taskId, oldLocation, newLocation),
-                null,
-                null);
+        // Carry all epic children and subtasks, at any depth, into the same sprint
+        int descendantCount = taskHierarchyService.moveDescendantsToSprint(List.of(taskId), savedTask.getSprint());
 
-        return mapToResponseWithWatching(savedTask, currentUser);
-    }
+        eventPublisher.publishEvent(new TaskSprintChangedEvent(currentUser, null, task.getProject().getId(),
+                task.getProject().getName(), taskId, task.getTitle(), oldLocation, newLocation, descendantCount));
 
-    private void moveChildrenToSprint(Task parent, Sprint sprint) {
-        // Move epic children
-        if (parent.getEpicChildren() != null) {
-            for (Task child : parent.getEpicChildren()) {
-                child.setSprint(sprint);
-                moveChildrenToSprint(child, sprint);
-                taskRepository.save(child);
-            }
-        }
-        // Move subtasks
-        if (parent.getSubtasks() != null) {
-            for (Task sub : parent.getSubtasks()) {
-                sub.setSprint(sprint);
-                moveChildrenToSprint(sub, sprint);
-                taskRepository.save(sub);
-            }
-        }
+        return mapToResponseWithWatching(savedTask, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
@@ -437,19 +453,20 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new TaskNotFoundException(taskId));
 
-        // Handle epic children and subtasks pointers before deletion
-        log.info("Nullifying references to task {} before deletion", taskId);
+        // Subtasks at any depth are deleted along with the task in set-based statements; epic children are detached
+        List<Long> subtaskIds = taskHierarchyService.taskDeleting(taskId);
+        log.info("Deleting {} subtasks of task {} and detaching its epic children", subtaskIds.size(), taskId);
         taskRepository.nullifyEpicReferences(taskId);
-        taskRepository.nullifyParentTaskReferences(taskId);
         taskRepository.deleteIncomingLinks(taskId);
-        
-        // Note: subtasks themselves are deleted due to CascadeType.ALL on parentTask relationship,
-        // but we nullify pointers just in case there's a non-cascade path involved or to be safe.
+
+        deleteSubtasks(subtaskIds);
 
         String taskTitle = task.getTitle();
         String projectName = task.getProject().getName();
 
+        taskCounterService.subtaskRemoved(task);
         taskRepository.delete(task);
+        projectAclIndex.evictTask(taskId);
 
         auditLogService.createAuditLog(
                 currentUser,
@@ -460,6 +477,25 @@ public class TaskService {
                 null);
     }
 
+    /**
+     * Removes a subtask subtree with a fixed number of statements per chunk of ids, never loading the
+     * subtasks. Done before the root's entity delete, which then finds no subtasks left to cascade to.
+     */
+    private void deleteSubtasks(List<Long> subtaskIds) {
+        for (int from = 0; from < subtaskIds.size(); from += SUBTREE_DELETE_CHUNK) {
+            List<Long> chunk = subtaskIds.subList(from, Math.min(from + SUBTREE_DELETE_CHUNK, subtaskIds.size()));
+            taskRepository.bulkDeleteLinks(chunk);
+            taskRepository.bulkDeleteLabels(chunk);
+            taskRepository.bulkDeleteWatchers(chunk);
+            taskRepository.bulkDetach(chunk);
+        }
+        // Every row is unlinked from its parent before any is deleted, so chunks can go in any order
+        for (int from = 0; from < subtaskIds.size(); from += SUBTREE_DELETE_CHUNK) {
+            taskRepository.bulkDelete(subtaskIds.subList(from, Math.min(from + SUBTREE_DELETE_CHUNK, subtaskIds.size())));
+        }
+        subtaskIds.forEach(projectAclIndex::evictTask);
+    }
+
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
     @Transactional
     public void archiveTask(Long taskId, User currentUser) {
@@ -511,7 +547,7 @@ public class TaskService {
 
         Long orgId = OrganizationContext.getcurrentOrgId();
         List<Task> subtasks = taskRepository.findByParentTaskIdInOrganization(parentTaskId, orgId);
-        return subtasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return mapToResponsesWithWatching(subtasks, currentUser);
     }
 
     @Transactional(readOnly = true)
@@ -522,12 +558,30 @@ public class TaskService {
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        if (!taskRepository.hasAccessToTaskProjectInOrganization(projectId, currentUser.getId(), orgId)) {
+        if (!projectSecurity.hasProjectAccess(projectId, currentUser.getId(), orgId)) {
             throw new UnauthorizedException("User does not have access to this project");
         }
 
         List<Task> epics = taskRepository.findByProjectIdAndTypeInOrganization(projectId, TaskType.EPIC, orgId);
-        return epics.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return mapToResponsesWithWatching(epics, currentUser);
+    }
+
+    @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
+    @Transactional(readOnly = true)
+    public TaskRollupResponse getTaskRollup(Long taskId, User currentUser) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException(taskId);
+        }
+
+        TaskRollup rollup = taskHierarchyService.rollup(taskId);
+        return TaskRollupResponse.builder()
+                .taskId(taskId)
+                .depth(taskHierarchyService.getDepth(taskId))
+                .descendantCount(rollup.getTaskCount())
+                .completedCount(rollup.getCompletedCount())
+                .totalPoints(rollup.getTotalPoints())
+                .completedPoints(rollup.getCompletedPoints())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -542,31 +596,36 @@ public class TaskService {
         }
 
         Long orgId = OrganizationContext.getcurrentOrgId();
-        if (!taskRepository.hasAccessToTaskProjectInOrganization(epic.getProject().getId(), currentUser.getId(), orgId)) {
+        if (!projectSecurity.hasProjectAccess(epic.getProject().getId(), currentUser.getId(), orgId)) {
             throw new UnauthorizedException("User does not have access to this project");
         }
 
         List<Task> children = taskRepository.findByEpicIdInOrganization(epicId, orgId);
-        return children.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return mapToResponsesWithWatching(children, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
     @Transactional
     public TaskResponse watchTask(Long taskId, User currentUser) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException(taskId);
+        }
+        // Written before the task is loaded so the entity sees the new watchers_count
+        taskWatcherService.watch(taskId, currentUser.getId());
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
-        task.getWatchers().add(currentUser);
-        task = taskRepository.save(task);
         return mapToResponseWithWatching(task, currentUser);
     }
 
     @PreAuthorize("@projectSecurity.hasTaskAccess(#taskId, #currentUser)")
     @Transactional
     public TaskResponse unwatchTask(Long taskId, User currentUser) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException(taskId);
+        }
+        taskWatcherService.unwatch(taskId, currentUser.getId());
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
-        task.getWatchers().removeIf(u -> u.getId().equals(currentUser.getId()));
-        task = taskRepository.save(task);
         return mapToResponseWithWatching(task, currentUser);
     }
 
@@ -594,17 +653,85 @@ public class TaskService {
 
     private TaskResponse mapToResponseWithWatching(Task task, User user) {
         TaskResponse response = taskMapper.toTaskResponse(task);
-        response.setWatching(task.getWatchers().stream().anyMatch(w -> w.getId().equals(user.getId())));
+        response.setWatching(taskWatcherService.isWatching(task.getId(), user.getId()));
         return response;
     }
 
+    private List<TaskResponse> mapToResponsesWithWatching(List<Task> tasks, User user) {
+        Set<Long> watched = taskWatcherService.findWatched(tasks.stream().map(Task::getId).toList(), user.getId());
+        return tasks.stream().map(task -> {
+            TaskResponse response = taskMapper.toTaskResponse(task);
+            response.setWatching(watched.contains(task.getId()));
+            return response;
+        }).toList();
+    }
+
+    /**
+     * Tasks matching a {@link TaskQuery} among the projects the user is a member of.
+     */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks(User currentUser) {
+    public CursorPage<TaskResponse> queryTasks(String query, String cursor, int size, User currentUser) {
+        log.info("Querying tasks for user: {}: {}", currentUser.getId(), query);
+
+        TaskQuery plan = taskQueryCache.get(query);
+        Long orgId = OrganizationContext.getcurrentOrgId();
+        return findPage(plan.toSpecification(currentUser.getId(), LocalDateTime.now())
+                .and(TaskSpecifications.visibleTo(currentUser.getId()))
+                .and(TaskSpecifications.inOrganization(orgId)), cursor, size, currentUser);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getAllTasks(String cursor, int size, User currentUser) {
         Long orgId = OrganizationContext.getcurrentOrgId();
         if (orgId == null) {
             throw new IllegalStateException("Organization context is missing for this request.");
         }
-        List<Task> tasks = taskRepository.findAllByOrganizationId(orgId);
-        return tasks.stream().map(t -> mapToResponseWithWatching(t, currentUser)).toList();
+        return findPage(TaskSpecifications.inOrganization(orgId), cursor, size, currentUser);
+    }
+
+    private CursorPage<TaskResponse> findPage(Specification<Task> scope, String cursor, int size, User currentUser) {
+        return findPage(scope, TaskListOrder.PRIORITY, cursor, size, currentUser);
+    }
+
+    /**
+     * Keyset pagination in {@link TaskCursor#SORT} order, or in rank order ({@link TaskRankCursor}).
+     * Fetches one extra row to learn whether another page exists, so no count query is needed; rows
+     * inserted concurrently land in their sorted position without shifting or repeating rows on later pages.
+     * Rows are read as projections with their counts computed in SQL, plus one query for the page's
+     * linked tasks, so a page costs two queries whatever its size.
+     */
+    private CursorPage<TaskResponse> findPage(Specification<Task> scope, TaskListOrder order, String cursor, int size,
+                                              User currentUser) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        Specification<Task> spec = scope;
+        if (order == TaskListOrder.RANK) {
+            TaskRankCursor after = TaskRankCursor.decode(cursor);
+            if (after != null) {
+                spec = spec.and(TaskSpecifications.afterRank(after.rank(), after.id()));
+            }
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            if (after != null) {
+                spec = spec.and(TaskSpecifications.after(after.priority(), after.createdAt(), after.id()));
+            }
+        }
+
+        List<TaskListRow> rows = taskRepository.findListRows(spec, order, currentUser.getId(), size + 1);
+        boolean hasMore = rows.size() > size;
+        List<TaskListRow> page = hasMore ? rows.subList(0, size) : rows;
+        List<TaskListRow.Link> links = taskRepository.findLinks(page.stream().map(TaskListRow::id).toList());
+
+        return CursorPage.<TaskResponse>builder()
+                .content(taskMapper.toTaskResponseList(page, links))
+                .size(page.size())
+                .nextCursor(hasMore ? nextCursor(order, page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static String nextCursor(TaskListOrder order, TaskListRow last) {
+        return order == TaskListOrder.RANK ? TaskRankCursor.of(last).encode() : TaskCursor.of(last).encode();
     }
 }
@@ -0,0 +1,67 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Watch state of tasks, answered from the task_watchers(user_id, task_id) index rather than by
+ * loading each task's watcher set. Keeps tasks.watchers_count in step with the join table.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskWatcherService {
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * The subset of {@code taskIds} watched by the user, in one query.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findWatched(Collection<Long> taskIds, Long userId) {
+        if (taskIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> watched = new HashSet<>();
+        taskRepository.findWatchedTaskIds(taskIds, userId).forEach(id -> watched.add(id.longValue()));
+        return watched;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isWatching(Long taskId, Long userId) {
+        return !taskRepository.findWatchedTaskIds(List.of(taskId), userId).isEmpty();
+    }
+
+    /**
+     * Safe against a concurrent watch of the same task: only the insert that actually adds the row
+     * moves the counter.
+     *
+     * @return false if the user was already watching
+     */
+    @Transactional
+    public boolean watch(Long taskId, Long userId) {
+        if (taskRepository.addWatcher(taskId, userId) == 0) {
+            return false;
+        }
+        taskRepository.adjustWatchersCount(taskId, 1);
+        return true;
+    }
+
+    /**
+     * @return false if the user was not watching
+     */
+    @Transactional
+    public boolean unwatch(Long taskId, Long userId) {
+        if (taskRepository.removeWatcher(taskId, userId) == 0) {
+            return false;
+        }
+        taskRepository.adjustWatchersCount(taskId, -1);
+        return true;
+    }
+}
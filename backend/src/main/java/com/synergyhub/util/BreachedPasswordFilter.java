@@ -0,0 +1,109 @@
+package com.synergyhub.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Membership test against a breached-password corpus compiled into a Bloom filter file
+ * by {@link BreachedPasswordFilterBuilder}. The file is memory-mapped read-only, so the bit array
+ * lives in the page cache rather than on the heap; a lookup is one SHA-1 plus {@code k} byte reads.
+ * False positives (a strong password rejected as breached) occur at the rate chosen at build time;
+ * there are no false negatives. Disabled when no file is configured.
+ */
+@Component
+@Slf4j
+public class BreachedPasswordFilter {
+
+    static final int MAGIC = 0x53484246; // "SHBF"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(BreachedPasswordFilter::newSha1);
+
+    @Value("${app.security.breached-passwords.file:}")
+    private String filterFile;
+
+    private MappedByteBuffer bits;
+    private long numBits;
+    private int numHashes;
+
+    @PostConstruct
+    void load() throws IOException {
+        if (!StringUtils.hasText(filterFile)) {
+            log.info("Breached password check disabled (app.security.breached-passwords.file not set)");
+            return;
+        }
+        Path path = Path.of(filterFile);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IllegalStateException("Not a breached password filter file: " + path);
+            }
+            numBits = buffer.getLong(8);
+            numHashes = buffer.getInt(16);
+            if (HEADER_BYTES + (numBits + 7) / 8 > channel.size()) {
+                throw new IllegalStateException("Truncated breached password filter file: " + path);
+            }
+            bits = buffer;
+        }
+        log.info("Breached password filter mapped from {}: {} MB off-heap, {} hash functions",
+                path, Files.size(path) / (1024 * 1024), numHashes);
+    }
+
+    public boolean isEnabled() {
+        return bits != null;
+    }
+
+    public boolean isBreached(String password) {
+        if (bits == null || password == null) {
+            return false;
+        }
+        byte[] digest = SHA1.get().digest(password.getBytes(StandardCharsets.UTF_8));
+        return mightContain(bits, numBits, numHashes, digest);
+    }
+
+    static boolean mightContain(MappedByteBuffer bits, long numBits, int numHashes, byte[] sha1) {
+        long h1 = readLong(sha1, 0);
+        long h2 = readLong(sha1, 8);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int b = bits.get(HEADER_BYTES + (int) (bit >>> 3));
+            if ((b & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Big-endian long from the digest; the two halves give the Kirsch-Mitzenmacher hash pair.
+     */
+    static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    static MessageDigest newSha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.synergyhub.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Build-time tool that compiles a breached-password corpus into the Bloom filter file read by
+ * {@link BreachedPasswordFilter}. Accepts plain-text lists (one password per line) and
+ * Have I Been Pwned style SHA-1 lists ({@code HEX40} or {@code HEX40:count} per line).
+ *
+ * <pre>
+ * mvn -q compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:$(cat target/classpath.txt) com.synergyhub.util.BreachedPasswordFilterBuilder \
+ *      breached-passwords.bf 100000000 0.001 pwned-passwords-sha1.txt [more files...]
+ * </pre>
+ */
+@Slf4j
+public final class BreachedPasswordFilterBuilder {
+
+    private static final int MAX_BYTES = Integer.MAX_VALUE - BreachedPasswordFilter.HEADER_BYTES;
+
+    private BreachedPasswordFilterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            throw new IllegalArgumentException(
+                    "Usage: BreachedPasswordFilterBuilder <output> <expectedEntries> <falsePositiveRate> <input>...");
+        }
+        Path output = Path.of(args[0]);
+        long expectedEntries = Long.parseLong(args[1]);
+        double falsePositiveRate = Double.parseDouble(args[2]);
+
+        // Optimal Bloom filter sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long numBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        numBits = Math.max(64, ((numBits + 63) / 64) * 64);
+        if (numBits / 8 > MAX_BYTES) {
+            throw new IllegalArgumentException("Filter would exceed 2 GB; raise the false positive rate or split the corpus");
+        }
+        int numHashes = (int) Math.max(1, Math.round((double) numBits / expectedEntries * Math.log(2)));
+        byte[] bits = new byte[(int) (numBits / 8)];
+
+        MessageDigest sha1 = BreachedPasswordFilter.newSha1();
+        HexFormat hex = HexFormat.of();
+        long added = 0;
+        for (int i = 3; i < args.length; i++) {
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(args[i]), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    byte[] digest = isSha1Line(line)
+                            ? hex.parseHex(line, 0, 40)
+                            : sha1.digest(line.getBytes(StandardCharsets.UTF_8));
+                    add(bits, numBits, numHashes, digest);
+                    added++;
+                }
+            }
+        }
+
+        try (OutputStream file = Files.newOutputStream(output);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(BreachedPasswordFilter.MAGIC);
+            out.writeInt(BreachedPasswordFilter.FORMAT_VERSION);
+            out.writeLong(numBits);
+            out.writeInt(numHashes);
+            out.write(bits);
+        }
+
+        double expectedFpp = Math.pow(1 - Math.exp(-(double) numHashes * added / numBits), numHashes);
+        log.info("Wrote {}: {} entries, {} MB, {} hash functions, expected false positive rate {}",
+                output, added, bits.length / (1024 * 1024), numHashes, String.format("%.5f", expectedFpp));
+    }
+
+    private static void add(byte[] bits, long numBits, int numHashes, byte[] sha1) {
+        long h1 = BreachedPasswordFilter.readLong(sha1, 0);
+        long h2 = BreachedPasswordFilter.readLong(sha1, 8);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            bits[(int) (bit >>> 3)] |= (byte) (1 << (bit & 7));
+        }
+    }
+
+    private static boolean isSha1Line(String line) {
+        if (line.length() != 40 && (line.length() < 42 || line.charAt(40) != ':')) {
+            return false;
+        }
+        for (int i = 0; i < 40; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,257 @@
+package com.synergyhub.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable-after-build binary trie of IPv4 and IPv6 CIDR ranges.
+ * Nodes live in parallel int arrays, so a lookup walks at most 32 (IPv4) or 128 (IPv6) bits
+ * without allocating. Addresses are parsed by hand for the same reason; {@link #parseIpv4} and
+ * {@link #parseIpv6} double as strict format validation.
+ */
+public final class CidrTrie {
+
+    private static final int NONE = 0;
+
+    // Node 0 is a sentinel, node 1 the IPv4 root, node 2 the IPv6 root
+    private int[] zero = new int[16];
+    private int[] one = new int[16];
+    private boolean[] terminal = new boolean[16];
+    private int size = 3;
+
+    private final long[] scratch = new long[2];
+
+    /**
+     * Adds "a.b.c.d/len", "x:y::z/len" or a bare address (exact host match).
+     *
+     * @throws IllegalArgumentException if the entry is not a valid address or prefix length
+     */
+    public CidrTrie add(String cidr) {
+        String entry = cidr.trim();
+        int slash = entry.indexOf('/');
+        String address = slash < 0 ? entry : entry.substring(0, slash);
+
+        long ipv4 = parseIpv4(address, 0, address.length());
+        if (ipv4 >= 0) {
+            int prefix = slash < 0 ? 32 : parsePrefix(entry.substring(slash + 1), 32, cidr);
+            insert(1, ipv4 << 32, 0, prefix);
+            return this;
+        }
+        if (parseIpv6(address, 0, address.length(), scratch)) {
+            int prefix = slash < 0 ? 128 : parsePrefix(entry.substring(slash + 1), 128, cidr);
+            insert(2, scratch[0], scratch[1], prefix);
+            return this;
+        }
+        throw new IllegalArgumentException("Invalid IP address or CIDR range: " + cidr);
+    }
+
+    public boolean isEmpty() {
+        return size == 3;
+    }
+
+    /**
+     * True if the IPv4 address (in the low 32 bits) falls in any IPv4 range.
+     */
+    public boolean containsIpv4(long address) {
+        return walk(1, address << 32, 0, 32);
+    }
+
+    public boolean containsIpv6(long high, long low) {
+        return walk(2, high, low, 128);
+    }
+
+    private boolean walk(int node, long high, long low, int bits) {
+        for (int i = 0; node != NONE; i++) {
+            if (terminal[node]) {
+                return true;
+            }
+            if (i == bits) {
+                return false;
+            }
+            node = bit(high, low, i) ? one[node] : zero[node];
+        }
+        return false;
+    }
+
+    private void insert(int node, long high, long low, int prefix) {
+        for (int i = 0; i < prefix; i++) {
+            boolean set = bit(high, low, i);
+            int next = set ? one[node] : zero[node];
+            if (next == NONE) {
+                next = newNode();
+                if (set) {
+                    one[node] = next;
+                } else {
+                    zero[node] = next;
+                }
+            }
+            node = next;
+        }
+        terminal[node] = true;
+    }
+
+    private int newNode() {
+        if (size == zero.length) {
+            zero = Arrays.copyOf(zero, size * 2);
+            one = Arrays.copyOf(one, size * 2);
+            terminal = Arrays.copyOf(terminal, size * 2);
+        }
+        return size++;
+    }
+
+    private static boolean bit(long high, long low, int index) {
+        return index < 64
+                ? (high >>> (63 - index) & 1) != 0
+                : (low >>> (127 - index) & 1) != 0;
+    }
+
+    private static int parsePrefix(String value, int max, String cidr) {
+        try {
+            int prefix = Integer.parseInt(value);
+            if (prefix >= 0 && prefix <= max) {
+                return prefix;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through
+        }
+        throw new IllegalArgumentException("Invalid prefix length in CIDR range: " + cidr);
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address in {@code s[from, to)}.
+     *
+     * @return the address as an unsigned 32-bit value, or -1 if it is not a valid IPv4 address
+     */
+    public static long parseIpv4(CharSequence s, int from, int to) {
+        long result = 0;
+        int octets = 0;
+        int i = from;
+        while (i < to) {
+            int value = 0;
+            int digits = 0;
+            while (i < to && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                value = value * 10 + (s.charAt(i) - '0');
+                i++;
+                // Leading zeros are rejected to avoid octal ambiguity
+                if (++digits > 3 || value > 255 || (digits == 2 && value < 10)) {
+                    return -1;
+                }
+            }
+            if (digits == 0) {
+                return -1;
+            }
+            result = (result << 8) | value;
+            octets++;
+            if (i < to) {
+                if (s.charAt(i) != '.' || octets == 4) {
+                    return -1;
+                }
+                i++;
+                if (i == to) {
+                    return -1;
+                }
+            }
+        }
+        return octets == 4 ? result : -1;
+    }
+
+    /**
+     * Parses an IPv6 address (with "::" compression and an optional trailing dotted quad)
+     * in {@code s[from, to)} into {@code out[0]} (high 64 bits) and {@code out[1]} (low 64 bits).
+     *
+     * @return false if it is not a valid IPv6 address
+     */
+    public static boolean parseIpv6(CharSequence s, int from, int to, long[] out) {
+        // Groups before "::" accumulate in head, groups after it in tail
+        long headHigh = 0, headLow = 0, tailHigh = 0, tailLow = 0;
+        int headCount = 0, tailCount = 0;
+        boolean compressed = false;
+        int i = from;
+        if (to - from < 2) {
+            return false;
+        }
+        if (s.charAt(i) == ':') {
+            if (s.charAt(i + 1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i += 2;
+        }
+        while (i < to) {
+            int start = i;
+            int value = 0;
+            while (i < to && i - start < 4 && Character.digit(s.charAt(i), 16) >= 0) {
+                value = (value << 4) | Character.digit(s.charAt(i), 16);
+                i++;
+            }
+            int groups = 1;
+            long bits = value;
+            if (i < to && s.charAt(i) == '.') {
+                // Embedded IPv4 fills the last two groups
+                bits = parseIpv4(s, start, to);
+                if (bits < 0) {
+                    return false;
+                }
+                groups = 2;
+                i = to;
+            } else if (i == start) {
+                return false;
+            }
+            int shift = groups * 16;
+            if (compressed) {
+                tailHigh = (tailHigh << shift) | (tailLow >>> (64 - shift));
+                tailLow = (tailLow << shift) | bits;
+                tailCount += groups;
+            } else {
+                headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+                headLow = (headLow << shift) | bits;
+                headCount += groups;
+            }
+            if (headCount + tailCount > 8) {
+                return false;
+            }
+            if (i < to) {
+                if (s.charAt(i) != ':') {
+                    return false;
+                }
+                i++;
+                if (i < to && s.charAt(i) == ':') {
+                    if (compressed) {
+                        return false;
+                    }
+                    compressed = true;
+                    i++;
+                } else if (i == to) {
+                    return false;
+                }
+            }
+        }
+        if (!compressed) {
+            if (headCount != 8) {
+                return false;
+            }
+            out[0] = headHigh;
+            out[1] = headLow;
+            return true;
+        }
+        if (headCount + tailCount > 7) {
+            return false;
+        }
+        // Place head at the top; the zeros implied by "::" sit between head and tail
+        int shift = (8 - headCount) * 16;
+        long high;
+        long low;
+        if (shift >= 128) {
+            high = 0;
+            low = 0;
+        } else if (shift >= 64) {
+            high = headLow << (shift - 64);
+            low = 0;
+        } else {
+            high = (headHigh << shift) | (headLow >>> (64 - shift));
+            low = headLow << shift;
+        }
+        out[0] = high | tailHigh;
+        out[1] = low | tailLow;
+        return true;
+    }
+}
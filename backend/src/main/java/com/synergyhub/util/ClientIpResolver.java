@@ -1,67 +1,94 @@
 package com.synergyhub.util;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
+import org.springframework.util.StringUtils;
 
 @Component
 @Slf4j
 public class ClientIpResolver {
 
-    // ✅ IP validation pattern
-    private static final Pattern IP_PATTERN = Pattern.compile(
-        "^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}" +
-        "(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$"
-    );
-    
-    // ✅ IPv6 pattern (simplified)
-    private static final Pattern IPV6_PATTERN = Pattern.compile(
-        "^([0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$"
-    );
+    // Resolved once per request and reused by audit, login and rate-limit callers
+    private static final String CLIENT_IP_ATTRIBUTE = ClientIpResolver.class.getName() + ".clientIp";
+
+    private static final ThreadLocal<long[]> IPV6_SCRATCH = ThreadLocal.withInitial(() -> new long[2]);
 
     @Value("${app.behind-proxy:false}")
     private boolean behindProxy;
 
+    // Comma-separated addresses or CIDR ranges (IPv4 and IPv6), e.g. "127.0.0.1,10.0.0.0/8,::1"
     @Value("${app.trusted-proxy-ips:}")
     private String trustedProxyIps;
 
+    private CidrTrie trustedProxies;
+
+    @PostConstruct
+    void compileTrustedProxies() {
+        CidrTrie trie = new CidrTrie();
+        if (StringUtils.hasText(trustedProxyIps)) {
+            for (String entry : trustedProxyIps.split(",")) {
+                if (StringUtils.hasText(entry)) {
+                    trie.add(entry);
+                }
+            }
+        }
+        trustedProxies = trie;
+    }
+
     /**
      * Resolves the real client IP address
      */
     public String resolveClientIp(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+        if (cached instanceof String ip) {
+            return ip;
+        }
+        String ip = doResolveClientIp(request);
+        request.setAttribute(CLIENT_IP_ATTRIBUTE, ip);
+        return ip;
+    }
+
+    private String doResolveClientIp(HttpServletRequest request) {
         // If not behind proxy, use direct connection IP
         if (!behindProxy) {
             return request.getRemoteAddr();
         }
 
+        // ✅ Forwarding headers are only honoured when the immediate peer is a trusted proxy
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            if (request.getHeader("X-Forwarded-For") != null) {
+                log.warn("Untrusted proxy {} trying to set X-Forwarded-For. Ignoring.", remoteAddr);
+            }
+            return remoteAddr;
+        }
+
         // ✅ Check multiple proxy headers in order of preference
         String ip = getHeaderIp(request, "CF-Connecting-IP");      // Cloudflare
         if (ip == null) {
             ip = getHeaderIp(request, "X-Real-IP");               // Nginx
         }
         if (ip == null) {
-            ip = getHeaderIp(request, "X-Forwarded-For");         // Standard
+            ip = getForwardedForIp(request);                       // Standard
         }
         if (ip == null) {
-            ip = request.getRemoteAddr();                          // Fallback
+            ip = remoteAddr;                                       // Fallback
         }
 
         // ✅ Validate IP format
         if (!isValidIp(ip)) {
             log.warn("Invalid IP address format: {}. Using fallback.", ip);
-            return request.getRemoteAddr();
+            return remoteAddr;
         }
 
         return ip;
     }
 
     /**
-     * Extract IP from header and validate
+     * Extract IP from header
      */
     private String getHeaderIp(HttpServletRequest request, String headerName) {
         String header = request.getHeader(headerName);
@@ -70,36 +97,55 @@ public class ClientIpResolver {
             return null;
         }
 
-        // X-Forwarded-For can contain multiple IPs: "client, proxy1, proxy2"
-        // Take the first one (leftmost = original client)
-        String ip = header.split(",")[0].trim();
+        return header.trim();
+    }
 
-        // ✅ If we have trusted proxies, validate that the request came through them
-        if (!trustedProxyIps.isEmpty() && headerName.equals("X-Forwarded-For")) {
-            String remoteAddr = request.getRemoteAddr();
-            if (!isTrustedProxy(remoteAddr)) {
-                log.warn("Untrusted proxy {} trying to set X-Forwarded-For to {}. Ignoring.", 
-                         remoteAddr, ip);
-                return null;
+    /**
+     * X-Forwarded-For reads "client, proxy1, proxy2", each proxy appending the address it received from.
+     * Anything left of our own proxies can be written by the client, so the chain is walked from the right
+     * and the first address that is not a trusted proxy is the client. If every hop is trusted, the
+     * leftmost address is used.
+     */
+    private String getForwardedForIp(HttpServletRequest request) {
+        String header = request.getHeader("X-Forwarded-For");
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        int end = header.length();
+        while (true) {
+            int comma = header.lastIndexOf(',', end - 1);
+            String hop = header.substring(comma + 1, end).trim();
+            if (comma < 0 || !isTrustedProxy(hop)) {
+                return hop.isEmpty() || "unknown".equalsIgnoreCase(hop) ? null : hop;
             }
+            end = comma;
         }
-
-        return ip;
     }
 
     /**
      * Check if the immediate connection is from a trusted proxy
      */
-    private boolean isTrustedProxy(String ip) {
-        if (trustedProxyIps.isEmpty()) {
+    boolean isTrustedProxy(String ip) {
+        if (trustedProxies.isEmpty()) {
             return true; // No restriction if not configured
         }
+        if (ip == null) {
+            return false;
+        }
 
-        List<String> trusted = Arrays.asList(trustedProxyIps.split(","));
-        return trusted.stream()
-                .map(String::trim)
-                .anyMatch(trustedIp -> trustedIp.equals(ip) || 
-                                       ip.startsWith(trustedIp)); // CIDR-like matching
+        long ipv4 = CidrTrie.parseIpv4(ip, 0, ip.length());
+        if (ipv4 >= 0) {
+            return trustedProxies.containsIpv4(ipv4);
+        }
+        long[] ipv6 = IPV6_SCRATCH.get();
+        if (!CidrTrie.parseIpv6(ip, 0, ip.length(), ipv6)) {
+            return false;
+        }
+        // IPv4-mapped IPv6 (::ffff:a.b.c.d) is matched against the IPv4 ranges
+        if (ipv6[0] == 0 && (ipv6[1] >>> 32) == 0xFFFFL) {
+            return trustedProxies.containsIpv4(ipv6[1] & 0xFFFFFFFFL);
+        }
+        return trustedProxies.containsIpv6(ipv6[0], ipv6[1]);
     }
 
     /**
@@ -109,23 +155,8 @@ public class ClientIpResolver {
         if (ip == null || ip.isEmpty()) {
             return false;
         }
-        
-        // Check IPv4
-        if (IP_PATTERN.matcher(ip).matches()) {
-            return true;
-        }
-        
-        // Check IPv6
-        if (IPV6_PATTERN.matcher(ip).matches()) {
-            return true;
-        }
-        
-        // localhost variants
-        if ("0:0:0:0:0:0:0:1".equals(ip) || "::1".equals(ip) || "127.0.0.1".equals(ip)) {
-            return true;
-        }
-        
-        return false;
+        return CidrTrie.parseIpv4(ip, 0, ip.length()) >= 0
+                || CidrTrie.parseIpv6(ip, 0, ip.length(), IPV6_SCRATCH.get());
     }
 
     /**
@@ -1,13 +1,17 @@
 package com.synergyhub.util;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
 @Component
+@RequiredArgsConstructor
 public class PasswordValidator {
 
+    private final BreachedPasswordFilter breachedPasswordFilter;
+
     // ===== TEMPORARY: Relaxed password requirements for development =====
     // TODO: Restore strict requirements before production deployment
     private static final int MIN_LENGTH = 6; // TEMP: Changed from 12
@@ -50,6 +54,11 @@ public class PasswordValidator {
         if (!PASSWORD_PATTERN.matcher(password).matches()) {
             return false;
         }
+
+        // Reject passwords from known breach corpora (no-op unless a filter file is configured)
+        if (breachedPasswordFilter.isBreached(password)) {
+            return false;
+        }
         
         // TEMP: Commented out for development
         /* ===== ORIGINAL STRICT CHECKS (COMMENTED OUT) =====
@@ -140,9 +149,13 @@ public class PasswordValidator {
 
     public String getRequirements() {
         // TEMP: Simplified requirements message
-        return "Password must be at least " + MIN_LENGTH + " characters long and contain:\n" +
+        String requirements = "Password must be at least " + MIN_LENGTH + " characters long and contain:\n" +
                "- At least one letter (a-z or A-Z)\n" +
                "- At least one number (0-9)";
+        if (breachedPasswordFilter.isEnabled()) {
+            requirements += "\n- Must not appear in known data breaches";
+        }
+        return requirements;
         
         /* ===== ORIGINAL STRICT MESSAGE (COMMENTED OUT) =====
         return "Password must be at least " + MIN_LENGTH + " characters long and contain:\n" +
@@ -0,0 +1,9 @@
+-- Denormalized subtask counters, maintained alongside tasks.parent_task_id
+ALTER TABLE tasks
+    ADD COLUMN subtask_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN completed_subtask_count INT NOT NULL DEFAULT 0;
+
+UPDATE tasks t
+JOIN (SELECT parent_task_id, COUNT(*) AS total, SUM(status = 'DONE') AS done
+      FROM tasks WHERE parent_task_id IS NOT NULL GROUP BY parent_task_id) c ON c.parent_task_id = t.task_id
+SET t.subtask_count = c.total, t.completed_subtask_count = c.done;
@@ -0,0 +1,25 @@
+-- Closure table over the task hierarchy, maintained by TaskHierarchyService: one row per (ancestor, descendant)
+-- pair, including each task itself at depth 0. A task's hierarchy parent is its parent task, or else its epic.
+CREATE TABLE IF NOT EXISTS task_hierarchy (
+    ancestor_id   INT NOT NULL,
+    descendant_id INT NOT NULL,
+    depth         INT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES tasks(task_id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES tasks(task_id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Ancestors of a task go by descendant first
+CREATE INDEX idx_task_hierarchy_descendant ON task_hierarchy (descendant_id, depth);
+
+-- Backfill; the depth bound and IGNORE keep an existing parent cycle from looping or failing the migration
+INSERT IGNORE INTO task_hierarchy (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT task_id, task_id, 0 FROM tasks
+    UNION ALL
+    SELECT p.ancestor_id, t.task_id, p.depth + 1
+    FROM paths p
+    JOIN tasks t ON COALESCE(t.parent_task_id, t.epic_id) = p.descendant_id
+    WHERE p.depth < 32
+)
+SELECT ancestor_id, descendant_id, MIN(depth) FROM paths GROUP BY ancestor_id, descendant_id;
@@ -0,0 +1,37 @@
+-- Manual board/backlog order: lexicographic keys over [0-9a-z] (see TaskRank), compared byte-wise.
+-- RANK is a reserved word in MySQL 8, hence board_rank.
+ALTER TABLE tasks
+    ADD COLUMN board_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL;
+
+-- Seed each project's order from priority, then age, with keys spread evenly over the key space the way
+-- TaskRank.spread() does: 6 digits while the gaps stay at least 36^3 wide, 9 digits for larger projects.
+-- The step is computed in BIGINT arithmetic (36^6 and 36^9 as literals, DIV), so CONV never sees a DOUBLE.
+-- Keys never end with '0'.
+UPDATE tasks t
+JOIN (SELECT task_id,
+             ROW_NUMBER() OVER (PARTITION BY project_id
+                                ORDER BY FIELD(priority, 'CRITICAL', 'HIGH', 'MEDIUM', 'LOW'), created_at, task_id) AS rn,
+             CASE WHEN COUNT(*) OVER (PARTITION BY project_id) < 46656 THEN 6 ELSE 9 END AS width,
+             CASE WHEN COUNT(*) OVER (PARTITION BY project_id) < 46656 THEN 2176782336 ELSE 101559956668416 END AS span,
+             COUNT(*) OVER (PARTITION BY project_id) AS total
+      FROM tasks) r ON r.task_id = t.task_id
+SET t.board_rank = TRIM(TRAILING '0' FROM
+        LPAD(LOWER(CONV(r.rn * (r.span DIV (r.total + 1)), 10, 36)), r.width, '0'));
+
+-- Fail the migration unless the seeded keys are unique and strictly increasing in seed order within each project
+CREATE TEMPORARY TABLE board_rank_seed_check (violations BIGINT NOT NULL, CHECK (violations = 0));
+INSERT INTO board_rank_seed_check
+SELECT COUNT(*)
+FROM (SELECT board_rank,
+             LAG(board_rank) OVER (PARTITION BY project_id
+                                   ORDER BY FIELD(priority, 'CRITICAL', 'HIGH', 'MEDIUM', 'LOW'), created_at, task_id) AS previous
+      FROM tasks) seeded
+WHERE seeded.board_rank IS NULL OR seeded.board_rank <= seeded.previous;
+DROP TEMPORARY TABLE board_rank_seed_check;
+
+ALTER TABLE tasks MODIFY board_rank VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+-- Board order for a sprint and for the backlog, and the project's last rank (new tasks are appended)
+CREATE INDEX idx_task_backlog_rank ON tasks (project_id, sprint_id, board_rank, task_id);
+CREATE INDEX idx_task_sprint_rank ON tasks (sprint_id, board_rank, task_id);
+CREATE INDEX idx_task_project_rank ON tasks (project_id, board_rank);
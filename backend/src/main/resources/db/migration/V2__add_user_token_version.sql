@@ -0,0 +1,3 @@
+-- Token version embedded in access tokens (claims-based authentication)
+ALTER TABLE users
+    ADD COLUMN token_version INT NOT NULL DEFAULT 0;
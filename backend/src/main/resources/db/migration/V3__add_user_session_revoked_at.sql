@@ -0,0 +1,5 @@
+-- Revocation time, used by nodes to pick up each other's revocations incrementally
+ALTER TABLE user_sessions
+    ADD COLUMN revoked_at DATETIME NULL;
+
+CREATE INDEX idx_session_revoked_at ON user_sessions (revoked_at);
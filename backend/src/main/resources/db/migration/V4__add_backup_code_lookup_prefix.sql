@@ -0,0 +1,5 @@
+-- Non-secret identifier for "PREFIX-SECRET" backup codes; NULL for codes issued before this format
+ALTER TABLE backup_codes
+    ADD COLUMN lookup_prefix VARCHAR(8) NULL;
+
+CREATE INDEX idx_backup_user_prefix ON backup_codes (user_id, lookup_prefix);
@@ -0,0 +1,5 @@
+-- Keyset pagination of task lists: scope column(s) followed by the list order (priority DESC, created_at, task_id)
+CREATE INDEX idx_task_project_order ON tasks (project_id, priority DESC, created_at, task_id);
+CREATE INDEX idx_task_backlog_order ON tasks (project_id, sprint_id, priority DESC, created_at, task_id);
+CREATE INDEX idx_task_sprint_order ON tasks (sprint_id, priority DESC, created_at, task_id);
+CREATE INDEX idx_task_assignee_order ON tasks (assignee_id, priority DESC, created_at, task_id);
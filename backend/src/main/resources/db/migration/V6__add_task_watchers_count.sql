@@ -0,0 +1,16 @@
+-- The join table was created by Hibernate and is missing from databases built from the baseline script
+CREATE TABLE IF NOT EXISTS task_watchers (
+    task_id INT NOT NULL,
+    user_id INT NOT NULL,
+    PRIMARY KEY (task_id, user_id),
+    FOREIGN KEY (task_id) REFERENCES tasks(task_id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Denormalized watcher count, maintained alongside task_watchers
+ALTER TABLE tasks ADD COLUMN watchers_count INT NOT NULL DEFAULT 0;
+
+UPDATE tasks t SET watchers_count = (SELECT COUNT(*) FROM task_watchers w WHERE w.task_id = t.task_id);
+
+-- "Is watching" lookups and the watched-tasks list go by user first
+CREATE INDEX idx_task_watchers_user_task ON task_watchers (user_id, task_id);
@@ -0,0 +1,19 @@
+-- Pooled id allocation for entities inserted in bulk. Hibernate reserves blocks of 50 ids per round trip
+-- instead of relying on AUTO_INCREMENT, which lets it batch the INSERTs. next_val is the top of the next
+-- block, so it starts 50 above the current maximum. AUTO_INCREMENT stays on the columns but goes unused;
+-- these tables must not also be written with database-assigned ids.
+CREATE TABLE id_generators (
+    entity_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val    BIGINT      NOT NULL
+);
+
+INSERT INTO id_generators (entity_name, next_val)
+SELECT 'tasks', COALESCE(MAX(task_id), 0) + 50 FROM tasks
+UNION ALL
+SELECT 'audit_logs', COALESCE(MAX(audit_log_id), 0) + 50 FROM audit_logs
+UNION ALL
+SELECT 'chat_messages', COALESCE(MAX(message_id), 0) + 50 FROM chat_messages
+UNION ALL
+SELECT 'comments', COALESCE(MAX(comment_id), 0) + 50 FROM comments
+UNION ALL
+SELECT 'backup_codes', COALESCE(MAX(id), 0) + 50 FROM backup_codes;
@@ -0,0 +1,13 @@
+-- The labels collection table was created by Hibernate and is missing from databases built from the baseline script
+CREATE TABLE IF NOT EXISTS task_labels (
+    task_id INT NOT NULL,
+    label   VARCHAR(255),
+    FOREIGN KEY (task_id) REFERENCES tasks(task_id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Full-text indexes behind GET /api/search; InnoDB keeps them current within the writing transaction
+CREATE FULLTEXT INDEX ftx_tasks_title_description ON tasks (title, description);
+CREATE FULLTEXT INDEX ftx_task_labels_label ON task_labels (label);
+CREATE FULLTEXT INDEX ftx_comments_content ON comments (content);
+CREATE FULLTEXT INDEX ftx_chat_messages_content ON chat_messages (content);
+CREATE FULLTEXT INDEX ftx_projects_name ON projects (name);
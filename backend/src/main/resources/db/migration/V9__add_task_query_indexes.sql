@@ -0,0 +1,5 @@
+-- Composite indexes for the common task query predicates (GET /api/tasks/query)
+CREATE INDEX idx_task_project_status_order ON tasks (project_id, status, priority DESC, created_at, task_id);
+CREATE INDEX idx_task_assignee_status ON tasks (assignee_id, status);
+CREATE INDEX idx_task_project_due ON tasks (project_id, due_date);
+CREATE INDEX idx_task_labels_label_task ON task_labels (label, task_id);
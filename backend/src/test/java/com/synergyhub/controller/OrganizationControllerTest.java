@@ -6,8 +6,10 @@ import com.synergyhub.domain.entity.User;
 import com.synergyhub.dto.request.CreateOrganizationRequest;
 import com.synergyhub.dto.response.OrganizationResponse;
 import com.synergyhub.security.JwtAuthenticationFilter;
+import com.synergyhub.security.ResolvedUserCache;
 import com.synergyhub.security.UserPrincipal;
 import com.synergyhub.service.organization.OrganizationService;
+import com.synergyhub.service.security.SlidingWindowRateLimiter;
 import com.synergyhub.util.ClientIpResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,12 @@ public class OrganizationControllerTest {
     @MockBean
     private ClientIpResolver ipResolver;
 
+    @MockBean
+    private ResolvedUserCache resolvedUserCache;
+
+    @MockBean
+    private SlidingWindowRateLimiter slidingWindowRateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
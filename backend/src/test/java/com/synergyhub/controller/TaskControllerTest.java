@@ -0,0 +1,81 @@
+package com.synergyhub.controller;
+
+import com.synergyhub.config.PaginationConfig;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.dto.response.ApiResponse;
+import com.synergyhub.dto.response.CursorPage;
+import com.synergyhub.dto.response.TaskResponse;
+import com.synergyhub.security.ResolvedUserCache;
+import com.synergyhub.security.UserPrincipal;
+import com.synergyhub.service.task.TaskBulkService;
+import com.synergyhub.service.task.TaskRankService;
+import com.synergyhub.service.task.TaskService;
+import com.synergyhub.util.ClientIpResolver;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskControllerTest {
+
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private TaskBulkService taskBulkService;
+    @Mock
+    private TaskRankService taskRankService;
+    @Mock
+    private ResolvedUserCache resolvedUserCache;
+    @Mock
+    private ClientIpResolver ipResolver;
+
+    private TaskController controller;
+    private final User user = TestDataFactory.createUser();
+    private final UserPrincipal principal = UserPrincipal.create(user);
+
+    @BeforeEach
+    void setUp() {
+        PaginationConfig paginationConfig = new PaginationConfig();
+        paginationConfig.setLegacyListBatchSize(2);
+        controller = new TaskController(taskService, taskBulkService, taskRankService, resolvedUserCache,
+                paginationConfig, ipResolver);
+        when(resolvedUserCache.getUser(principal)).thenReturn(user);
+    }
+
+    @Test
+    void unpaginatedListsReturnEveryPage() {
+        when(taskService.getMyTasks(isNull(), eq(2), eq(user)))
+                .thenReturn(page("c1", task(1L), task(2L)));
+        when(taskService.getMyTasks("c1", 2, user)).thenReturn(page("c2", task(3L), task(4L)));
+        when(taskService.getMyTasks("c2", 2, user)).thenReturn(page(null, task(5L)));
+
+        ResponseEntity<ApiResponse<List<TaskResponse>>> response = controller.getMyTasks(principal);
+
+        assertThat(response.getBody().getData()).extracting(TaskResponse::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(response.getHeaders()).isEmpty();
+    }
+
+    private static CursorPage<TaskResponse> page(String nextCursor, TaskResponse... tasks) {
+        return CursorPage.<TaskResponse>builder()
+                .content(List.of(tasks))
+                .size(tasks.length)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .build();
+    }
+
+    private static TaskResponse task(Long id) {
+        return TaskResponse.builder().id(id).build();
+    }
+}
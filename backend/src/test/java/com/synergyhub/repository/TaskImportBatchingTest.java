@@ -0,0 +1,136 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.util.PersistedTestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Task inserts take their ids from the pooled id_generators table, so hibernate.jdbc.batch_size can group
+ * them and the statement count is a small fraction of the row count.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskImportBatchingTest {
+
+    private static final int TASKS = 10_000;
+    private static final int BATCHED_TASKS = 200;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void idsComeFromTheGeneratorTableAboveExistingRows() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        User reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        Project project = PersistedTestDataFactory.createProject(entityManager, organization, "Import");
+        entityManager.flush();
+
+        // A row written with a database-assigned id above anything handed out so far, and the generator row
+        // V7 seeds for it. The generator table is shared with earlier tests, so ids already reserved there
+        // may still be used up first.
+        long reserved = nextVal();
+        long legacyId = reserved + 1_000;
+        jdbcTemplate.update("INSERT INTO tasks (task_id, title, project_id, reporter_id, status, priority, type, " +
+                "archived, created_at) VALUES (?, 'Legacy', ?, ?, 'TO_DO', 'MEDIUM', 'TASK', FALSE, CURRENT_TIMESTAMP)",
+                legacyId, project.getId(), reporter.getId());
+        // Committed on its own, like the generator's own updates, so allocation does not wait on this test's lock
+        TransactionTemplate seed = new TransactionTemplate(transactionManager);
+        seed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        seed.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM id_generators WHERE entity_name = 'tasks'");
+            jdbcTemplate.update("INSERT INTO id_generators (entity_name, next_val) VALUES ('tasks', ?)", legacyId + 50);
+        });
+
+        List<Task> tasks = new ArrayList<>(BATCHED_TASKS);
+        for (int i = 0; i < BATCHED_TASKS; i++) {
+            tasks.add(Task.builder().title("Imported " + i).project(project).reporter(reporter).build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        assertThat(ids).doesNotHaveDuplicates().doesNotContain(legacyId);
+        assertThat(ids).allMatch(id -> id <= reserved || id > legacyId);
+        assertThat(ids.stream().filter(id -> id > legacyId)).hasSizeGreaterThanOrEqualTo(BATCHED_TASKS - 50);
+        assertThat(nextVal()).isGreaterThanOrEqualTo(ids.stream().mapToLong(Long::longValue).max().orElseThrow());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BATCHED_TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(BATCHED_TASKS / 5);
+    }
+
+    /**
+     * Imports 10k tasks and reports rows/sec.
+     */
+    @Test
+    @Tag("benchmark")
+    void importIsBatched() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        User reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        Project project = PersistedTestDataFactory.createProject(entityManager, organization, "Import");
+        entityManager.flush();
+
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder().title("Imported " + i).project(project).reporter(reporter).build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        log.info("Imported {} tasks in {}s ({} rows/sec, {} statements)", TASKS, String.format("%.2f", seconds),
+                Math.round(TASKS / seconds), statistics.getPrepareStatementCount());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS);
+        // One statement per batch of 50 plus id block allocation, instead of one per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(TASKS / 10);
+    }
+
+    private long nextVal() {
+        List<Long> values = jdbcTemplate.queryForList(
+                "SELECT next_val FROM id_generators WHERE entity_name = 'tasks'", Long.class);
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+}
@@ -0,0 +1,188 @@
+package com.synergyhub.repository;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.util.PersistedTestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+// Hibernate lists enum constants alphabetically; the real schema declares priority in TaskPriority order,
+// which is what ORDER BY priority sorts by
+@Sql(statements = "ALTER TABLE tasks ALTER COLUMN priority ENUM('LOW','MEDIUM','HIGH','CRITICAL') NOT NULL",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class TaskListQueryRepositoryTest {
+
+    private static final int TASKS = 30;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        viewer = PersistedTestDataFactory.createUser(entityManager, "viewer@example.com");
+        User other = PersistedTestDataFactory.createUser(entityManager, "other@example.com");
+        project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+
+        Task previous = null;
+        for (int i = 0; i < TASKS; i++) {
+            Task task = task("Task " + i, viewer);
+            task.setAssignee(other);
+            if (previous != null) {
+                task.getLinkedTasks().add(previous);
+            }
+            task = entityManager.persist(task);
+            entityManager.flush();
+            watch(task, other);
+            if (i % 2 == 0) {
+                watch(task, viewer);
+            }
+
+            Task done = task("Subtask " + i, other);
+            done.setParentTask(task);
+            done.setStatus(TaskStatus.DONE);
+            entityManager.persist(done);
+            Task open = task("Subtask " + i + "b", other);
+            open.setParentTask(task);
+            entityManager.persist(open);
+            taskRepository.adjustSubtaskCounts(task.getId(), 2, 1);
+            previous = task;
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageCostsTwoQueriesRegardlessOfSize() {
+        Specification<Task> topLevel = TaskSpecifications.inProject(project.getId())
+                .and((root, query, cb) -> cb.isNull(root.get("parentTask")));
+
+        for (int size : new int[]{5, TASKS}) {
+            Statistics statistics = statistics();
+            statistics.clear();
+
+            List<TaskListRow> rows = taskRepository.findListRows(topLevel, viewer.getId(), size);
+            List<TaskListRow.Link> links = taskRepository.findLinks(rows.stream().map(TaskListRow::id).toList());
+
+            assertThat(rows).hasSize(size);
+            assertThat(links).isNotEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Test
+    void aggregatesAreComputedPerRow() {
+        List<TaskListRow> rows = taskRepository.findListRows(
+                TaskSpecifications.inProject(project.getId()).and((root, query, cb) -> cb.isNull(root.get("parentTask"))),
+                viewer.getId(), 0);
+
+        assertThat(rows).hasSize(TASKS);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.subtaskCount()).isEqualTo(2);
+            assertThat(row.completedSubtaskCount()).isEqualTo(1);
+            assertThat(row.assigneeEmail()).isEqualTo("other@example.com");
+            assertThat(row.reporterEmail()).isEqualTo("viewer@example.com");
+        });
+        assertThat(rows.stream().filter(row -> row.viewerWatching() > 0)).hasSize(TASKS / 2);
+        assertThat(rows.stream().mapToInt(TaskListRow::watchersCount).sum()).isEqualTo(TASKS + TASKS / 2);
+    }
+
+    @Test
+    void watchedSubsetIsResolvedInOneQuery() {
+        List<Long> ids = taskRepository.findListRows(TaskSpecifications.inProject(project.getId()), viewer.getId(), 0)
+                .stream().map(TaskListRow::id).toList();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<Number> watched = taskRepository.findWatchedTaskIds(ids, viewer.getId());
+
+        assertThat(watched).hasSize(TASKS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(taskRepository.addWatcher(watched.get(0).longValue(), viewer.getId())).isZero();
+    }
+
+    @Test
+    void keysetPagesCrossEveryPriorityBoundary() {
+        Project board = PersistedTestDataFactory.createProject(entityManager, project.getOrganization(), "Gemini");
+        for (TaskPriority priority : TaskPriority.values()) {
+            for (int i = 0; i < 2; i++) {
+                Task task = task(priority + " " + i, viewer);
+                task.setProject(board);
+                task.setPriority(priority);
+                entityManager.persist(task);
+            }
+        }
+        entityManager.flush();
+        Specification<Task> scope = TaskSpecifications.inProject(board.getId());
+
+        List<Long> expected = taskRepository.findListRows(scope, viewer.getId(), 0).stream().map(TaskListRow::id).toList();
+        assertThat(taskRepository.findListRows(scope, viewer.getId(), 0).stream().map(TaskListRow::priority).distinct())
+                .containsExactly(TaskPriority.CRITICAL, TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
+
+        for (int size : new int[]{1, 3}) {
+            List<Long> paged = new ArrayList<>();
+            TaskListRow last = null;
+            do {
+                Specification<Task> spec = last == null ? scope
+                        : scope.and(TaskSpecifications.after(last.priority(), last.createdAt(), last.id()));
+                List<TaskListRow> page = taskRepository.findListRows(spec, viewer.getId(), size);
+                page.forEach(row -> paged.add(row.id()));
+                last = page.size() == size ? page.get(size - 1) : null;
+            } while (last != null);
+            assertThat(paged).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private void watch(Task task, User user) {
+        if (taskRepository.addWatcher(task.getId(), user.getId()) > 0) {
+            taskRepository.adjustWatchersCount(task.getId(), 1);
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Task task(String title, User reporter) {
+        return Task.builder()
+                .title(title)
+                .project(project)
+                .reporter(reporter)
+                .build();
+    }
+}
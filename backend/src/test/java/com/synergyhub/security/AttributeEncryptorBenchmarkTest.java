@@ -0,0 +1,64 @@
+package com.synergyhub.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.synergyhub.security.AttributeEncryptorTest.LEGACY_KEY;
+import static com.synergyhub.security.AttributeEncryptorTest.encryptor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the cost of an encrypt + decrypt round trip through the converter next to the previous
+ * implementation, which looked up a new Cipher and built a new key for every call. The assertions check
+ * the round trips, the timings are logged.
+ */
+@Slf4j
+@Tag("benchmark")
+class AttributeEncryptorBenchmarkTest {
+
+    private static final int ROUND_TRIPS = 200_000;
+    private static final String SECRET = "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP";
+
+    @Test
+    void roundTripCost() throws Exception {
+        AttributeEncryptor encryptor = encryptor(1, "");
+
+        for (int i = 0; i < ROUND_TRIPS / 10; i++) {
+            encryptor.convertToEntityAttribute(encryptor.convertToDatabaseColumn(SECRET));
+            perCallCipherRoundTrip(SECRET);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUND_TRIPS; i++) {
+            assertThat(encryptor.convertToEntityAttribute(encryptor.convertToDatabaseColumn(SECRET))).isEqualTo(SECRET);
+        }
+        report("reused AES-GCM ciphers", start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUND_TRIPS; i++) {
+            assertThat(perCallCipherRoundTrip(SECRET)).isEqualTo(SECRET);
+        }
+        report("per-call AES/ECB ciphers (previous)", start);
+    }
+
+    private static String perCallCipherRoundTrip(String plain) throws Exception {
+        Cipher encrypt = Cipher.getInstance("AES");
+        encrypt.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(LEGACY_KEY.getBytes(), "AES"));
+        String stored = Base64.getEncoder().encodeToString(encrypt.doFinal(plain.getBytes(StandardCharsets.UTF_8)));
+        Cipher decrypt = Cipher.getInstance("AES");
+        decrypt.init(Cipher.DECRYPT_MODE, new SecretKeySpec(LEGACY_KEY.getBytes(), "AES"));
+        return new String(decrypt.doFinal(Base64.getDecoder().decode(stored)), StandardCharsets.UTF_8);
+    }
+
+    private static void report(String variant, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        log.info("Attribute encryption, {}: {} round trips in {}ms ({}us each)", variant, ROUND_TRIPS,
+                String.format("%.1f", millis), String.format("%.2f", millis * 1e3 / ROUND_TRIPS));
+    }
+}
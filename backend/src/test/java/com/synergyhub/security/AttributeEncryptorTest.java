@@ -0,0 +1,95 @@
+package com.synergyhub.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttributeEncryptorTest {
+
+    static final String LEGACY_KEY = "0123456789abcdef0123456789abcdef";
+    static final String KEY_2 = Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void roundTripsUnderTheCurrentVersion() {
+        AttributeEncryptor encryptor = encryptor(1, "");
+
+        String stored = encryptor.convertToDatabaseColumn("JBSWY3DPEHPK3PXP");
+
+        assertThat(stored).startsWith("v1:");
+        assertThat(encryptor.convertToEntityAttribute(stored)).isEqualTo("JBSWY3DPEHPK3PXP");
+        assertThat(encryptor.convertToDatabaseColumn(null)).isNull();
+        assertThat(encryptor.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void everyWriteUsesAFreshIv() {
+        AttributeEncryptor encryptor = encryptor(1, "");
+
+        assertThat(encryptor.convertToDatabaseColumn("same")).isNotEqualTo(encryptor.convertToDatabaseColumn("same"));
+    }
+
+    @Test
+    void readsLegacyEcbCiphertext() throws Exception {
+        AttributeEncryptor encryptor = encryptor(2, "2:" + KEY_2);
+
+        assertThat(encryptor.convertToEntityAttribute(legacyEncrypt("client-secret"))).isEqualTo("client-secret");
+    }
+
+    @Test
+    void detectsTampering() {
+        AttributeEncryptor encryptor = encryptor(1, "");
+        String stored = encryptor.convertToDatabaseColumn("client-secret");
+        byte[] payload = Base64.getDecoder().decode(stored.substring(3));
+        payload[payload.length - 1] ^= 1;
+        String tampered = "v1:" + Base64.getEncoder().encodeToString(payload);
+
+        assertThatThrownBy(() -> encryptor.convertToEntityAttribute(tampered))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Error decrypting data");
+    }
+
+    @Test
+    void rotatedOutVersionsStayReadable() {
+        String underVersion1 = encryptor(1, "2:" + KEY_2).convertToDatabaseColumn("client-secret");
+        AttributeEncryptor rotated = encryptor(2, "2:" + KEY_2);
+
+        String underVersion2 = rotated.convertToDatabaseColumn("client-secret");
+
+        assertThat(underVersion2).startsWith("v2:");
+        assertThat(rotated.convertToEntityAttribute(underVersion1)).isEqualTo("client-secret");
+        assertThat(rotated.convertToEntityAttribute(underVersion2)).isEqualTo("client-secret");
+        assertThatThrownBy(() -> encryptor(1, "").convertToEntityAttribute(underVersion2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("version 2");
+    }
+
+    @Test
+    void refusesACurrentVersionWithoutAKey() {
+        assertThatThrownBy(() -> encryptor(3, "2:" + KEY_2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    static AttributeEncryptor encryptor(int currentVersion, String versionedKeys) {
+        AttributeEncryptor encryptor = new AttributeEncryptor();
+        ReflectionTestUtils.setField(encryptor, "secretKey", LEGACY_KEY);
+        ReflectionTestUtils.setField(encryptor, "versionedKeys", versionedKeys);
+        ReflectionTestUtils.setField(encryptor, "currentVersion", currentVersion);
+        encryptor.initKeys();
+        return encryptor;
+    }
+
+    /**
+     * What the converter wrote before versioned AES-GCM: "AES" (ECB, PKCS5) under the raw legacy key.
+     */
+    static String legacyEncrypt(String plain) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(LEGACY_KEY.getBytes(StandardCharsets.UTF_8), "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8)));
+    }
+}
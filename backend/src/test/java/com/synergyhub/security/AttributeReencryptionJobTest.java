@@ -0,0 +1,97 @@
+package com.synergyhub.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static com.synergyhub.security.AttributeEncryptorTest.KEY_2;
+import static com.synergyhub.security.AttributeEncryptorTest.encryptor;
+import static com.synergyhub.security.AttributeEncryptorTest.legacyEncrypt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeReencryptionJobTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE two_factor_secrets (secret_id BIGINT PRIMARY KEY, secret VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE sso_providers (provider_id BIGINT PRIMARY KEY, client_secret VARCHAR(255))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void rewritesLegacyAndRotatedOutRowsWithTheCurrentKey() throws Exception {
+        AttributeEncryptor version1 = encryptor(1, "2:" + KEY_2);
+        AttributeEncryptor version2 = encryptor(2, "2:" + KEY_2);
+        String current = version2.convertToDatabaseColumn("already current");
+        insert("two_factor_secrets", "secret_id", "secret",
+                legacyEncrypt("legacy"), version1.convertToDatabaseColumn("rotated out"), current, null, "not ciphertext");
+        insert("sso_providers", "provider_id", "client_secret", legacyEncrypt("client-secret"));
+
+        // A batch smaller than the table makes the job page through it
+        AttributeReencryptionJob job = job(version2, 2);
+        job.reencryptStaleRows();
+
+        List<String> secrets = values("two_factor_secrets", "secret_id", "secret");
+        assertThat(secrets.subList(0, 3)).allMatch(value -> value.startsWith("v2:"));
+        assertThat(secrets.subList(0, 3)).map(version2::convertToEntityAttribute)
+                .containsExactly("legacy", "rotated out", "already current");
+        assertThat(secrets.get(2)).isEqualTo(current);
+        assertThat(secrets.get(3)).isNull();
+        // Undecryptable values are skipped and left alone
+        assertThat(secrets.get(4)).isEqualTo("not ciphertext");
+        assertThat(version2.convertToEntityAttribute(values("sso_providers", "provider_id", "client_secret").get(0)))
+                .isEqualTo("client-secret");
+
+        // Nothing left to do on the next run
+        List<String> before = values("two_factor_secrets", "secret_id", "secret");
+        job.reencryptStaleRows();
+        assertThat(values("two_factor_secrets", "secret_id", "secret")).isEqualTo(before);
+    }
+
+    @Test
+    void doesNothingWhenDisabled() throws Exception {
+        String legacy = legacyEncrypt("legacy");
+        insert("two_factor_secrets", "secret_id", "secret", legacy);
+        AttributeReencryptionJob job = job(encryptor(1, ""), 200);
+        ReflectionTestUtils.setField(job, "enabled", false);
+
+        job.reencryptStaleRows();
+
+        assertThat(values("two_factor_secrets", "secret_id", "secret")).containsExactly(legacy);
+    }
+
+    private AttributeReencryptionJob job(AttributeEncryptor encryptor, int batchSize) {
+        AttributeReencryptionJob job = new AttributeReencryptionJob(jdbcTemplate, encryptor);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "batchSize", batchSize);
+        return job;
+    }
+
+    private void insert(String table, String idColumn, String valueColumn, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            jdbcTemplate.update("INSERT INTO " + table + " (" + idColumn + ", " + valueColumn + ") VALUES (?, ?)",
+                    i + 1, values[i]);
+        }
+    }
+
+    private List<String> values(String table, String idColumn, String valueColumn) {
+        return jdbcTemplate.queryForList("SELECT " + valueColumn + " FROM " + table + " ORDER BY " + idColumn,
+                String.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.synergyhub.security;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.entity.UserOrganization.MembershipStatus;
+import com.synergyhub.exception.UnauthorizedOrganizationAccessException;
+import com.synergyhub.exception.UnauthorizedRoleManagementException;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthorizationDecisionCacheTest {
+
+    private final AuthorizationDecisionCache decisionCache = new AuthorizationDecisionCache();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void answersEachQuestionOncePerRequest() {
+        startRequest();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        assertThat(decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0)).isTrue();
+        assertThat(decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0)).isTrue();
+        // Another subject, permission or resource is another question
+        decisionCache.check(2L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0);
+        decisionCache.check(1L, "task:access", 10L, () -> evaluations.incrementAndGet() > 0);
+        decisionCache.check(1L, "project:member", 11L, () -> evaluations.incrementAndGet() > 0);
+
+        assertThat(evaluations).hasValue(4);
+        assertThat(AuthorizationDecisionCache.currentStats().getEvaluated()).isEqualTo(4);
+        assertThat(AuthorizationDecisionCache.currentStats().getCached()).isEqualTo(1);
+    }
+
+    @Test
+    void forgetsDecisionsWhenTheRequestEnds() {
+        AtomicInteger evaluations = new AtomicInteger();
+
+        startRequest();
+        decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0);
+        startRequest();
+        decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0);
+        RequestContextHolder.resetRequestAttributes();
+        decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0);
+        decisionCache.check(1L, "project:member", 10L, () -> evaluations.incrementAndGet() > 0);
+
+        assertThat(evaluations).hasValue(4);
+        assertThat(AuthorizationDecisionCache.currentStats()).isNull();
+    }
+
+    @Test
+    void evaluatorsMayCheckCoarserPermissions() {
+        startRequest();
+
+        assertThat(decisionCache.check(1L, "task:access", 100L,
+                () -> decisionCache.check(1L, "project:member", 10L, () -> false))).isFalse();
+        assertThat(decisionCache.check(1L, "project:member", 10L, () -> true)).isFalse();
+    }
+
+    @Test
+    void membershipIsResolvedOncePerRequestAcrossCheckers() {
+        ResolvedUserCache resolvedUserCache = mock(ResolvedUserCache.class);
+        when(resolvedUserCache.find(1L)).thenReturn(Optional.of(snapshot(1L, 7L, "ORG_MEMBER")));
+        OrganizationMembershipResolver membershipResolver = new OrganizationMembershipResolver(resolvedUserCache);
+        OrganizationSecurity organizationSecurity = new OrganizationSecurity(membershipResolver, decisionCache);
+        RbacSecurity rbacSecurity = new RbacSecurity(membershipResolver, decisionCache);
+        User user = TestDataFactory.createUser(1L, "member@example.com", "Member");
+        startRequest();
+
+        assertThat(organizationSecurity.hasOrganizationAccess(7L, 1L)).isTrue();
+        assertThat(organizationSecurity.hasOrganizationAccess(7L, user)).isTrue();
+        assertThatThrownBy(() -> rbacSecurity.requireRoleManagementAccess(7L, user))
+                .isInstanceOf(UnauthorizedRoleManagementException.class);
+        assertThatThrownBy(() -> organizationSecurity.requireEditAccess(Organization.builder().id(7L).build(), user))
+                .isInstanceOf(UnauthorizedOrganizationAccessException.class);
+
+        // One resolution for access, one for admin; the repeated questions were answered from the request
+        verify(resolvedUserCache, times(2)).find(1L);
+    }
+
+    private static ResolvedUser snapshot(Long userId, Long organizationId, String roleName) {
+        return new ResolvedUser(userId, "Member", "member@example.com", null, null, true, false, false, 0,
+                List.of(new ResolvedUser.Membership(organizationId, "Acme", 3L, roleName, Set.of(), true,
+                        MembershipStatus.ACTIVE)));
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.synergyhub.security;
+
+import com.synergyhub.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger hashes = new AtomicInteger();
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void delegatesToTheWrappedEncoder() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 5_000);
+
+        String hash = encoder.encode("correct horse");
+
+        assertThat(encoder.matches("correct horse", hash)).isTrue();
+        assertThat(encoder.matches("wrong horse", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void failsFastWhenEverySlotAndQueueEntryIsTaken() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 10_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"), callers);
+        await(() -> encoder.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"), callers);
+        await(() -> encoder.getQueueDepth() == 1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterTheMaximumWaitAndSkipsTheAbandonedHash() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 10, 100);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> {
+            try {
+                return encoder.encode("a");
+            } catch (TooManyRequestsException e) {
+                return "timed out";
+            }
+        }, callers);
+        await(() -> encoder.getActiveCount() == 1);
+
+        assertThatThrownBy(() -> encoder.encode("abandoned")).isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        encoder.encode("after");
+        // "a" and "after" were hashed; the cancelled request never reached the delegate
+        assertThat(hashes).hasValue(2);
+    }
+
+    @Test
+    void rethrowsDelegateFailuresUnchanged() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 5_000);
+
+        assertThatThrownBy(() -> encoder.encode(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(encoder.getRejectedCount()).isZero();
+    }
+
+    /**
+     * Encoder whose hashes wait for {@link #release}.
+     */
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                hashes.incrementAndGet();
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not reached in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
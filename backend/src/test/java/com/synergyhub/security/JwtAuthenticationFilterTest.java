@@ -0,0 +1,158 @@
+package com.synergyhub.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synergyhub.config.CacheConfig;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.repository.UserRepository;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "a".repeat(64);
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SessionRevocationIndex sessionRevocationIndex;
+    @Mock
+    private SessionActivityTracker sessionActivityTracker;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private final User user = TestDataFactory.createUser(1L, "alice@example.com", "Alice");
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = tokenProvider(SECRET, 60_000);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.RESOLVED_USERS_CACHE, Caffeine.newBuilder().build());
+        ResolvedUserCache resolvedUserCache = new ResolvedUserCache(cacheManager, userRepository, new AuthorizationDecisionCache());
+        ReflectionTestUtils.invokeMethod(resolvedUserCache, "init");
+        filter = new JwtAuthenticationFilter(tokenProvider, sessionRevocationIndex, sessionActivityTracker,
+                new CustomUserDetailsService(userRepository), resolvedUserCache);
+
+        user.setTwoFactorEnabled(true);
+        lenient().when(userRepository.findByIdWithRolesAndPermissions(1L)).thenReturn(Optional.of(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void buildsThePrincipalFromClaimsAndTheCachedSnapshot() throws Exception {
+        String token = tokenProvider.generateAccessToken(1L, "alice@example.com", "Alice", 0);
+
+        MockFilterChain chain = filter(token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getName()).isEqualTo("Alice");
+        // Account flags come from the user, not from the token
+        assertThat(principal.isTwoFactorEnabled()).isTrue();
+        assertThat(principal.isEmailVerified()).isTrue();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(sessionActivityTracker).recordAccess(anyString());
+        verify(userRepository, never()).findByEmailWithRolesAndPermissions(anyString());
+    }
+
+    @Test
+    void rejectsExpiredTokens() throws Exception {
+        String token = tokenProvider(SECRET, -1_000).generateAccessToken(1L, "alice@example.com", "Alice", 0);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = filter(token, response);
+
+        assertThat(response.getHeader("X-Auth-Error")).isEqualTo("TOKEN_EXPIRED");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(userRepository, sessionActivityTracker);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() throws Exception {
+        String token = tokenProvider("b".repeat(64), 60_000).generateAccessToken(1L, "alice@example.com", "Alice", 0);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter(token, response);
+
+        assertThat(response.getHeader("X-Auth-Error")).isEqualTo("INVALID_SIGNATURE");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rejectsTokensIssuedBeforeTheCurrentTokenVersion() throws Exception {
+        String token = tokenProvider.generateAccessToken(1L, "alice@example.com", "Alice", 0);
+        // Password changed since the token was issued
+        user.setTokenVersion(1);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter(token, response);
+
+        assertThat(response.getHeader("X-Auth-Error")).isEqualTo("TOKEN_REVOKED");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(sessionActivityTracker);
+    }
+
+    @Test
+    void loadsTheUserWhenClaimsPrincipalsAreDisabled() throws Exception {
+        ReflectionTestUtils.setField(tokenProvider, "claimsPrincipalEnabled", false);
+        when(userRepository.findByEmailWithRolesAndPermissions("alice@example.com")).thenReturn(Optional.of(user));
+        String token = tokenProvider.generateAccessToken(1L, "alice@example.com", "Alice", 0);
+
+        filter(token);
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getUser()).isSameAs(user);
+        assertThat(principal.isTwoFactorEnabled()).isTrue();
+    }
+
+    private MockFilterChain filter(String token) throws Exception {
+        return filter(token, new MockHttpServletResponse());
+    }
+
+    private MockFilterChain filter(String token, MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+
+    private static JwtTokenProvider tokenProvider(String secret, long expirationMs) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(provider, "claimsPrincipalEnabled", true);
+        ReflectionTestUtils.invokeMethod(provider, "validateSecretKey");
+        return provider;
+    }
+}
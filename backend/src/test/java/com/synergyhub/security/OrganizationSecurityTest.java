@@ -0,0 +1,110 @@
+package com.synergyhub.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synergyhub.config.CacheConfig;
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.events.organization.UserJoinedOrganizationEvent;
+import com.synergyhub.exception.UnauthorizedOrganizationAccessException;
+import com.synergyhub.exception.UnauthorizedRoleManagementException;
+import com.synergyhub.listeners.cache.ResolvedUserCacheInvalidationListener;
+import com.synergyhub.repository.UserRepository;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationSecurityTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ResolvedUserCacheInvalidationListener listener;
+    private OrganizationSecurity organizationSecurity;
+    private RbacSecurity rbacSecurity;
+
+    // Every user starts as a member of TestDataFactory's organization 1
+    private final Organization acme = TestDataFactory.createOrganization();
+    private final Organization other = TestDataFactory.createOrganization(2L, "Other");
+    private final User orgAdmin = TestDataFactory.createUser(1L, "admin@example.com", "Admin");
+    private final User member = TestDataFactory.createUser(2L, "member@example.com", "Member");
+    private final User globalAdmin = TestDataFactory.createUser(3L, "root@example.com", "Root");
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.RESOLVED_USERS_CACHE, Caffeine.newBuilder().build());
+        AuthorizationDecisionCache decisionCache = new AuthorizationDecisionCache();
+        ResolvedUserCache resolvedUserCache = new ResolvedUserCache(cacheManager, userRepository, decisionCache);
+        ReflectionTestUtils.invokeMethod(resolvedUserCache, "init");
+        listener = new ResolvedUserCacheInvalidationListener(resolvedUserCache);
+        OrganizationMembershipResolver membershipResolver = new OrganizationMembershipResolver(resolvedUserCache);
+        organizationSecurity = new OrganizationSecurity(membershipResolver, decisionCache);
+        rbacSecurity = new RbacSecurity(membershipResolver, decisionCache);
+
+        orgAdmin.getMemberships().clear();
+        orgAdmin.addMembership(acme, TestDataFactory.createRole(10L, "ORG_ADMIN"));
+        orgAdmin.addMembership(other, TestDataFactory.createRole(11L, "DEVELOPER"));
+        globalAdmin.getMemberships().clear();
+        globalAdmin.addMembership(acme, TestDataFactory.createRole(12L, "GLOBAL_ADMIN"));
+        for (User user : new User[]{orgAdmin, member, globalAdmin}) {
+            lenient().when(userRepository.findByIdWithRolesAndPermissions(user.getId())).thenReturn(Optional.of(user));
+        }
+    }
+
+    @Test
+    void membersAndGlobalAdminsHaveAccess() {
+        assertThat(organizationSecurity.hasOrganizationAccess(1L, member)).isTrue();
+        assertThat(organizationSecurity.hasReadAccess(other, member)).isFalse();
+        assertThat(organizationSecurity.hasOrganizationAccess(2L, globalAdmin)).isTrue();
+        assertThat(organizationSecurity.hasOrganizationAccess(1L, 99L)).isFalse();
+        assertThatThrownBy(() -> organizationSecurity.requireReadAccess(other, member))
+                .isInstanceOf(UnauthorizedOrganizationAccessException.class);
+    }
+
+    @Test
+    void adminRightsAreScopedToTheOrganization() {
+        assertThatCode(() -> organizationSecurity.requireEditAccess(acme, orgAdmin)).doesNotThrowAnyException();
+        assertThatCode(() -> rbacSecurity.requireRoleManagementAccess(1L, orgAdmin)).doesNotThrowAnyException();
+
+        // ORG_ADMIN elsewhere used to be enough to manage roles here
+        assertThatThrownBy(() -> rbacSecurity.requireRoleManagementAccess(2L, orgAdmin))
+                .isInstanceOf(UnauthorizedRoleManagementException.class);
+        assertThatThrownBy(() -> organizationSecurity.requireEditAccess(other, orgAdmin))
+                .isInstanceOf(UnauthorizedOrganizationAccessException.class);
+        assertThatThrownBy(() -> rbacSecurity.requireRoleManagementAccess(1L, member))
+                .isInstanceOf(UnauthorizedRoleManagementException.class);
+        assertThatCode(() -> rbacSecurity.requireRoleManagementAccess(2L, globalAdmin)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void onlyGlobalAdminsCreateOrganizations() {
+        assertThatCode(() -> organizationSecurity.requireCreateAccess(globalAdmin)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> organizationSecurity.requireCreateAccess(orgAdmin))
+                .isInstanceOf(UnauthorizedOrganizationAccessException.class);
+    }
+
+    @Test
+    void aNewMembershipIsVisibleAfterTheJoinEvent() {
+        assertThat(organizationSecurity.hasOrganizationAccess(2L, member)).isFalse();
+
+        member.addMembership(other, null);
+        // Still the cached snapshot until the event arrives
+        assertThat(organizationSecurity.hasOrganizationAccess(2L, member)).isFalse();
+        listener.onUserJoinedOrganization(new UserJoinedOrganizationEvent(other, member, "127.0.0.1"));
+
+        assertThat(organizationSecurity.hasOrganizationAccess(2L, member)).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package com.synergyhub.security;
+
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.enums.ProjectRole;
+import com.synergyhub.events.project.ProjectArchivedEvent;
+import com.synergyhub.events.project.ProjectMemberAddedEvent;
+import com.synergyhub.events.project.ProjectMemberRemovedEvent;
+import com.synergyhub.listeners.cache.ProjectAclIndexInvalidationListener;
+import com.synergyhub.repository.ProjectMemberRepository;
+import com.synergyhub.repository.ProjectRepository;
+import com.synergyhub.repository.SprintRepository;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectAclIndexTest {
+
+    private static final long ORG_ID = 7L;
+    private static final long PROJECT_ID = 10L;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private SprintRepository sprintRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    private ProjectAclIndex index;
+    private ProjectAclIndexInvalidationListener listener;
+    private final Project project = Project.builder().id(PROJECT_ID).name("Apollo").build();
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectAclIndex(taskRepository, sprintRepository, projectRepository, projectMemberRepository,
+                new AuthorizationDecisionCache(), 100, 100, 100, 10);
+        listener = new ProjectAclIndexInvalidationListener(index);
+        lenient().when(projectRepository.findOrganizationIdById(PROJECT_ID)).thenReturn(Optional.of(ORG_ID));
+    }
+
+    @Test
+    void answersMembershipFromOneLoadPerProject() {
+        when(projectMemberRepository.findUserIdsByProjectId(PROJECT_ID)).thenReturn(List.of(3L, 1L, 2L));
+
+        assertThat(index.isProjectMember(PROJECT_ID, 1L)).isTrue();
+        assertThat(index.isProjectMember(PROJECT_ID, 3L)).isTrue();
+        assertThat(index.isProjectMember(PROJECT_ID, 4L)).isFalse();
+        assertThat(index.isProjectMember(PROJECT_ID, 2L, ORG_ID)).isTrue();
+        // The project exists, but in another organization
+        assertThat(index.isProjectMember(PROJECT_ID, 2L, 8L)).isFalse();
+        assertThat(index.isProjectMember(PROJECT_ID, null)).isFalse();
+
+        verify(projectMemberRepository, times(1)).findUserIdsByProjectId(PROJECT_ID);
+    }
+
+    @Test
+    void unknownProjectsHaveNoMembers() {
+        when(projectRepository.findOrganizationIdById(99L)).thenReturn(Optional.empty());
+
+        assertThat(index.isProjectMember(99L, 1L)).isFalse();
+        assertThat(index.isProjectMember(null, 1L)).isFalse();
+        verifyNoInteractions(projectMemberRepository);
+    }
+
+    @Test
+    void membershipChangesTakeEffectAfterTheEvent() {
+        when(projectMemberRepository.findUserIdsByProjectId(PROJECT_ID))
+                .thenReturn(List.of(1L), List.of(1L, 2L), List.of(2L), List.of());
+
+        assertThat(index.isProjectMember(PROJECT_ID, 2L)).isFalse();
+
+        listener.onProjectMemberAdded(new ProjectMemberAddedEvent(project,
+                TestDataFactory.createUser(2L, "bob@example.com", "Bob"), ProjectRole.DEVELOPER, null, "127.0.0.1"));
+        assertThat(index.isProjectMember(PROJECT_ID, 2L)).isTrue();
+
+        // A removed member loses access on the next check, not after the TTL
+        listener.onProjectMemberRemoved(new ProjectMemberRemovedEvent(project, 1L, null, "127.0.0.1"));
+        assertThat(index.isProjectMember(PROJECT_ID, 1L)).isFalse();
+
+        listener.onProjectArchived(new ProjectArchivedEvent(project, null, "127.0.0.1"));
+        assertThat(index.isProjectMember(PROJECT_ID, 2L)).isFalse();
+    }
+
+    @Test
+    void cachesTaskAndSprintOwnersUntilEvicted() {
+        when(taskRepository.findProjectIdById(100L)).thenReturn(Optional.of(PROJECT_ID));
+        when(sprintRepository.findProjectIdById(200L)).thenReturn(Optional.of(PROJECT_ID));
+
+        assertThat(index.getTaskProjectId(100L)).isEqualTo(PROJECT_ID);
+        assertThat(index.getTaskProjectId(100L)).isEqualTo(PROJECT_ID);
+        assertThat(index.getSprintProjectId(200L)).isEqualTo(PROJECT_ID);
+        assertThat(index.getSprintProjectId(200L)).isEqualTo(PROJECT_ID);
+        verify(taskRepository, times(1)).findProjectIdById(100L);
+        verify(sprintRepository, times(1)).findProjectIdById(200L);
+
+        // Registered on create, so the first check needs no query
+        index.registerTask(101L, 11L);
+        assertThat(index.getTaskProjectId(101L)).isEqualTo(11L);
+        verify(taskRepository, never()).findProjectIdById(101L);
+
+        index.evictTask(100L);
+        index.evictSprint(200L);
+        when(taskRepository.findProjectIdById(100L)).thenReturn(Optional.empty());
+        assertThat(index.getTaskProjectId(100L)).isNull();
+        index.getSprintProjectId(200L);
+        verify(sprintRepository, times(2)).findProjectIdById(200L);
+    }
+}
@@ -0,0 +1,109 @@
+package com.synergyhub.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synergyhub.config.CacheConfig;
+import com.synergyhub.domain.entity.Role;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.events.auth.PasswordChangedEvent;
+import com.synergyhub.events.rbac.RolePermissionChangedEvent;
+import com.synergyhub.listeners.cache.ResolvedUserCacheInvalidationListener;
+import com.synergyhub.repository.UserRepository;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ResolvedUserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ResolvedUserCache resolvedUserCache;
+    private ResolvedUserCacheInvalidationListener listener;
+
+    // Both are members of TestDataFactory's organization 1; alice also joins organization 2
+    private final User alice = TestDataFactory.createUser(1L, "alice@example.com", "Alice");
+    private final User bob = TestDataFactory.createUser(2L, "bob@example.com", "Bob");
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.RESOLVED_USERS_CACHE, Caffeine.newBuilder().build());
+        resolvedUserCache = new ResolvedUserCache(cacheManager, userRepository, new AuthorizationDecisionCache());
+        ReflectionTestUtils.invokeMethod(resolvedUserCache, "init");
+        listener = new ResolvedUserCacheInvalidationListener(resolvedUserCache);
+
+        alice.addMembership(TestDataFactory.createOrganization(2L, "Other"), null);
+        lenient().when(userRepository.findByIdWithRolesAndPermissions(1L)).thenReturn(Optional.of(alice));
+        lenient().when(userRepository.findByIdWithRolesAndPermissions(2L)).thenReturn(Optional.of(bob));
+    }
+
+    @Test
+    void servesRepeatedLookupsFromTheSnapshot() {
+        assertThat(resolvedUserCache.get(1L).getEmail()).isEqualTo("alice@example.com");
+        assertThat(resolvedUserCache.find(1L, 2L)).isPresent();
+        assertThat(resolvedUserCache.find(2L, 2L)).isEmpty();
+        resolvedUserCache.getUser(principal(1L));
+
+        verify(userRepository, times(1)).findByIdWithRolesAndPermissions(1L);
+    }
+
+    @Test
+    void reloadsAUserAfterAnEventAboutThem() {
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+
+        listener.onPasswordChanged(new PasswordChangedEvent(alice, "127.0.0.1"));
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+
+        verify(userRepository, times(2)).findByIdWithRolesAndPermissions(1L);
+        verify(userRepository, times(1)).findByIdWithRolesAndPermissions(2L);
+    }
+
+    @Test
+    void roleChangesEvictOnlyMembersOfTheRolesOrganization() {
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+        Role role = TestDataFactory.createRole(5L, "DEVELOPER");
+        role.setOrganization(TestDataFactory.createOrganization(2L, "Other"));
+
+        listener.onRolePermissionChanged(new RolePermissionChangedEvent(role, "ASSIGNED", Set.of(9L), bob, "127.0.0.1"));
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+
+        verify(userRepository, times(2)).findByIdWithRolesAndPermissions(1L);
+        verify(userRepository, times(1)).findByIdWithRolesAndPermissions(2L);
+    }
+
+    @Test
+    void aGlobalRoleChangeEvictsEveryone() {
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+
+        listener.onRolePermissionChanged(new RolePermissionChangedEvent(TestDataFactory.createRole(5L, "GLOBAL_ADMIN"),
+                "REVOKED", Set.of(9L), bob, "127.0.0.1"));
+        resolvedUserCache.get(1L);
+        resolvedUserCache.get(2L);
+
+        verify(userRepository, times(2)).findByIdWithRolesAndPermissions(1L);
+        verify(userRepository, times(2)).findByIdWithRolesAndPermissions(2L);
+    }
+
+    private static UserPrincipal principal(Long userId) {
+        return UserPrincipal.create(TestDataFactory.createUser(userId, "principal@example.com", "Principal"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.synergyhub.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionActivityTrackerTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SessionActivityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        createTable();
+        tracker = new SessionActivityTracker(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void writesNothingUntilTheFlush() {
+        insert("jti-1", LONG_AGO);
+
+        tracker.recordAccess("jti-1");
+
+        assertThat(lastAccessed("jti-1")).isEqualTo(LONG_AGO);
+        tracker.flush();
+        assertThat(lastAccessed("jti-1")).isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    void coalescesAccessesPerSession() {
+        insert("jti-1", LONG_AGO);
+        insert("jti-2", LONG_AGO);
+        insert("idle", LONG_AGO);
+
+        for (int i = 0; i < 100; i++) {
+            tracker.recordAccess("jti-1");
+            tracker.recordAccess("jti-2");
+        }
+        tracker.recordAccess(null);
+        tracker.flush();
+
+        assertThat(lastAccessed("jti-1")).isAfter(LONG_AGO);
+        assertThat(lastAccessed("jti-2")).isAfter(LONG_AGO);
+        assertThat(lastAccessed("idle")).isEqualTo(LONG_AGO);
+    }
+
+    @Test
+    void neverMovesTheAccessTimeBackwards() {
+        LocalDateTime later = LocalDateTime.now().plusHours(1).withNano(0);
+        insert("jti-1", later);
+
+        tracker.recordAccess("jti-1");
+        tracker.flush();
+
+        assertThat(lastAccessed("jti-1")).isEqualTo(later);
+    }
+
+    @Test
+    void dropsAFailedBatchInsteadOfRetryingIt() {
+        tracker.recordAccess("jti-1");
+        jdbcTemplate.execute("DROP TABLE user_sessions");
+
+        tracker.flush();
+
+        createTable();
+        insert("jti-1", LONG_AGO);
+        tracker.flushOnShutdown();
+        assertThat(lastAccessed("jti-1")).isEqualTo(LONG_AGO);
+    }
+
+    private void createTable() {
+        jdbcTemplate.execute("CREATE TABLE user_sessions (token_id VARCHAR(64) PRIMARY KEY, last_accessed_at TIMESTAMP)");
+    }
+
+    private void insert(String tokenId, LocalDateTime lastAccessedAt) {
+        jdbcTemplate.update("INSERT INTO user_sessions (token_id, last_accessed_at) VALUES (?, ?)", tokenId, lastAccessedAt);
+    }
+
+    private LocalDateTime lastAccessed(String tokenId) {
+        return jdbcTemplate.queryForObject("SELECT last_accessed_at FROM user_sessions WHERE token_id = ?",
+                LocalDateTime.class, tokenId);
+    }
+}
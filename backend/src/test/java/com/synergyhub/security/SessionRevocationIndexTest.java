@@ -0,0 +1,126 @@
+package com.synergyhub.security;
+
+import com.synergyhub.repository.UserSessionRepository;
+import com.synergyhub.repository.UserSessionRepository.RevokedSessionView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionRevocationIndexTest {
+
+    private static final long USER_ID = 42L;
+
+    @Mock
+    private UserSessionRepository userSessionRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private SessionRevocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jwtTokenProvider.getExpirationMs()).thenReturn(3_600_000L);
+        index = new SessionRevocationIndex(userSessionRepository, jwtTokenProvider);
+        ReflectionTestUtils.setField(index, "syncOverlapMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void startsFromTheRevokedSessionsInTheDatabase() {
+        when(userSessionRepository.findRevokedUnexpiredSessions(any())).thenReturn(List.of(session("jti-1", 30)));
+
+        index.load();
+
+        assertThat(index.isRevoked("jti-1", USER_ID, new Date())).isTrue();
+        assertThat(index.isRevoked("jti-2", USER_ID, new Date())).isFalse();
+    }
+
+    @Test
+    void rejectsALoggedOutTokenRightAway() {
+        index.revokeToken("jti-1");
+
+        assertThat(index.isRevoked("jti-1", USER_ID, new Date())).isTrue();
+    }
+
+    @Test
+    void recordsRevocationsOnlyWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.revokeToken("committed");
+        index.revokeToken("rolled-back");
+
+        assertThat(index.isRevoked("committed", USER_ID, new Date())).isFalse();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCommit();
+
+        assertThat(index.isRevoked("committed", USER_ID, new Date())).isTrue();
+        assertThat(index.isRevoked("rolled-back", USER_ID, new Date())).isFalse();
+    }
+
+    @Test
+    void logoutEverywhereRevokesEarlierTokensOnly() {
+        when(userSessionRepository.findUnexpiredSessionsByUserId(eq(USER_ID), any()))
+                .thenReturn(List.of(session("live-session", 30)));
+        Date before = Date.from(Instant.now().minusSeconds(5));
+
+        index.revokeAllForUser(USER_ID);
+
+        assertThat(index.isRevoked("live-session", 7L, new Date())).isTrue();
+        // A token without a session row, issued before the revocation
+        assertThat(index.isRevoked("sessionless", USER_ID, before)).isTrue();
+        assertThat(index.isRevoked("sessionless", 7L, before)).isFalse();
+        assertThat(index.isRevoked("fresh", USER_ID, Date.from(Instant.now().plusSeconds(5)))).isFalse();
+    }
+
+    @Test
+    void syncPicksUpOtherNodesAndDropsExpiredEntries() {
+        when(userSessionRepository.findRevokedUnexpiredSessions(any())).thenReturn(List.of(session("expired", -1)));
+        index.load();
+        when(userSessionRepository.findSessionsRevokedSince(any(), any())).thenReturn(List.of(session("remote", 30)));
+
+        index.sync();
+
+        assertThat(index.isRevoked("remote", USER_ID, new Date())).isTrue();
+        assertThat(index.isRevoked("expired", USER_ID, new Date())).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static RevokedSessionView session(String tokenId, int expiresInMinutes) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(expiresInMinutes);
+        return new RevokedSessionView() {
+            @Override
+            public String getTokenId() {
+                return tokenId;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.synergyhub.service.auth;
+
+import com.synergyhub.domain.entity.BackupCode;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.repository.BackupCodeRepository;
+import com.synergyhub.repository.UserRepository;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultBackupCodeServiceTest {
+
+    @Mock
+    private BackupCodeRepository backupCodeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    // Low cost factor: the tests count hash checks, they do not need real BCrypt(12) work
+    private final PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder(4));
+
+    private DefaultBackupCodeService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultBackupCodeService(backupCodeRepository, userRepository, passwordEncoder);
+        user = TestDataFactory.createUser();
+        lenient().when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void aPrefixedCodeCostsOneHashCheck() {
+        when(backupCodeRepository.findFirstByUserAndLookupPrefixAndUsedFalse(user, "AB12"))
+                .thenReturn(Optional.of(code("AB12", "SECRET99")));
+
+        assertThat(service.consumeBackupCode("1", " ab12-secret99 ")).isTrue();
+
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(backupCodeRepository).save(any(BackupCode.class));
+        verify(backupCodeRepository, never()).findByUserAndLookupPrefixIsNullAndUsedFalse(any());
+    }
+
+    @Test
+    void aPrefixedCodeWithTheWrongSecretIsRejected() {
+        when(backupCodeRepository.findFirstByUserAndLookupPrefixAndUsedFalse(user, "AB12"))
+                .thenReturn(Optional.of(code("AB12", "SECRET99")));
+
+        assertThat(service.verifyBackupCode("1", "AB12-SECRET00")).isFalse();
+
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+    }
+
+    @Test
+    void anUnknownPrefixCostsNoHashCheck() {
+        when(backupCodeRepository.findFirstByUserAndLookupPrefixAndUsedFalse(user, "ZZ99"))
+                .thenReturn(Optional.empty());
+
+        assertThat(service.verifyBackupCode("1", "ZZ99-SECRET99")).isFalse();
+
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void legacyCodesAreRejectedWithoutHashingByDefault() {
+        assertThat(service.verifyBackupCode("1", "OLDCODE1")).isFalse();
+
+        verify(backupCodeRepository, never()).findByUserAndLookupPrefixIsNullAndUsedFalse(any());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void legacyCodesAreScannedWhenTheFallbackIsEnabled() {
+        ReflectionTestUtils.setField(service, "legacyVerificationEnabled", true);
+        when(backupCodeRepository.findByUserAndLookupPrefixIsNullAndUsedFalse(user))
+                .thenReturn(List.of(code(null, "OLDCODE0"), code(null, "OLDCODE1"), code(null, "OLDCODE2")));
+
+        assertThat(service.consumeBackupCode("1", "OLDCODE1")).isTrue();
+        assertThat(service.verifyBackupCode("1", "NOTACODE")).isFalse();
+
+        verify(backupCodeRepository).save(any(BackupCode.class));
+    }
+
+    @Test
+    void generatedCodesCarryUniquePrefixes() {
+        List<String> codes = service.generateBackupCodes(10, 8);
+
+        assertThat(codes).hasSize(10).allMatch(code -> code.matches("[A-Z0-9]{4}-[A-Z0-9]{8}"));
+        assertThat(codes.stream().map(code -> code.substring(0, 4)).distinct()).hasSize(10);
+    }
+
+    private BackupCode code(String prefix, String secret) {
+        return BackupCode.builder()
+                .user(user)
+                .lookupPrefix(prefix)
+                .code(new BCryptPasswordEncoder(4).encode(secret))
+                .used(false)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.synergyhub.service.search;
+
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.dto.response.SearchResponse;
+import com.synergyhub.security.OrganizationContext;
+import com.synergyhub.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * The FULLTEXT queries need MySQL, so these tests check what SearchService sends to the database: every
+ * query is scoped to the current organization and to the caller's project (and channel) memberships.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    private static final long ORG_ID = 7L;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private SearchService searchService;
+    private User user;
+
+    // SQL and parameters of every query, in execution order
+    private final Map<String, SqlParameterSource> executed = new LinkedHashMap<>();
+    private final List<Double> scores = new ArrayList<>(List.of(0.5, 3.0, 1.0, 2.0));
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(jdbcTemplate);
+        user = TestDataFactory.createUser(42L, "searcher@example.com", "Searcher");
+        OrganizationContext.setcurrentOrgId(ORG_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrganizationContext.clear();
+    }
+
+    @Test
+    void scopesEveryQueryToTheOrganizationAndTheCallersMemberships() throws Exception {
+        stubQueries();
+
+        searchService.search("+deploy -script", Set.of(), 20, user);
+
+        assertThat(executed).hasSize(4);
+        executed.forEach((sql, params) -> {
+            assertThat(sql).contains("organization_id = :orgId")
+                    .contains("SELECT pm.project_id FROM project_members pm WHERE pm.user_id = :userId");
+            assertThat(params.getValue("orgId")).isEqualTo(ORG_ID);
+            assertThat(params.getValue("userId")).isEqualTo(42L);
+            assertThat(params.getValue("query")).isEqualTo("+deploy* +script*");
+        });
+        String chat = executed.keySet().stream().filter(sql -> sql.contains("FROM chat_messages")).findFirst().orElseThrow();
+        // Messages are visible through channel membership or through the channel's (or its task's) project
+        assertThat(chat).contains("ch.channel_id IN (SELECT cm.channel_id FROM channel_members cm WHERE cm.user_id = :userId)")
+                .contains("OR ch.project_id IN (SELECT pm.project_id")
+                .contains("OR t.project_id IN (SELECT pm.project_id");
+    }
+
+    @Test
+    void searchesOnlyTheRequestedTypes() throws Exception {
+        stubQueries();
+
+        searchService.search("deploy", EnumSet.of(SearchResponse.Type.COMMENT, SearchResponse.Type.PROJECT), 20, user);
+
+        assertThat(executed.keySet()).hasSize(2)
+                .anyMatch(sql -> sql.contains("FROM comments c"))
+                .anyMatch(sql -> sql.contains("FROM projects p WHERE"));
+    }
+
+    @Test
+    void mergesTypesByScoreAndAppliesTheOverallLimit() throws Exception {
+        stubQueries();
+
+        SearchResponse response = searchService.search("deploy", Set.of(), 3, user);
+
+        assertThat(response.getResults()).extracting(SearchResponse.Hit::getScore).containsExactly(3.0, 2.0, 1.0);
+        assertThat(response.getTerms()).containsExactly("deploy");
+    }
+
+    @Test
+    void doesNotQueryWithoutUsableTerms() {
+        SearchResponse response = searchService.search("a + *", Set.of(), 20, user);
+
+        assertThat(response.getResults()).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Records each query and maps one row for it, with the next score from {@link #scores}.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubQueries() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        // Each result type reads a different subset of the columns
+        lenient().when(row.getString(anyString())).thenReturn("deploy notes");
+        lenient().when(row.getLong(anyString())).thenReturn(1L);
+        lenient().when(row.getObject(anyString())).thenReturn(1L);
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    executed.put(invocation.getArgument(0), invocation.getArgument(1));
+                    when(row.getDouble("score")).thenReturn(scores.remove(0));
+                    return List.of(((RowMapper<SearchResponse.Hit>) invocation.getArgument(2)).mapRow(row, 0));
+                });
+    }
+}
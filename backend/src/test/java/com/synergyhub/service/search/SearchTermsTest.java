@@ -0,0 +1,75 @@
+package com.synergyhub.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTermsTest {
+
+    @Test
+    void stripsBooleanModeOperators() {
+        SearchTerms terms = SearchTerms.parse("+login -bug \"exact phrase\"");
+
+        assertThat(terms.getTerms())
+                .containsExactly("login", "bug", "exact", "phrase");
+        assertThat(terms.toBooleanQuery()).isEqualTo("+login* +bug* +exact* +phrase*");
+        assertThat(SearchTerms.parse("deploy* (group) ~less <low >high @distance").toBooleanQuery())
+                .isEqualTo("+deploy* +group* +less* +low* +high* +distance*");
+    }
+
+    @Test
+    void operatorsAloneLeaveNothingToSearch() {
+        assertThat(SearchTerms.parse("+-\"*()~<>@").isEmpty()).isTrue();
+        assertThat(SearchTerms.parse("   ").isEmpty()).isTrue();
+        assertThat(SearchTerms.parse(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void keepsDistinctLowerCaseTermsLongEnoughForTheIndex() {
+        SearchTerms terms = SearchTerms.parse("Fix UI of the Login page, login PAGE 42 x1 Überprüfung");
+
+        assertThat(terms.getTerms()).containsExactly("fix", "the", "login", "page", "überprüfung");
+    }
+
+    @Test
+    void capsTheNumberOfTerms() {
+        SearchTerms terms = SearchTerms.parse("one two three four five six seven eight nine ten");
+
+        assertThat(terms.getTerms()).hasSize(SearchTerms.MAX_TERMS).endsWith("eight");
+    }
+
+    @Test
+    void marksWordsStartingWithATermAndEscapesTheRest() {
+        SearchTerms terms = SearchTerms.parse("deploy script");
+
+        assertThat(terms.highlight("<b>Deployment</b> & redeploy via scripts"))
+                .isEqualTo("&lt;b&gt;<mark>Deployment</mark>&lt;/b&gt; &amp; redeploy via <mark>scripts</mark>");
+    }
+
+    @Test
+    void escapesMarkupInsideMatches() {
+        SearchTerms terms = SearchTerms.parse("alert");
+
+        assertThat(terms.highlight("alert<script>")).isEqualTo("<mark>alert</mark>&lt;script&gt;");
+        assertThat(terms.highlight("\"alert\" 'x'")).isEqualTo("&quot;<mark>alert</mark>&quot; &#39;x&#39;");
+    }
+
+    @Test
+    void cutsAWindowAroundTheFirstMatch() {
+        SearchTerms terms = SearchTerms.parse("needle");
+        String text = "a".repeat(300) + " needle " + "b".repeat(300);
+
+        String highlight = terms.highlight(text);
+
+        assertThat(highlight).startsWith("…").endsWith("…").contains("<mark>needle</mark>");
+        assertThat(highlight.replace("<mark>", "").replace("</mark>", "")).hasSize(160 + 2);
+    }
+
+    @Test
+    void fallsBackToTheStartWithoutAMatch() {
+        SearchTerms terms = SearchTerms.parse("missing");
+
+        assertThat(terms.highlight("nothing <here>")).isEqualTo("nothing &lt;here&gt;");
+        assertThat(terms.highlight(null)).isEmpty();
+    }
+}
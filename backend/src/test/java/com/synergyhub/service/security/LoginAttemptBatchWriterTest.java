@@ -0,0 +1,81 @@
+package com.synergyhub.service.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptBatchWriterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE login_attempts (attempt_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "email VARCHAR(100), ip_address VARCHAR(45), success BOOLEAN, attempted_at TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void persistsQueuedAttemptsInBatches() {
+        LoginAttemptBatchWriter writer = new LoginAttemptBatchWriter(jdbcTemplate, 100, 3);
+        for (int i = 0; i < 7; i++) {
+            assertThat(writer.enqueue("user" + i + "@example.com", "198.51.100.7", i % 2 == 0)).isTrue();
+        }
+
+        assertThat(rows()).isZero();
+        writer.flush();
+
+        assertThat(rows()).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_attempts WHERE success", Integer.class))
+                .isEqualTo(4);
+        assertThat(writer.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void shedsAttemptsWhenTheQueueIsFull() {
+        LoginAttemptBatchWriter writer = new LoginAttemptBatchWriter(jdbcTemplate, 2, 10);
+
+        assertThat(writer.enqueue("a@example.com", null, false)).isTrue();
+        assertThat(writer.enqueue("b@example.com", null, false)).isTrue();
+        assertThat(writer.enqueue("c@example.com", null, false)).isFalse();
+        assertThat(writer.enqueue("d@example.com", null, false)).isFalse();
+
+        assertThat(writer.getDroppedCount()).isEqualTo(2);
+        writer.flushOnShutdown();
+        assertThat(rows()).isEqualTo(2);
+        assertThat(writer.enqueue("e@example.com", null, false)).isTrue();
+    }
+
+    @Test
+    void aFailedBatchDoesNotBlockTheRest() {
+        LoginAttemptBatchWriter writer = new LoginAttemptBatchWriter(jdbcTemplate, 100, 2);
+        writer.enqueue("a@example.com", null, false);
+        // Longer than the column, so the first batch fails
+        writer.enqueue("x".repeat(200), null, false);
+        writer.enqueue("c@example.com", null, false);
+
+        writer.flush();
+
+        assertThat(jdbcTemplate.queryForList("SELECT email FROM login_attempts", String.class))
+                .contains("c@example.com")
+                .doesNotContain("x".repeat(200));
+        assertThat(writer.getQueuedCount()).isZero();
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_attempts", Integer.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.synergyhub.service.security;
+
+import com.synergyhub.repository.LoginAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptServiceTest {
+
+    @Mock
+    private LoginAttemptRepository loginAttemptRepository;
+
+    @Mock
+    private LoginAttemptBatchWriter loginAttemptBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptService(loginAttemptRepository, loginAttemptBatchWriter, eventPublisher,
+                60, 1000);
+    }
+
+    @Test
+    void countsRecentFailuresInMemory() {
+        loginAttemptService.recordLoginAttempt("Alice@Example.com", "198.51.100.7", false);
+        loginAttemptService.recordLoginAttempt("alice@example.com", "198.51.100.8", false);
+        loginAttemptService.recordLoginAttempt("alice@example.com", "198.51.100.7", true);
+        loginAttemptService.recordLoginAttempt("bob@example.com", "198.51.100.7", false);
+
+        // Emails are matched case-insensitively; successes do not count
+        assertThat(loginAttemptService.countRecentFailedAttempts("ALICE@example.com", 15)).isEqualTo(2);
+        assertThat(loginAttemptService.countRecentFailedAttemptsByIp("198.51.100.7", 60)).isEqualTo(2);
+        assertThat(loginAttemptService.countRecentFailedAttemptsByIp("198.51.100.8", 1)).isEqualTo(1);
+        assertThat(loginAttemptService.countRecentFailedAttempts("carol@example.com", 15)).isZero();
+        // Each window is seeded once; after that nothing is counted in the database
+        verify(loginAttemptRepository).findFailedAttemptTimesByEmail(eq("alice@example.com"), any());
+        verify(loginAttemptRepository, never()).countFailedAttemptsByEmail(any(), any());
+        verify(loginAttemptRepository, never()).countFailedAttemptsByIpAddress(any(), any());
+    }
+
+    @Test
+    void persistsEveryAttemptThroughTheBatchWriter() {
+        loginAttemptService.recordLoginAttempt("alice@example.com", "198.51.100.7", false);
+        loginAttemptService.recordLoginAttempt("alice@example.com", null, true);
+        loginAttemptService.recordLoginAttempt(null, "198.51.100.7", false);
+
+        verify(loginAttemptBatchWriter).enqueue("alice@example.com", "198.51.100.7", false);
+        verify(loginAttemptBatchWriter).enqueue("alice@example.com", null, true);
+        verify(loginAttemptBatchWriter, times(2)).enqueue(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void seedsNewWindowsFromPersistedFailures() {
+        LocalDateTime now = LocalDateTime.now();
+        when(loginAttemptRepository.findFailedAttemptTimesByEmail(eq("alice@example.com"), any()))
+                .thenReturn(List.of(now.minusMinutes(5), now.minusMinutes(30)));
+        when(loginAttemptRepository.findFailedAttemptTimesByIpAddress(eq("198.51.100.7"), any()))
+                .thenReturn(List.of(now.minusMinutes(1), now.minusMinutes(2), now.minusMinutes(50)));
+
+        // As after a restart: nothing recorded on this node yet
+        assertThat(loginAttemptService.countRecentFailedAttempts("Alice@example.com", 15)).isEqualTo(1);
+        assertThat(loginAttemptService.countRecentFailedAttempts("alice@example.com", 60)).isEqualTo(2);
+        assertThat(loginAttemptService.countRecentFailedAttemptsByIp("198.51.100.7", 60)).isEqualTo(3);
+
+        loginAttemptService.recordLoginAttempt("ALICE@example.com", "198.51.100.7", false);
+
+        assertThat(loginAttemptService.countRecentFailedAttempts("alice@example.com", 60)).isEqualTo(3);
+        assertThat(loginAttemptService.countRecentFailedAttemptsByIp("198.51.100.7", 60)).isEqualTo(4);
+        verify(loginAttemptRepository, times(1)).findFailedAttemptTimesByEmail(any(), any());
+        verify(loginAttemptBatchWriter).enqueue("alice@example.com", "198.51.100.7", false);
+    }
+
+    @Test
+    void windowsPastTheTrackedHorizonAreCountedInTheDatabase() {
+        loginAttemptService.recordLoginAttempt("alice@example.com", "198.51.100.7", false);
+        when(loginAttemptRepository.countFailedAttemptsByEmail(eq("alice@example.com"), any())).thenReturn(9L);
+        when(loginAttemptRepository.countFailedAttemptsByIpAddress(eq("198.51.100.7"), any())).thenReturn(4L);
+
+        // The database sees the same lower-cased email as the in-memory windows
+        assertThat(loginAttemptService.countRecentFailedAttempts("Alice@Example.com", 24 * 60)).isEqualTo(9);
+        assertThat(loginAttemptService.countRecentFailedAttemptsByIp("198.51.100.7", 24 * 60)).isEqualTo(4);
+    }
+}
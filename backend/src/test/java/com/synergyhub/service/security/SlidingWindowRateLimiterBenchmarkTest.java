@@ -0,0 +1,58 @@
+package com.synergyhub.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the cost of a rate-limit check with 1k, 10k and 100k tracked keys. A check hashes to one shard
+ * and does a map lookup there, so the work per check does not grow with the key count (only CPU cache
+ * misses do, once the key set outgrows the cache); the assertions check the bookkeeping, the timings are logged.
+ */
+@Slf4j
+@Tag("benchmark")
+class SlidingWindowRateLimiterBenchmarkTest {
+
+    private static final int PERMITS = 1_000;
+    private static final long WINDOW_MS = 60_000;
+    private static final int CHECKS = 1_000_000;
+
+    @Test
+    void checksStayConstantTimeUpToOneHundredThousandKeys() {
+        for (int keys : new int[]{1_000, 10_000, 100_000}) {
+            SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(64, 1_000_000, SlidingWindowRateLimiter.OverflowPolicy.REJECT);
+            String[] keySet = new String[keys];
+            for (int i = 0; i < keys; i++) {
+                keySet[i] = "ip:10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+                limiter.record(keySet[i], WINDOW_MS);
+            }
+            assertThat(limiter.size()).isEqualTo(keys);
+
+            // Warm up, then measure random checks across the whole key set
+            runChecks(limiter, keySet, CHECKS / 10);
+            long start = System.nanoTime();
+            int allowed = runChecks(limiter, keySet, CHECKS);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            assertThat(allowed).isEqualTo(CHECKS);
+            assertThat(limiter.size()).isEqualTo(keys);
+            log.info("Rate limiter with {} keys: {} checks in {}ms ({}ns each)",
+                    keys, CHECKS, String.format("%.1f", millis), Math.round(millis * 1e6 / CHECKS));
+        }
+    }
+
+    private static int runChecks(SlidingWindowRateLimiter limiter, String[] keys, int checks) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int allowed = 0;
+        for (int i = 0; i < checks; i++) {
+            if (!limiter.isLimited(keys[random.nextInt(keys.length)], PERMITS, WINDOW_MS)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,191 @@
+package com.synergyhub.service.security;
+
+import com.synergyhub.service.security.SlidingWindowRateLimiter.OverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final int PERMITS = 10;
+    private static final long WINDOW_MS = 1_000;
+    // Rotation interval for windows this short
+    private static final long GENERATION_MS = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    // A single shard makes rotation deterministic: every call below sees the same generations
+    private final SlidingWindowRateLimiter limiter =
+            new SlidingWindowRateLimiter(1, 1_000, OverflowPolicy.REJECT, now::get);
+
+    @Test
+    void weightsThePreviousWindowByItsRemainingOverlap() {
+        assertThat(acquire("ip", PERMITS)).isEqualTo(PERMITS);
+        assertThat(limiter.tryAcquire("ip", PERMITS, WINDOW_MS)).isFalse();
+
+        // Start of the next window: the previous one still overlaps completely
+        now.addAndGet(WINDOW_MS);
+        assertThat(limiter.isLimited("ip", PERMITS, WINDOW_MS)).isTrue();
+
+        // Halfway through: half of the previous count is left
+        now.addAndGet(WINDOW_MS / 2);
+        assertThat(acquire("ip", PERMITS)).isEqualTo(PERMITS / 2);
+
+        // Next window: the 5 just taken fully overlap again
+        now.addAndGet(WINDOW_MS / 2);
+        assertThat(acquire("ip", PERMITS)).isEqualTo(PERMITS - PERMITS / 2);
+
+        // A whole idle window in between: nothing carries over
+        now.addAndGet(2 * WINDOW_MS);
+        assertThat(acquire("ip", PERMITS)).isEqualTo(PERMITS);
+    }
+
+    @Test
+    void retryAfterIsTheTimeUntilThePreviousWindowLetsAPermitThrough() {
+        acquire("ip", PERMITS);
+
+        // Over the limit on the current count alone: the next window, plus 1ms of decay of the carried-over 10
+        assertThat(limiter.retryAfterMs("ip", PERMITS, WINDOW_MS)).isEqualTo(WINDOW_MS + 1);
+        now.addAndGet(250);
+        long retryAfter = limiter.retryAfterMs("ip", PERMITS, WINDOW_MS);
+        assertThat(retryAfter).isEqualTo(WINDOW_MS - 250 + 1);
+        now.addAndGet(retryAfter - 1);
+        assertThat(limiter.isLimited("ip", PERMITS, WINDOW_MS)).isTrue();
+        now.incrementAndGet();
+        assertThat(limiter.retryAfterMs("ip", PERMITS, WINDOW_MS)).isZero();
+
+        // Halfway through, 5 more fill the window again; the previous window's share drops below 5 right after
+        now.addAndGet(WINDOW_MS / 2 - 1);
+        assertThat(acquire("ip", PERMITS)).isEqualTo(PERMITS / 2);
+        assertThat(limiter.retryAfterMs("ip", PERMITS, WINDOW_MS)).isEqualTo(1);
+        now.incrementAndGet();
+        assertThat(limiter.tryAcquire("ip", PERMITS, WINDOW_MS)).isTrue();
+    }
+
+    @Test
+    void resetClearsAKeyOverItsLimit() {
+        acquire("login:alice", PERMITS);
+        assertThat(limiter.isLimited("login:alice", PERMITS, WINDOW_MS)).isTrue();
+
+        limiter.reset("login:alice");
+
+        assertThat(limiter.isLimited("login:alice", PERMITS, WINDOW_MS)).isFalse();
+        assertThat(limiter.tryAcquire("login:alice", PERMITS, WINDOW_MS)).isTrue();
+    }
+
+    @Test
+    void keysAreCountedIndependently() {
+        acquire("a", PERMITS);
+        limiter.record("b", WINDOW_MS);
+
+        assertThat(limiter.isLimited("a", PERMITS, WINDOW_MS)).isTrue();
+        assertThat(limiter.isLimited("b", PERMITS, WINDOW_MS)).isFalse();
+        assertThat(limiter.isLimited("c", PERMITS, WINDOW_MS)).isFalse();
+        // Checking an unseen key does not start tracking it
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void idleKeysExpireWithTheirGeneration() {
+        limiter.tryAcquire("active", PERMITS, WINDOW_MS);
+        limiter.tryAcquire("idle", PERMITS, WINDOW_MS);
+
+        // First rotation: both move to the old generation; touching one brings it back
+        now.addAndGet(GENERATION_MS);
+        limiter.tryAcquire("active", PERMITS, WINDOW_MS);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // Second rotation: the key untouched for a whole generation is dropped
+        now.addAndGet(GENERATION_MS);
+        limiter.tryAcquire("new", PERMITS, WINDOW_MS);
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.isLimited("idle", 1, WINDOW_MS)).isFalse();
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // Idle for more than two generations: everything is dropped at once
+        now.addAndGet(3 * GENERATION_MS);
+        limiter.tryAcquire("last", PERMITS, WINDOW_MS);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void longerWindowsStretchTheGeneration() {
+        long hour = 3_600_000;
+        acquire("export", PERMITS, hour);
+
+        // Well past the default generation, but still inside the hour-long window
+        now.addAndGet(3 * GENERATION_MS);
+        assertThat(limiter.isLimited("export", PERMITS, hour)).isTrue();
+    }
+
+    @Test
+    void aLongWindowDoesNotKeepShortWindowKeysAlive() {
+        long hour = 3_600_000;
+        limiter.tryAcquire("export", PERMITS, hour);
+        limiter.tryAcquire("login", PERMITS, WINDOW_MS);
+
+        // Two short-window generations later the short key is gone, the hour-long one is still counted
+        now.addAndGet(2 * GENERATION_MS);
+        limiter.tryAcquire("other-login", PERMITS, WINDOW_MS);
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.isLimited("export", 1, hour)).isTrue();
+    }
+
+    @Test
+    void aFullStoreRejectsUnseenKeysButKeepsCountingTrackedOnes() {
+        SlidingWindowRateLimiter small = new SlidingWindowRateLimiter(1, 2, OverflowPolicy.REJECT, now::get);
+        small.tryAcquire("a", PERMITS, WINDOW_MS);
+        small.record("b", WINDOW_MS);
+
+        assertThat(small.tryAcquire("c", PERMITS, WINDOW_MS)).isFalse();
+        assertThat(small.isLimited("d", PERMITS, WINDOW_MS)).isTrue();
+        small.record("e", WINDOW_MS);
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.overflows()).isEqualTo(3);
+        assertThat(small.tryAcquire("a", PERMITS, WINDOW_MS)).isTrue();
+
+        // Once the idle keys expire there is room again
+        now.addAndGet(3 * GENERATION_MS);
+        assertThat(small.tryAcquire("c", PERMITS, WINDOW_MS)).isTrue();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    void aFullStoreCanFailOpen() {
+        SlidingWindowRateLimiter small = new SlidingWindowRateLimiter(1, 1, OverflowPolicy.ALLOW, now::get);
+        small.tryAcquire("a", PERMITS, WINDOW_MS);
+
+        for (int i = 0; i < 2 * PERMITS; i++) {
+            assertThat(small.tryAcquire("b", PERMITS, WINDOW_MS)).isTrue();
+        }
+        assertThat(small.isLimited("b", PERMITS, WINDOW_MS)).isFalse();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resetFreesTheKeysSlot() {
+        SlidingWindowRateLimiter small = new SlidingWindowRateLimiter(1, 1, OverflowPolicy.REJECT, now::get);
+        small.tryAcquire("a", PERMITS, WINDOW_MS);
+
+        small.reset("a");
+
+        assertThat(small.size()).isZero();
+        assertThat(small.tryAcquire("b", PERMITS, WINDOW_MS)).isTrue();
+    }
+
+    private int acquire(String key, int attempts) {
+        return acquire(key, attempts, WINDOW_MS);
+    }
+
+    private int acquire(String key, int attempts, long windowMs) {
+        int acquired = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire(key, PERMITS, windowMs)) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+}
@@ -0,0 +1,297 @@
+package com.synergyhub.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.domain.enums.TaskType;
+import com.synergyhub.dto.request.BulkTaskRequest;
+import com.synergyhub.dto.response.BulkTaskResponse;
+import com.synergyhub.events.task.TaskBulkUpdatedEvent;
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.exception.UnauthorizedException;
+import com.synergyhub.security.OrganizationContext;
+import com.synergyhub.security.ProjectSecurity;
+import com.synergyhub.util.PersistedTestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "app.tasks.bulk.max-tasks=4"
+})
+@Import({TaskBulkService.class, TaskCounterService.class, TaskHierarchyService.class})
+@RecordApplicationEvents
+class TaskBulkServiceTest {
+
+    @MockBean
+    private ProjectSecurity projectSecurity;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long orgId;
+    private User reporter;
+    private Project apollo;
+    private Project zeus;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        apollo = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+        zeus = PersistedTestDataFactory.createProject(entityManager, organization, "Zeus");
+        orgId = organization.getId();
+        OrganizationContext.setcurrentOrgId(orgId);
+        when(projectSecurity.hasProjectAccess(anyLong(), anyLong(), eq(orgId))).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        OrganizationContext.clear();
+    }
+
+    @Test
+    void checksAccessOncePerProject() {
+        List<Task> tasks = List.of(task(apollo, "A1", null, TaskStatus.TO_DO), task(apollo, "A2", null, TaskStatus.TO_DO),
+                task(apollo, "A3", null, TaskStatus.TO_DO), task(zeus, "Z1", null, TaskStatus.TO_DO));
+        when(projectSecurity.hasProjectAccess(zeus.getId(), reporter.getId(), orgId)).thenReturn(false);
+
+        assertThatThrownBy(() -> taskBulkService.apply(ids(tasks, BulkTaskRequest.Operation.SET_STATUS)
+                .status(TaskStatus.DONE).build(), reporter, "127.0.0.1"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining(String.valueOf(zeus.getId()));
+
+        verify(projectSecurity).hasProjectAccess(apollo.getId(), reporter.getId(), orgId);
+        verify(projectSecurity).hasProjectAccess(zeus.getId(), reporter.getId(), orgId);
+        assertThat(statusOf(tasks.get(0))).isEqualTo("TO_DO");
+        assertThat(events.stream(TaskBulkUpdatedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void requiresExactlyOneOfTaskIdsAndFilter() {
+        Task task = task(apollo, "A1", null, TaskStatus.TO_DO);
+        BulkTaskRequest.Filter filter = BulkTaskRequest.Filter.builder().projectId(apollo.getId()).build();
+
+        assertThatThrownBy(() -> taskBulkService.apply(BulkTaskRequest.builder()
+                .operation(BulkTaskRequest.Operation.UNASSIGN).taskIds(Set.of(task.getId())).filter(filter).build(),
+                reporter, "127.0.0.1"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> taskBulkService.apply(BulkTaskRequest.builder()
+                .operation(BulkTaskRequest.Operation.UNASSIGN).taskIds(Set.of()).build(), reporter, "127.0.0.1"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsMoreTasksThanTheCap() {
+        List<Task> tasks = List.of(task(apollo, "A1", null, TaskStatus.TO_DO), task(apollo, "A2", null, TaskStatus.TO_DO),
+                task(apollo, "A3", null, TaskStatus.TO_DO), task(apollo, "A4", null, TaskStatus.TO_DO),
+                task(apollo, "A5", null, TaskStatus.TO_DO));
+
+        assertThatThrownBy(() -> taskBulkService.apply(ids(tasks, BulkTaskRequest.Operation.UNASSIGN).build(),
+                reporter, "127.0.0.1"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("At most 4");
+        assertThatThrownBy(() -> taskBulkService.apply(BulkTaskRequest.builder()
+                .operation(BulkTaskRequest.Operation.UNASSIGN)
+                .filter(BulkTaskRequest.Filter.builder().projectId(apollo.getId()).build())
+                .build(), reporter, "127.0.0.1"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("narrow it down");
+    }
+
+    @Test
+    void addsOnlyTheMissingLabelsOnce() {
+        Task partial = task(apollo, "Partial", null, TaskStatus.TO_DO);
+        Task bare = task(apollo, "Bare", null, TaskStatus.TO_DO);
+        Task complete = task(apollo, "Complete", null, TaskStatus.TO_DO);
+        label(partial, "backend");
+        label(complete, "backend");
+        label(complete, "ui");
+
+        BulkTaskResponse response = taskBulkService.apply(ids(List.of(partial, bare, complete),
+                BulkTaskRequest.Operation.ADD_LABELS).labels(List.of("backend", "ui", " ui ")).build(), reporter, "127.0.0.1");
+
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        assertThat(response.getSkippedCount()).isEqualTo(1);
+        for (Task task : List.of(partial, bare, complete)) {
+            assertThat(jdbcTemplate.queryForList("SELECT label FROM task_labels WHERE task_id = ?", String.class,
+                    task.getId())).containsExactlyInAnyOrder("backend", "ui");
+        }
+    }
+
+    @Test
+    void adjustsTheParentCountersOnStatusChangesAndMovesToTheBacklog() {
+        Task story = task(apollo, "Story", null, TaskStatus.IN_PROGRESS);
+        Task done = task(apollo, "Done", story, TaskStatus.DONE);
+        Task open = task(apollo, "Open", story, TaskStatus.TO_DO);
+        task(apollo, "Untouched", story, TaskStatus.TO_DO);
+        jdbcTemplate.update("UPDATE tasks SET subtask_count = 3, completed_subtask_count = 1 WHERE task_id = ?", story.getId());
+
+        BulkTaskResponse response = taskBulkService.apply(ids(List.of(done, open), BulkTaskRequest.Operation.SET_STATUS)
+                .status(TaskStatus.DONE).build(), reporter, "127.0.0.1");
+
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        assertThat(completedSubtasks(story)).isEqualTo(2);
+
+        taskBulkService.apply(ids(List.of(done, open), BulkTaskRequest.Operation.MOVE_TO_SPRINT).build(),
+                reporter, "127.0.0.1");
+
+        assertThat(statusOf(done)).isEqualTo("BACKLOG");
+        assertThat(completedSubtasks(story)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT subtask_count FROM tasks WHERE task_id = ?", Integer.class,
+                story.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void assignRequiresAnAssigneeAndUnassignIsExplicit() {
+        Task assigned = task(apollo, "Assigned", null, TaskStatus.TO_DO);
+        jdbcTemplate.update("UPDATE tasks SET assignee_id = ? WHERE task_id = ?", reporter.getId(), assigned.getId());
+
+        assertThatThrownBy(() -> taskBulkService.apply(ids(List.of(assigned), BulkTaskRequest.Operation.ASSIGN).build(),
+                reporter, "127.0.0.1"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("assigneeId");
+        assertThat(assigneeOf(assigned)).isEqualTo(reporter.getId());
+
+        taskBulkService.apply(ids(List.of(assigned), BulkTaskRequest.Operation.UNASSIGN).build(), reporter, "127.0.0.1");
+
+        assertThat(assigneeOf(assigned)).isNull();
+    }
+
+    @Test
+    void repeatedIdsCountOnce() throws Exception {
+        Task first = task(apollo, "A1", null, TaskStatus.TO_DO);
+        Task second = task(apollo, "A2", null, TaskStatus.TO_DO);
+        List<Task> capped = List.of(task(apollo, "A3", null, TaskStatus.TO_DO), task(apollo, "A4", null, TaskStatus.TO_DO));
+        BulkTaskRequest request = new ObjectMapper().readValue(String.format(
+                "{\"operation\": \"SET_PRIORITY\", \"priority\": \"HIGH\", \"taskIds\": [%d, %d, %d, %d, %d, %d]}",
+                first.getId(), second.getId(), first.getId(), capped.get(0).getId(), capped.get(1).getId(), second.getId()),
+                BulkTaskRequest.class);
+
+        BulkTaskResponse response = taskBulkService.apply(request, reporter, "127.0.0.1");
+
+        assertThat(response.getMatchedCount()).isEqualTo(4);
+        assertThat(response.getUpdatedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void storiesHandTheirAssigneeDownToTheirTasks() {
+        Task story = entityManager.persist(Task.builder()
+                .title("Story")
+                .type(TaskType.STORY)
+                .project(apollo)
+                .reporter(reporter)
+                .status(TaskStatus.TO_DO)
+                .build());
+        taskHierarchyService.taskCreated(story);
+        Task child = task(apollo, "Child", story, TaskStatus.TO_DO);
+        Task loose = task(apollo, "Loose", null, TaskStatus.TO_DO);
+
+        taskBulkService.apply(ids(List.of(story, loose), BulkTaskRequest.Operation.ASSIGN)
+                .assigneeId(reporter.getId()).build(), reporter, "127.0.0.1");
+
+        assertThat(assigneeOf(child)).isEqualTo(reporter.getId());
+        assertThat(assigneeOf(loose)).isEqualTo(reporter.getId());
+
+        taskBulkService.apply(ids(List.of(story), BulkTaskRequest.Operation.UNASSIGN).build(), reporter, "127.0.0.1");
+
+        assertThat(assigneeOf(story)).isNull();
+        assertThat(assigneeOf(child)).isNull();
+        assertThat(assigneeOf(loose)).isEqualTo(reporter.getId());
+    }
+
+    @Test
+    void publishesOneEventForTheWholeBatch() {
+        List<Task> tasks = List.of(task(apollo, "A1", null, TaskStatus.TO_DO), task(apollo, "A2", null, TaskStatus.DONE),
+                task(zeus, "Z1", null, TaskStatus.TO_DO));
+
+        BulkTaskResponse response = taskBulkService.apply(ids(tasks, BulkTaskRequest.Operation.ASSIGN)
+                .assigneeId(reporter.getId()).build(), reporter, "127.0.0.1");
+
+        // DONE tasks keep their assignee
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        assertThat(events.stream(TaskBulkUpdatedEvent.class)).singleElement().satisfies(event -> {
+            assertThat(event.getOperation()).isEqualTo("ASSIGN");
+            assertThat(event.getProjectIds()).containsExactly(apollo.getId(), zeus.getId());
+            assertThat(event.getMatchedCount()).isEqualTo(3);
+            assertThat(event.getUpdatedCount()).isEqualTo(2);
+            assertThat(event.getChanges()).isEqualTo("assigned to reporter");
+        });
+    }
+
+    private Task task(Project project, String title, Task parent, TaskStatus status) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .type(TaskType.TASK)
+                .project(project)
+                .reporter(reporter)
+                .parentTask(parent)
+                .status(status)
+                .build());
+        taskHierarchyService.taskCreated(task);
+        entityManager.flush();
+        return task;
+    }
+
+    private void label(Task task, String label) {
+        jdbcTemplate.update("INSERT INTO task_labels (task_id, label) VALUES (?, ?)", task.getId(), label);
+    }
+
+    private static BulkTaskRequest.BulkTaskRequestBuilder ids(List<Task> tasks, BulkTaskRequest.Operation operation) {
+        Set<Long> ids = new LinkedHashSet<>();
+        tasks.forEach(task -> ids.add(task.getId()));
+        return BulkTaskRequest.builder().operation(operation).taskIds(ids);
+    }
+
+    private String statusOf(Task task) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE task_id = ?", String.class, task.getId());
+    }
+
+    private Long assigneeOf(Task task) {
+        return jdbcTemplate.queryForObject("SELECT assignee_id FROM tasks WHERE task_id = ?", Long.class, task.getId());
+    }
+
+    private Integer completedSubtasks(Task task) {
+        return jdbcTemplate.queryForObject("SELECT completed_subtask_count FROM tasks WHERE task_id = ?", Integer.class,
+                task.getId());
+    }
+}
@@ -0,0 +1,71 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.util.PersistedTestDataFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(TaskCounterReconciliationJob.class)
+class TaskCounterReconciliationJobTest {
+
+    @Autowired
+    private TaskCounterReconciliationJob job;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repairsDriftedCountersOnce() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        User user = PersistedTestDataFactory.createUser(entityManager, "viewer@example.com");
+        Project project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+
+        // Written straight through the entity manager, so no counter is maintained
+        Task parent = entityManager.persist(task(project, user, "Parent", null, TaskStatus.IN_PROGRESS));
+        entityManager.persist(task(project, user, "Done", parent, TaskStatus.DONE));
+        entityManager.persist(task(project, user, "Open", parent, TaskStatus.TO_DO));
+        Task watched = entityManager.persist(task(project, user, "Review", parent, TaskStatus.IN_REVIEW));
+        entityManager.flush();
+        jdbcTemplate.update("INSERT INTO task_watchers (task_id, user_id) VALUES (?, ?)", watched.getId(), user.getId());
+
+        assertThat(job.reconcile()).isEqualTo(2);
+        assertThat(job.reconcile()).isZero();
+
+        Map<String, Object> counters = jdbcTemplate.queryForMap(
+                "SELECT subtask_count, completed_subtask_count FROM tasks WHERE task_id = ?", parent.getId());
+        assertThat(((Number) counters.get("subtask_count")).intValue()).isEqualTo(3);
+        assertThat(((Number) counters.get("completed_subtask_count")).intValue()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT watchers_count FROM tasks WHERE task_id = ?",
+                Integer.class, watched.getId())).isEqualTo(1);
+    }
+
+    private static Task task(Project project, User reporter, String title, Task parent, TaskStatus status) {
+        return Task.builder()
+                .title(title)
+                .project(project)
+                .reporter(reporter)
+                .parentTask(parent)
+                .status(status)
+                .build();
+    }
+}
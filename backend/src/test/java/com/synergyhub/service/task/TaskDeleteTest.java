@@ -0,0 +1,145 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskType;
+import com.synergyhub.dto.mapper.TaskMapper;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.security.ProjectAclIndex;
+import com.synergyhub.security.ProjectSecurity;
+import com.synergyhub.service.security.AuditLogService;
+import com.synergyhub.util.PersistedTestDataFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deleting a task removes its whole subtask subtree with set-based statements: only the root goes
+ * through the entity delete, and links, labels, watchers and hierarchy rows of the subtree go with it.
+ */
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskService.class, TaskHierarchyService.class, TaskCounterService.class})
+class TaskDeleteTest {
+
+    private static final int FAN_OUT = 4;
+    private static final int LEVELS = 4;
+
+    @MockBean
+    private TaskMapper taskMapper;
+    @MockBean
+    private AuditLogService auditLogService;
+    @MockBean
+    private ProjectAclIndex projectAclIndex;
+    @MockBean
+    private ProjectSecurity projectSecurity;
+    @MockBean
+    private TaskWatcherService taskWatcherService;
+    @MockBean
+    private TaskQueryCache taskQueryCache;
+    @MockBean
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletesTheSubtaskSubtreeWithoutLoadingIt() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        User user = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        Project project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+
+        Task unrelated = task(project, user, "Unrelated", TaskType.TASK, null, null);
+        Task story = task(project, user, "Story", TaskType.STORY, null, null);
+        List<Task> level = List.of(story);
+        List<Task> subtasks = new ArrayList<>();
+        for (int depth = 1; depth < LEVELS; depth++) {
+            List<Task> children = new ArrayList<>();
+            for (Task parent : level) {
+                for (int i = 0; i < FAN_OUT; i++) {
+                    children.add(task(project, user, parent.getTitle() + "." + i, TaskType.TASK, parent, null));
+                }
+            }
+            subtasks.addAll(children);
+            level = children;
+        }
+        Task deep = level.get(0);
+        // Outside the subtree but attached to it: an epic child of a subtask, and links in both directions
+        Task epicChild = task(project, user, "Epic child", TaskType.TASK, null, subtasks.get(0));
+        deep.getLinkedTasks().add(unrelated);
+        unrelated.getLinkedTasks().add(deep);
+        deep.getLabels().add("backend");
+        entityManager.flush();
+        taskRepository.addWatcher(deep.getId(), user.getId());
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        taskService.deleteTask(story.getId(), user);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isLessThan(subtasks.size());
+        assertThat(jdbcTemplate.queryForList("SELECT task_id FROM tasks", Long.class))
+                .containsExactlyInAnyOrder(unrelated.getId(), epicChild.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT epic_id FROM tasks WHERE task_id = ?", Long.class,
+                epicChild.getId())).isNull();
+        assertThat(count("task_links")).isZero();
+        assertThat(count("task_labels")).isZero();
+        assertThat(count("task_watchers")).isZero();
+        assertThat(count("task_hierarchy")).isEqualTo(2); // the survivors' own rows
+        assertThat(taskHierarchyService.findDescendantIds(List.of(unrelated.getId()))).isEmpty();
+    }
+
+    private Task task(Project project, User reporter, String title, TaskType type, Task parent, Task epic) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .type(type)
+                .project(project)
+                .reporter(reporter)
+                .parentTask(parent)
+                .epic(epic)
+                .build());
+        taskHierarchyService.taskCreated(task);
+        return task;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
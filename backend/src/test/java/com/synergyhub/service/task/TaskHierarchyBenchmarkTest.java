@@ -0,0 +1,131 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskType;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.util.PersistedTestDataFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds a 5-level hierarchy of ~10k tasks (13 epics, 5 children per task) through the closure-table
+ * maintenance path and reports the cost of the hierarchy queries on it. Every query below is a single
+ * indexed lookup, whatever the depth; the assertions check the answers, the timings are logged.
+ */
+@Slf4j
+@Tag("benchmark")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(TaskHierarchyService.class)
+class TaskHierarchyBenchmarkTest {
+
+    private static final int ROOTS = 13;
+    private static final int FAN_OUT = 5;
+    private static final int LEVELS = 5;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void hierarchyQueriesOnTenThousandTasks() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        User reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        Project project = PersistedTestDataFactory.createProject(entityManager, organization, "Hierarchy");
+        entityManager.flush();
+
+        long start = System.nanoTime();
+        List<List<Task>> levels = new ArrayList<>();
+        List<Task> level = new ArrayList<>();
+        for (int i = 0; i < ROOTS; i++) {
+            level.add(Task.builder().title("Epic " + i).type(TaskType.EPIC).project(project).reporter(reporter).build());
+        }
+        levels.add(taskRepository.saveAll(level));
+        for (int depth = 1; depth < LEVELS; depth++) {
+            List<Task> children = new ArrayList<>();
+            for (Task parent : levels.get(depth - 1)) {
+                for (int i = 0; i < FAN_OUT; i++) {
+                    Task.TaskBuilder child = Task.builder().title(parent.getTitle() + "." + i).project(project)
+                            .reporter(reporter).storyPoints(1);
+                    // Stories hang off their epic; everything below is a subtask
+                    children.add(depth == 1 ? child.type(TaskType.STORY).epic(parent).build()
+                            : child.type(TaskType.TASK).parentTask(parent).build());
+                }
+            }
+            levels.add(taskRepository.saveAll(children));
+        }
+        entityManager.flush();
+        int total = levels.stream().mapToInt(List::size).sum();
+        levels.forEach(tasks -> tasks.forEach(taskHierarchyService::taskCreated));
+        entityManager.flush();
+        entityManager.clear();
+        report("build", total, start);
+
+        Task root = levels.get(0).get(0);
+        Task leaf = levels.get(LEVELS - 1).get(0);
+        int subtreeSize = FAN_OUT + FAN_OUT * FAN_OUT + FAN_OUT * FAN_OUT * FAN_OUT + FAN_OUT * FAN_OUT * FAN_OUT * FAN_OUT;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(taskHierarchyService.findDescendantIds(List.of(root.getId()))).hasSize(subtreeSize);
+        }
+        report("descendants of an epic", ITERATIONS, start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(taskHierarchyService.wouldCreateCycle(root.getId(), leaf.getId())).isTrue();
+        }
+        report("ancestor check", ITERATIONS, start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(taskHierarchyService.getDepth(leaf.getId())).isEqualTo(LEVELS - 1);
+        }
+        report("depth", ITERATIONS, start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(taskHierarchyService.rollup(root.getId()).getTotalPoints()).isEqualTo(subtreeSize);
+        }
+        report("epic rollup", ITERATIONS, start);
+
+        // Re-parent a story with its 155 descendants under another epic
+        Task story = taskRepository.findById(levels.get(1).get(0).getId()).orElseThrow();
+        Task otherEpic = taskRepository.findById(levels.get(0).get(1).getId()).orElseThrow();
+        start = System.nanoTime();
+        story.setEpic(otherEpic);
+        taskRepository.save(story);
+        taskHierarchyService.parentChanged(story);
+        report("move a story subtree", 1, start);
+        assertThat(taskHierarchyService.findDescendantIds(List.of(otherEpic.getId())))
+                .hasSize(subtreeSize + 1 + FAN_OUT + FAN_OUT * FAN_OUT + FAN_OUT * FAN_OUT * FAN_OUT);
+    }
+
+    private static void report(String operation, int count, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        log.info("Hierarchy {}: {} in {}ms ({}ms each)", operation, count,
+                String.format("%.1f", millis), String.format("%.3f", millis / count));
+    }
+}
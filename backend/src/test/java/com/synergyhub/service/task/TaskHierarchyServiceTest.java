@@ -0,0 +1,143 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Sprint;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.domain.enums.TaskType;
+import com.synergyhub.repository.TaskRollup;
+import com.synergyhub.util.PersistedTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(TaskHierarchyService.class)
+class TaskHierarchyServiceTest {
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+    private User reporter;
+    private Task epic;
+    private Task story;
+    private Task subtask;
+    private Task nested;
+    private Task unrelated;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+
+        epic = task("Epic", TaskType.EPIC, null, null, TaskStatus.IN_PROGRESS, null);
+        story = task("Story", TaskType.STORY, null, epic, TaskStatus.IN_PROGRESS, 5);
+        subtask = task("Subtask", TaskType.TASK, story, null, TaskStatus.DONE, 3);
+        nested = task("Nested", TaskType.TASK, subtask, null, TaskStatus.TO_DO, 2);
+        unrelated = task("Unrelated", TaskType.TASK, null, null, TaskStatus.TO_DO, 8);
+        entityManager.flush();
+    }
+
+    @Test
+    void movesEpicChildrenAndSubtasksAtAnyDepth() {
+        Sprint sprint = entityManager.persist(Sprint.builder()
+                .project(project)
+                .name("Sprint 1")
+                .startDate(LocalDate.of(2026, 3, 2))
+                .endDate(LocalDate.of(2026, 3, 16))
+                .build());
+        entityManager.flush();
+
+        assertThat(taskHierarchyService.findDescendantIds(List.of(epic.getId())))
+                .containsExactlyInAnyOrder(story.getId(), subtask.getId(), nested.getId());
+        assertThat(taskHierarchyService.moveDescendantsToSprint(List.of(epic.getId()), sprint)).isEqualTo(3);
+
+        assertThat(sprintId(nested)).isEqualTo(sprint.getId());
+        assertThat(sprintId(epic)).isNull();
+        assertThat(sprintId(unrelated)).isNull();
+    }
+
+    @Test
+    void answersDepthAncestryAndRollupFromTheClosure() {
+        assertThat(taskHierarchyService.getDepth(epic.getId())).isZero();
+        assertThat(taskHierarchyService.getDepth(nested.getId())).isEqualTo(3);
+
+        assertThat(taskHierarchyService.wouldCreateCycle(story.getId(), nested.getId())).isTrue();
+        assertThat(taskHierarchyService.wouldCreateCycle(story.getId(), story.getId())).isTrue();
+        assertThat(taskHierarchyService.wouldCreateCycle(story.getId(), unrelated.getId())).isFalse();
+
+        TaskRollup rollup = taskHierarchyService.rollup(epic.getId());
+        assertThat(rollup.getTaskCount()).isEqualTo(3);
+        assertThat(rollup.getCompletedCount()).isEqualTo(1);
+        assertThat(rollup.getTotalPoints()).isEqualTo(10);
+        assertThat(rollup.getCompletedPoints()).isEqualTo(3);
+    }
+
+    @Test
+    void changingTheEpicMovesTheWholeSubtree() {
+        Task otherEpic = task("Other epic", TaskType.EPIC, null, null, TaskStatus.TO_DO, null);
+        story.setEpic(otherEpic);
+        entityManager.flush();
+        taskHierarchyService.parentChanged(story);
+
+        assertThat(taskHierarchyService.findDescendantIds(List.of(epic.getId()))).isEmpty();
+        assertThat(taskHierarchyService.findDescendantIds(List.of(otherEpic.getId())))
+                .containsExactlyInAnyOrder(story.getId(), subtask.getId(), nested.getId());
+        assertThat(taskHierarchyService.getDepth(nested.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void deletingDropsTheSubtaskSubtreeAndDetachesEpicChildren() {
+        Task epicSubtask = task("Epic subtask", TaskType.TASK, epic, null, TaskStatus.TO_DO, null);
+        entityManager.flush();
+
+        assertThat(taskHierarchyService.taskDeleting(story.getId())).containsExactly(nested.getId(), subtask.getId());
+        assertThat(taskHierarchyService.findDescendantIds(List.of(epic.getId()))).containsExactly(epicSubtask.getId());
+
+        assertThat(taskHierarchyService.taskDeleting(epic.getId())).containsExactly(epicSubtask.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_hierarchy", Integer.class))
+                .isEqualTo(1); // only unrelated's own row
+    }
+
+    private Task task(String title, TaskType type, Task parent, Task epic, TaskStatus status, Integer points) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .type(type)
+                .project(project)
+                .reporter(reporter)
+                .parentTask(parent)
+                .epic(epic)
+                .status(status)
+                .storyPoints(points)
+                .build());
+        taskHierarchyService.taskCreated(task);
+        return task;
+    }
+
+    private Long sprintId(Task task) {
+        return jdbcTemplate.queryForObject("SELECT sprint_id FROM tasks WHERE task_id = ?", Long.class, task.getId());
+    }
+}
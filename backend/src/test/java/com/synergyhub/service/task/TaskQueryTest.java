@@ -0,0 +1,146 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.ProjectMember;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.ProjectRole;
+import com.synergyhub.domain.enums.TaskPriority;
+import com.synergyhub.domain.enums.TaskStatus;
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.repository.TaskListRow;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.repository.TaskSpecifications;
+import com.synergyhub.util.PersistedTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class TaskQueryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Project project;
+    private User viewer;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        viewer = PersistedTestDataFactory.createUser(entityManager, "viewer@example.com");
+        other = PersistedTestDataFactory.createUser(entityManager, "other@example.com");
+        project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+        member(project, viewer);
+        Project hidden = PersistedTestDataFactory.createProject(entityManager, organization, "Hidden");
+
+        task(project, "Login fails", viewer, TaskStatus.IN_PROGRESS, TaskPriority.CRITICAL, NOW.plusDays(2), "backend");
+        task(project, "Slow board", viewer, TaskStatus.BLOCKED, TaskPriority.MEDIUM, NOW.plusDays(10), "backend", "perf");
+        task(project, "Fix typo", viewer, TaskStatus.DONE, TaskPriority.LOW, NOW.minusDays(1));
+        task(project, "Dark mode", other, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null, "frontend");
+        task(project, "Triage", null, TaskStatus.TO_DO, TaskPriority.HIGH, NOW.plusDays(1));
+        task(hidden, "Secret", viewer, TaskStatus.IN_PROGRESS, TaskPriority.CRITICAL, NOW.plusDays(1), "backend");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void combinedFilterMatchesAcrossFieldsAndRespectsMembership() {
+        assertThat(titles("assignee = me AND status IN (IN_PROGRESS, BLOCKED) AND label = backend AND due < +7d ORDER BY priority"))
+                .containsExactlyInAnyOrder("Login fails");
+    }
+
+    @Test
+    void negationsIncludeEmptyValues() {
+        assertThat(titles("assignee != me")).containsExactlyInAnyOrder("Dark mode", "Triage");
+        assertThat(titles("label != backend")).containsExactlyInAnyOrder("Dark mode", "Triage", "Fix typo");
+        assertThat(titles("assignee IS EMPTY OR due IS EMPTY")).containsExactlyInAnyOrder("Dark mode", "Triage");
+    }
+
+    @Test
+    void priorityComparisonsFollowEnumOrder() {
+        assertThat(titles("priority >= HIGH")).containsExactlyInAnyOrder("Login fails", "Dark mode", "Triage");
+        assertThat(titles("priority < MEDIUM")).containsExactlyInAnyOrder("Fix typo");
+    }
+
+    @Test
+    void calendarDatesCoverTheWholeDay() {
+        assertThat(titles("due = 2026-03-03")).containsExactlyInAnyOrder("Triage");
+        assertThat(titles("due < today")).containsExactlyInAnyOrder("Fix typo");
+        assertThat(titles("labels IS EMPTY AND NOT status = DONE")).containsExactlyInAnyOrder("Triage");
+    }
+
+    @Test
+    void invalidQueriesReportThePosition() {
+        assertThatThrownBy(() -> TaskQuery.parse("status = NOPE"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("position 10");
+        assertThatThrownBy(() -> TaskQuery.parse("status = DONE ORDER BY due"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void relativeDatesAreBounded() {
+        assertThat(TaskQuery.parse("created > -36500d")).isNotNull();
+        assertThat(TaskQuery.parse("due < +5214w")).isNotNull();
+        for (String query : List.of("created > -99999999999999999999d", "created > -36501d", "due < +876001h",
+                "due < +5215w")) {
+            assertThatThrownBy(() -> TaskQuery.parse(query))
+                    .as(query)
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("relative dates reach at most 36500 days");
+        }
+    }
+
+    private List<String> titles(String query) {
+        List<TaskListRow> rows = taskRepository.findListRows(
+                TaskQuery.parse(query).toSpecification(viewer.getId(), NOW)
+                        .and(TaskSpecifications.visibleTo(viewer.getId())),
+                viewer.getId(), 0);
+        return rows.stream().map(TaskListRow::title).toList();
+    }
+
+    private void member(Project project, User user) {
+        entityManager.persist(ProjectMember.builder()
+                .id(new ProjectMember.ProjectMemberId(project.getId(), user.getId()))
+                .project(project)
+                .user(user)
+                .role(ProjectRole.DEVELOPER)
+                .build());
+    }
+
+    private void task(Project project, String title, User assignee, TaskStatus status, TaskPriority priority,
+                      LocalDateTime due, String... labels) {
+        Task task = Task.builder()
+                .title(title)
+                .project(project)
+                .reporter(viewer)
+                .assignee(assignee)
+                .status(status)
+                .priority(priority)
+                .dueDate(due)
+                .labels(new ArrayList<>(List.of(labels)))
+                .build();
+        entityManager.persist(task);
+    }
+}
@@ -0,0 +1,145 @@
+package com.synergyhub.service.task;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.Task;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.exception.BadRequestException;
+import com.synergyhub.repository.TaskListOrder;
+import com.synergyhub.repository.TaskListRow;
+import com.synergyhub.repository.TaskRepository;
+import com.synergyhub.repository.TaskSpecifications;
+import com.synergyhub.util.PersistedTestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({TaskRankService.class, TaskRankRebalanceJob.class})
+class TaskRankServiceTest {
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private TaskRankRebalanceJob rebalanceJob;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+    private User reporter;
+    private Task first;
+    private Task second;
+    private Task third;
+
+    @BeforeEach
+    void setUp() {
+        Organization organization = PersistedTestDataFactory.createOrganization(entityManager);
+        reporter = PersistedTestDataFactory.createUser(entityManager, "reporter@example.com");
+        project = PersistedTestDataFactory.createProject(entityManager, organization, "Apollo");
+
+        first = task("First");
+        second = task("Second");
+        third = task("Third");
+    }
+
+    @Test
+    void appendsAndMovesWithOneRankWrite() {
+        assertThat(order()).containsExactly(first.getId(), second.getId(), third.getId());
+
+        taskRankService.moveBetween(third.getId(), null, first.getId(), reporter);
+        assertThat(order()).containsExactly(third.getId(), first.getId(), second.getId());
+
+        taskRankService.moveBetween(second.getId(), third.getId(), first.getId(), reporter);
+        assertThat(order()).containsExactly(third.getId(), second.getId(), first.getId());
+
+        assertThatThrownBy(() -> taskRankService.moveBetween(first.getId(), second.getId(), third.getId(), reporter))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rebalancesWhenNeighboursLeaveNoRoom() {
+        jdbcTemplate.update("UPDATE tasks SET board_rank = 'i' WHERE task_id IN (?, ?)", first.getId(), second.getId());
+
+        taskRankService.moveBetween(third.getId(), first.getId(), second.getId(), reporter);
+
+        assertThat(order()).containsExactly(first.getId(), third.getId(), second.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT board_rank) FROM tasks", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void jobSpreadsLongAndMissingKeysKeepingTheOrder() {
+        // Repeated drops into the same gap
+        String lower = rank(first);
+        String upper = rank(second);
+        for (int i = 0; i < 100; i++) {
+            upper = TaskRank.between(lower, upper);
+        }
+        jdbcTemplate.update("UPDATE tasks SET board_rank = ? WHERE task_id = ?", upper, third.getId());
+        assertThat(order()).containsExactly(first.getId(), third.getId(), second.getId());
+        Task unranked = task("Unranked");
+        jdbcTemplate.update("UPDATE tasks SET board_rank = NULL WHERE task_id = ?", unranked.getId());
+
+        assertThat(rebalanceJob.rebalanceLongKeys()).isEqualTo(1);
+        assertThat(rebalanceJob.rebalanceLongKeys()).isZero();
+
+        assertThat(order()).containsExactly(unranked.getId(), first.getId(), third.getId(), second.getId());
+        assertThat(rank(third)).hasSizeLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void keysStayShortForAppendsAndPrepends() {
+        String last = null;
+        String head = null;
+        for (int i = 0; i < 10_000; i++) {
+            String next = TaskRank.between(last, null);
+            assertThat(last == null || last.compareTo(next) < 0).isTrue();
+            last = next;
+            String previous = TaskRank.between(null, head == null ? last : head);
+            assertThat(previous).isLessThan(head == null ? last : head);
+            head = previous;
+        }
+        assertThat(last).hasSizeLessThanOrEqualTo(6);
+        assertThat(head).hasSizeLessThanOrEqualTo(6);
+    }
+
+    private Task task(String title) {
+        Task task = entityManager.persist(Task.builder()
+                .title(title)
+                .project(project)
+                .reporter(reporter)
+                .boardRank(taskRankService.nextRank(project.getId()))
+                .build());
+        entityManager.flush();
+        return task;
+    }
+
+    private String rank(Task task) {
+        return jdbcTemplate.queryForObject("SELECT board_rank FROM tasks WHERE task_id = ?", String.class, task.getId());
+    }
+
+    private List<Long> order() {
+        return taskRepository.findListRows(TaskSpecifications.inProject(project.getId()), TaskListOrder.RANK,
+                reporter.getId(), 0).stream().map(TaskListRow::id).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.synergyhub.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class BreachedPasswordFilterTest {
+
+    private static final int CORPUS = 20_000;
+    private static final int MISSES = 100_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findsEveryEntryOfPlainAndSha1Lists() throws IOException {
+        Path plain = Files.write(dir.resolve("plain.txt"), List.of("password123", "letmein", "", "Tr0ub4dor&3"));
+        String sha1 = HexFormat.of().withUpperCase()
+                .formatHex(BreachedPasswordFilter.newSha1().digest("correct horse".getBytes(StandardCharsets.UTF_8)));
+        Path hibp = Files.write(dir.resolve("hibp.txt"), List.of(sha1 + ":42"));
+
+        BreachedPasswordFilter filter = build(100, 0.001, plain, hibp);
+
+        assertThat(filter.isEnabled()).isTrue();
+        assertThat(filter.isBreached("password123")).isTrue();
+        assertThat(filter.isBreached("letmein")).isTrue();
+        assertThat(filter.isBreached("Tr0ub4dor&3")).isTrue();
+        assertThat(filter.isBreached("correct horse")).isTrue();
+        assertThat(filter.isBreached("a fresh passphrase nobody has used")).isFalse();
+        assertThat(filter.isBreached(null)).isFalse();
+    }
+
+    @Test
+    void disabledWithoutAFile() throws IOException {
+        BreachedPasswordFilter filter = load("");
+
+        assertThat(filter.isEnabled()).isFalse();
+        assertThat(filter.isBreached("password123")).isFalse();
+    }
+
+    @Test
+    void rejectsFilesItDidNotWrite() throws IOException {
+        Path other = Files.write(dir.resolve("other.bf"), new byte[64]);
+
+        assertThatThrownBy(() -> load(other.toString())).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Builds a 20k-entry filter at a 0.1% false positive rate and measures the rate over 100k passwords
+     * that are not in it.
+     */
+    @Test
+    void falsePositiveRateStaysNearTheTarget() throws IOException {
+        BreachedPasswordFilter filter = buildCorpusFilter();
+
+        int falsePositives = countBreached(filter, "fresh-");
+
+        assertThat((double) falsePositives / MISSES).isLessThan(0.002);
+    }
+
+    /**
+     * Reports the cost of a lookup that misses, the common case for a new password.
+     */
+    @Test
+    @Tag("benchmark")
+    void lookupCost() throws IOException {
+        BreachedPasswordFilter filter = buildCorpusFilter();
+
+        countBreached(filter, "warmup-");
+        long start = System.nanoTime();
+        int falsePositives = countBreached(filter, "fresh-");
+        double micros = (System.nanoTime() - start) / 1e3;
+
+        log.info("Breached password filter: {} lookups in {}ms ({}us each), {} false positives",
+                MISSES, String.format("%.1f", micros / 1e3), String.format("%.2f", micros / MISSES), falsePositives);
+    }
+
+    private BreachedPasswordFilter buildCorpusFilter() throws IOException {
+        List<String> corpus = new ArrayList<>(CORPUS);
+        for (int i = 0; i < CORPUS; i++) {
+            corpus.add("breached-" + i);
+        }
+        BreachedPasswordFilter filter = build(CORPUS, 0.001, Files.write(dir.resolve("corpus.txt"), corpus));
+        assertThat(corpus).allMatch(filter::isBreached);
+        return filter;
+    }
+
+    private static int countBreached(BreachedPasswordFilter filter, String prefix) {
+        int breached = 0;
+        for (int i = 0; i < MISSES; i++) {
+            if (filter.isBreached(prefix + i)) {
+                breached++;
+            }
+        }
+        return breached;
+    }
+
+    private BreachedPasswordFilter build(long expectedEntries, double falsePositiveRate, Path... inputs)
+            throws IOException {
+        Path output = dir.resolve("filter-" + System.nanoTime() + ".bf");
+        List<String> args = new ArrayList<>(List.of(output.toString(), String.valueOf(expectedEntries),
+                String.valueOf(falsePositiveRate)));
+        for (Path input : inputs) {
+            args.add(input.toString());
+        }
+        BreachedPasswordFilterBuilder.main(args.toArray(new String[0]));
+        return load(output.toString());
+    }
+
+    private static BreachedPasswordFilter load(String file) throws IOException {
+        BreachedPasswordFilter filter = new BreachedPasswordFilter();
+        ReflectionTestUtils.setField(filter, "filterFile", file);
+        filter.load();
+        return filter;
+    }
+}
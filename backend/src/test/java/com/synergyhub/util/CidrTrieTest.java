@@ -0,0 +1,117 @@
+package com.synergyhub.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CidrTrieTest {
+
+    @Test
+    void matchesIpv4Ranges() {
+        CidrTrie trie = new CidrTrie().add("10.0.0.0/8").add("192.168.1.0/24").add("203.0.113.7");
+
+        assertThat(trie.containsIpv4(ipv4("10.255.3.4"))).isTrue();
+        assertThat(trie.containsIpv4(ipv4("11.0.0.0"))).isFalse();
+        assertThat(trie.containsIpv4(ipv4("192.168.1.255"))).isTrue();
+        assertThat(trie.containsIpv4(ipv4("192.168.2.0"))).isFalse();
+        // A bare address is a /32
+        assertThat(trie.containsIpv4(ipv4("203.0.113.7"))).isTrue();
+        assertThat(trie.containsIpv4(ipv4("203.0.113.8"))).isFalse();
+    }
+
+    @Test
+    void prefixZeroMatchesEverythingOfItsFamilyOnly() {
+        CidrTrie ipv4 = new CidrTrie().add("0.0.0.0/0");
+        CidrTrie ipv6 = new CidrTrie().add("::/0");
+
+        assertThat(ipv4.containsIpv4(ipv4("255.255.255.255"))).isTrue();
+        assertThat(ipv4.containsIpv6(0, 1)).isFalse();
+        assertThat(ipv6.containsIpv6(-1L, -1L)).isTrue();
+        assertThat(ipv6.containsIpv4(ipv4("1.2.3.4"))).isFalse();
+    }
+
+    @Test
+    void fullLengthPrefixesMatchOneAddress() {
+        CidrTrie trie = new CidrTrie().add("198.51.100.1/32").add("2001:db8::1/128");
+
+        assertThat(trie.containsIpv4(ipv4("198.51.100.1"))).isTrue();
+        assertThat(trie.containsIpv4(ipv4("198.51.100.0"))).isFalse();
+        long[] address = ipv6("2001:db8::1");
+        assertThat(trie.containsIpv6(address[0], address[1])).isTrue();
+        address = ipv6("2001:db8::2");
+        assertThat(trie.containsIpv6(address[0], address[1])).isFalse();
+    }
+
+    @Test
+    void matchesIpv6RangesAcrossTheSixtyFourBitBoundary() {
+        CidrTrie trie = new CidrTrie().add("2001:db8::/32").add("fd00:1:2:3:4::/80").add("::1");
+
+        long[] address = ipv6("2001:0db8:ffff::42");
+        assertThat(trie.containsIpv6(address[0], address[1])).isTrue();
+        address = ipv6("2001:db9::");
+        assertThat(trie.containsIpv6(address[0], address[1])).isFalse();
+        address = ipv6("fd00:1:2:3:4:ffff::");
+        assertThat(trie.containsIpv6(address[0], address[1])).isTrue();
+        address = ipv6("fd00:1:2:3:5::");
+        assertThat(trie.containsIpv6(address[0], address[1])).isFalse();
+        address = ipv6("::1");
+        assertThat(trie.containsIpv6(address[0], address[1])).isTrue();
+    }
+
+    @Test
+    void parsesIpv6Notations() {
+        assertThat(ipv6("::")).containsExactly(0, 0);
+        assertThat(ipv6("::1")).containsExactly(0, 1);
+        assertThat(ipv6("1::")).containsExactly(0x0001_0000_0000_0000L, 0);
+        assertThat(ipv6("1:2:3:4:5:6:7:8")).containsExactly(0x0001_0002_0003_0004L, 0x0005_0006_0007_0008L);
+        assertThat(ipv6("1:2:3::6:7:8")).containsExactly(0x0001_0002_0003_0000L, 0x0000_0006_0007_0008L);
+        assertThat(ipv6("::ffff:192.0.2.1")).containsExactly(0, 0x0000_ffff_c000_0201L);
+        assertThat(ipv6("ABCD::EF")).containsExactly(0xabcd_0000_0000_0000L, 0xefL);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1.2.3", "1.2.3.4.5", "256.1.1.1", "01.2.3.4", "1..2.3", "1.2.3.", ".1.2.3",
+            "1.2.3.4 ", "a.b.c.d", "1.2.3.-4"})
+    void rejectsMalformedIpv4(String address) {
+        assertThat(CidrTrie.parseIpv4(address, 0, address.length())).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ":", ":1", "1:", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9", "1::2::3", "12345::",
+            "g::", "1:2:3:4:5:6:7::8", "::ffff:1.2.3", "::1.2.3.4:5", "1:::2"})
+    void rejectsMalformedIpv6(String address) {
+        assertThat(CidrTrie.parseIpv6(address, 0, address.length(), new long[2])).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10.0.0.0/33", "10.0.0.0/-1", "10.0.0.0/", "10.0.0.0/x", "::/129", "example.com",
+            "10.0.0/8", "/8"})
+    void rejectsMalformedRanges(String cidr) {
+        assertThatThrownBy(() -> new CidrTrie().add(cidr)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        CidrTrie trie = new CidrTrie();
+        for (int i = 0; i < 256; i++) {
+            trie.add("172.16." + i + ".0/24");
+        }
+
+        assertThat(trie.isEmpty()).isFalse();
+        assertThat(trie.containsIpv4(ipv4("172.16.200.9"))).isTrue();
+        assertThat(trie.containsIpv4(ipv4("172.17.0.1"))).isFalse();
+    }
+
+    private static long ipv4(String address) {
+        return CidrTrie.parseIpv4(address, 0, address.length());
+    }
+
+    private static long[] ipv6(String address) {
+        long[] out = new long[2];
+        assertThat(CidrTrie.parseIpv6(address, 0, address.length(), out)).as(address).isTrue();
+        return out;
+    }
+}
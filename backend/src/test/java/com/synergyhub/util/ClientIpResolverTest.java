@@ -0,0 +1,96 @@
+package com.synergyhub.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private static final String TRUSTED = "10.0.0.0/8,2001:db8::/32";
+
+    @Test
+    void usesThePeerWhenNotBehindAProxy() {
+        ClientIpResolver resolver = resolver(false, TRUSTED);
+
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", "198.51.100.7"))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void ignoresForwardingHeadersFromAnUntrustedPeer() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+        MockHttpServletRequest request = request("203.0.113.9", "198.51.100.7");
+        request.addHeader("X-Real-IP", "198.51.100.8");
+        request.addHeader("CF-Connecting-IP", "198.51.100.9");
+
+        assertThat(resolver.resolveClientIp(request)).isEqualTo("203.0.113.9");
+    }
+
+    @Test
+    void walksATrustedProxyChainFromTheRight() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+
+        // The leftmost entry was written by the client and is not believed
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", "1.1.1.1, 198.51.100.7, 10.2.0.1, 10.3.0.1")))
+                .isEqualTo("198.51.100.7");
+        assertThat(resolver.resolveClientIp(request("2001:db8::1", "198.51.100.7,2001:db8::5")))
+                .isEqualTo("198.51.100.7");
+    }
+
+    @Test
+    void usesTheLeftmostEntryWhenEveryHopIsTrusted() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", "10.9.9.9, 10.0.0.2"))).isEqualTo("10.9.9.9");
+        // Without a trusted proxy list every hop is trusted
+        assertThat(resolver(true, "").resolveClientIp(request("203.0.113.9", "198.51.100.7, 192.0.2.1")))
+                .isEqualTo("198.51.100.7");
+    }
+
+    @Test
+    void fallsBackToThePeerForMalformedHeaders() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", "not-an-ip, 10.0.0.2"))).isEqualTo("10.0.0.1");
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", "unknown"))).isEqualTo("10.0.0.1");
+        assertThat(resolver.resolveClientIp(request("10.0.0.1", " , "))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void matchesIpv4MappedPeersAgainstIpv4Ranges() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+
+        assertThat(resolver.isTrustedProxy("::ffff:10.1.2.3")).isTrue();
+        assertThat(resolver.isTrustedProxy("::ffff:11.1.2.3")).isFalse();
+        assertThat(resolver.isTrustedProxy("2001:db8:1::1")).isTrue();
+        assertThat(resolver.isTrustedProxy("2001:db9::1")).isFalse();
+        assertThat(resolver.isTrustedProxy("garbage")).isFalse();
+        assertThat(resolver.isTrustedProxy(null)).isFalse();
+    }
+
+    @Test
+    void resolvesOncePerRequest() {
+        ClientIpResolver resolver = resolver(true, TRUSTED);
+        MockHttpServletRequest request = request("10.0.0.1", "198.51.100.7");
+
+        assertThat(resolver.resolveClientIp(request)).isEqualTo("198.51.100.7");
+        request.setRemoteAddr("203.0.113.9");
+        assertThat(resolver.resolveClientIp(request)).isEqualTo("198.51.100.7");
+    }
+
+    private static ClientIpResolver resolver(boolean behindProxy, String trustedProxyIps) {
+        ClientIpResolver resolver = new ClientIpResolver();
+        ReflectionTestUtils.setField(resolver, "behindProxy", behindProxy);
+        ReflectionTestUtils.setField(resolver, "trustedProxyIps", trustedProxyIps);
+        resolver.compileTrustedProxies();
+        return resolver;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
@@ -0,0 +1,34 @@
+package com.synergyhub.util;
+
+import com.synergyhub.domain.entity.Organization;
+import com.synergyhub.domain.entity.Project;
+import com.synergyhub.domain.entity.User;
+import com.synergyhub.domain.enums.ProjectStatus;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+public class PersistedTestDataFactory {
+
+    public static Organization createOrganization(TestEntityManager entityManager) {
+        return entityManager.persist(Organization.builder()
+                .name("Acme")
+                .build());
+    }
+
+    public static User createUser(TestEntityManager entityManager, String email) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .name(email.substring(0, email.indexOf('@')))
+                .passwordHash("$2a$10$encodedPassword")
+                .emailVerified(true)
+                .twoFactorEnabled(false)
+                .build());
+    }
+
+    public static Project createProject(TestEntityManager entityManager, Organization organization, String name) {
+        return entityManager.persist(Project.builder()
+                .organization(organization)
+                .name(name)
+                .status(ProjectStatus.ACTIVE)
+                .build());
+    }
+}